@@ -0,0 +1,91 @@
+package com.osgiliath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files (baseline first, candidate second) and prints the change in
+ * score and in bytes allocated per operation for every benchmark present in both.
+ *
+ * <p>Run with: {@code mvn -Pjmh test-compile exec:exec -Djmh.main=com.osgiliath.BenchmarkComparison
+ * -Djmh.args="src/jmh/baseline.json target/jmh-result.json"}
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private record Result(double score, String unit, Double allocBytes) {}
+
+    private BenchmarkComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> candidate = read(new File(args[1]));
+
+        System.out.printf(
+                "%-75s %14s %14s %8s %12s%n",
+                "Benchmark", "Baseline", "Candidate", "Score", "Alloc");
+        for (Map.Entry<String, Result> entry : candidate.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            Result after = entry.getValue();
+            System.out.printf(
+                    "%-75s %14s %14s %8s %12s%n",
+                    entry.getKey(),
+                    format(before.score(), before.unit()),
+                    format(after.score(), after.unit()),
+                    percentChange(before.score(), after.score()),
+                    before.allocBytes() == null || after.allocBytes() == null
+                            ? "-"
+                            : percentChange(before.allocBytes(), after.allocBytes()));
+        }
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            JsonNode primary = run.get("primaryMetric");
+            JsonNode alloc = run.path("secondaryMetrics").get(ALLOC_METRIC);
+            results.put(
+                    key(run),
+                    new Result(
+                            primary.get("score").asDouble(),
+                            primary.get("scoreUnit").asText(),
+                            alloc == null ? null : alloc.get("score").asDouble()));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        String name = run.get("benchmark").asText().replace("com.osgiliath.", "");
+        StringBuilder key = new StringBuilder(name);
+        Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+        while (params.hasNext()) {
+            Map.Entry<String, JsonNode> param = params.next();
+            key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+        }
+        return key.toString();
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.3f %s", score, unit);
+    }
+
+    private static String percentChange(double before, double after) {
+        if (before == 0) {
+            return "-";
+        }
+        return String.format("%+.1f%%", (after - before) / before * 100);
+    }
+}
@@ -0,0 +1,76 @@
+package com.osgiliath;
+
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.invoice.LineItem;
+import com.osgiliath.domain.shared.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Shared fixtures for JMH benchmarks. Data is generated from a fixed seed so every run, and the
+ * committed baseline, measures the same inputs.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String[] DESCRIPTIONS = {
+        "Consulting services", "Software license (annual)", "On-site support",
+        "Hosting - standard tier", "Training workshop", "Custom integration work"
+    };
+
+    private BenchmarkFixtures() {}
+
+    /** A customer with an assigned ID, as if loaded from the database */
+    public static Customer customer() {
+        Customer customer =
+                Customer.create(
+                        "Acme Corporation",
+                        "billing@acme.example.com",
+                        "555-0100",
+                        "1 Main Street, Springfield");
+        customer.setId(UUID.nameUUIDFromBytes("benchmark-customer".getBytes()));
+        return customer;
+    }
+
+    /** A draft invoice with {@code lineItemCount} line items, all with assigned IDs */
+    public static Invoice invoiceWithLineItems(UUID customerId, int lineItemCount) {
+        Random random = new Random(42);
+        LocalDate issueDate = LocalDate.of(2025, 1, 15);
+        Invoice invoice =
+                Invoice.create(customerId, "INV-2025-00042", issueDate, issueDate.plusDays(30));
+        invoice.setId(UUID.nameUUIDFromBytes(("invoice-" + lineItemCount).getBytes()));
+        invoice.setCreatedAt(LocalDateTime.of(2025, 1, 15, 9, 30));
+        invoice.setUpdatedAt(LocalDateTime.of(2025, 1, 15, 9, 30));
+
+        for (int i = 0; i < lineItemCount; i++) {
+            invoice.addLineItem(description(random), quantity(random), unitPrice(random));
+        }
+        int index = 0;
+        for (LineItem lineItem : invoice.getLineItems()) {
+            lineItem.setId(UUID.nameUUIDFromBytes(("line-item-" + index++).getBytes()));
+        }
+        return invoice;
+    }
+
+    public static String description(Random random) {
+        return DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+    }
+
+    public static BigDecimal quantity(Random random) {
+        return BigDecimal.valueOf(1 + random.nextInt(40), random.nextBoolean() ? 0 : 1);
+    }
+
+    public static Money unitPrice(Random random) {
+        return Money.of(BigDecimal.valueOf(500 + random.nextInt(250_000), 2));
+    }
+
+    /** Pseudo-random bytes standing in for a generated PDF */
+    public static byte[] pdfBytes(int sizeKb) {
+        byte[] bytes = new byte[sizeKb * 1024];
+        new Random(7).nextBytes(bytes);
+        return bytes;
+    }
+}
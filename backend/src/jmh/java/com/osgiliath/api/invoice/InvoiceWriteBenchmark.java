@@ -0,0 +1,260 @@
+package com.osgiliath.api.invoice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.OsgiliathApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Round trip of the invoice write endpoints over HTTP against a running backend, so the numbers
+ * include every statement a write costs. Needs the PostgreSQL database named by
+ * SPRING_DATASOURCE_URL (and _USERNAME, _PASSWORD), in which the backend gets a throwaway schema
+ * that is dropped again afterwards. SQL and debug logging, rate limiting, load shedding and
+ * projections are turned off. Endpoints that change an invoice's status get a fresh invoice before
+ * each call. Warmup is long because the whole request path, not one method, has to be compiled.
+ *
+ * <p>Invoices are issued over the past year and deleted after every iteration. Invoice numbers are
+ * assigned by probing the numbers already taken on the issue date, so this keeps the probe to the
+ * few lookups a real day's invoicing costs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvoiceWriteBenchmark {
+
+    private static final String LINE_ITEM =
+            "{\"description\":\"Consulting services\",\"quantity\":\"8\",\"unitPrice\":\"125.00\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private String schema;
+    private ConfigurableApplicationContext context;
+    private String baseUrl;
+    private String token;
+    private String customerId;
+    private String customerJson;
+    private int invoices;
+
+    @Setup
+    public void setUp() throws Exception {
+        String url = System.getenv("SPRING_DATASOURCE_URL");
+        if (url == null) {
+            throw new IllegalStateException(
+                    "SPRING_DATASOURCE_URL must name a PostgreSQL database");
+        }
+        schema = "benchmark_" + Long.toHexString(System.nanoTime());
+        execute("CREATE SCHEMA " + schema);
+
+        // Extensions such as pg_trgm stay visible through public
+        String schemaUrl =
+                url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema + ",public";
+        context =
+                new SpringApplicationBuilder(OsgiliathApplication.class)
+                        .run(
+                                "--spring.datasource.url=" + schemaUrl,
+                                "--server.port=0",
+                                "--spring.jpa.show-sql=false",
+                                "--logging.level.root=WARN",
+                                "--logging.level.com.osgiliath=WARN",
+                                "--logging.level.org.springframework.security=WARN",
+                                "--logging.level.org.hibernate.SQL=WARN",
+                                "--logging.level.org.hibernate.type.descriptor.sql=WARN",
+                                "--app.rate-limit.enabled=false",
+                                "--app.overload.enabled=false",
+                                "--app.events.projections.enabled=false");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api";
+
+        String username = context.getEnvironment().getProperty("app.seed.admin-username");
+        String password = context.getEnvironment().getProperty("app.seed.admin-password");
+        token =
+                post(
+                                "/auth/login",
+                                "{\"username\":\""
+                                        + username
+                                        + "\",\"password\":\""
+                                        + password
+                                        + "\"}",
+                                false)
+                        .get("token")
+                        .asText();
+
+        customerId =
+                post(
+                                "/customers",
+                                "{\"name\":\"Benchmark Customer\",\"email\":\"benchmark-"
+                                        + System.nanoTime()
+                                        + "@example.com\"}",
+                                true)
+                        .get("id")
+                        .asText();
+        customerJson = "{\"customerId\":\"" + customerId + "\",";
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInvoices() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String invoiceIds = "SELECT id FROM invoices WHERE customer_id = ?::uuid";
+        jdbcTemplate.update(
+                "DELETE FROM payments WHERE invoice_id IN (" + invoiceIds + ")", customerId);
+        jdbcTemplate.update(
+                "DELETE FROM line_items WHERE invoice_id IN (" + invoiceIds + ")", customerId);
+        jdbcTemplate.update("DELETE FROM invoices WHERE customer_id = ?::uuid", customerId);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection =
+                        DriverManager.getConnection(
+                                System.getenv("SPRING_DATASOURCE_URL"),
+                                System.getenv("SPRING_DATASOURCE_USERNAME"),
+                                System.getenv("SPRING_DATASOURCE_PASSWORD"));
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /** A draft invoice with three line items, created before each call */
+    @State(Scope.Thread)
+    public static class Draft {
+        String id;
+        LocalDate issueDate;
+
+        @Setup(Level.Invocation)
+        public void create(InvoiceWriteBenchmark benchmark) throws Exception {
+            issueDate = benchmark.nextIssueDate();
+            id = benchmark.createDraft(issueDate);
+        }
+    }
+
+    /** A sent invoice, created and sent before each call */
+    @State(Scope.Thread)
+    public static class Sent {
+        String id;
+
+        @Setup(Level.Invocation)
+        public void create(InvoiceWriteBenchmark benchmark) throws Exception {
+            id = benchmark.createDraft(benchmark.nextIssueDate());
+            benchmark.post("/invoices/" + id + "/send", "", true);
+        }
+    }
+
+    @Benchmark
+    public String createInvoice() throws Exception {
+        return createDraft(nextIssueDate());
+    }
+
+    /** Extends the payment terms; the issue date, and with it the partition, stays the same */
+    @Benchmark
+    public JsonNode updateInvoice(Draft draft) throws Exception {
+        return send(
+                "PUT",
+                "/invoices/" + draft.id,
+                "{\"issueDate\":\""
+                        + draft.issueDate
+                        + "\",\"dueDate\":\""
+                        + draft.issueDate.plusDays(45)
+                        + "\"}");
+    }
+
+    @Benchmark
+    public JsonNode addLineItem(Draft draft) throws Exception {
+        return post("/invoices/" + draft.id + "/line-items", LINE_ITEM, true);
+    }
+
+    @Benchmark
+    public JsonNode sendInvoice(Draft draft) throws Exception {
+        return post("/invoices/" + draft.id + "/send", "", true);
+    }
+
+    @Benchmark
+    public JsonNode markPaid(Sent sent) throws Exception {
+        return post("/invoices/" + sent.id + "/mark-paid", "", true);
+    }
+
+    /** Each day of the past year in turn */
+    LocalDate nextIssueDate() {
+        return LocalDate.now().minusDays(invoices++ % 365);
+    }
+
+    String createDraft(LocalDate issueDate) throws Exception {
+        String body =
+                customerJson
+                        + "\"issueDate\":\""
+                        + issueDate
+                        + "\",\"dueDate\":\""
+                        + issueDate.plusDays(30)
+                        + "\",\"lineItems\":["
+                        + String.join(",", LINE_ITEM, LINE_ITEM, LINE_ITEM)
+                        + "]}";
+        return post("/invoices", body, true).get("id").asText();
+    }
+
+    JsonNode post(String path, String body, boolean authenticated) throws Exception {
+        return authenticated ? send("POST", path, body) : exchange(request(path, "POST", body));
+    }
+
+    private JsonNode send(String method, String path, String body) throws Exception {
+        return exchange(request(path, method, body).header("Authorization", "Bearer " + token));
+    }
+
+    private HttpRequest.Builder request(String path, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private JsonNode exchange(HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response =
+                client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IOException(
+                    request.build().uri()
+                            + " returned "
+                            + response.statusCode()
+                            + ": "
+                            + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
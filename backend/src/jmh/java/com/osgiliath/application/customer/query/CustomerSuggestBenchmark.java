@@ -0,0 +1,79 @@
+package com.osgiliath.application.customer.query;
+
+import com.osgiliath.application.customer.dto.CustomerSuggestion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Top-10 autocomplete lookups against the customer prefix index, rotating over one- to
+ * five-character prefixes of generated names and emails. The budget is a few microseconds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CustomerSuggestBenchmark {
+
+    private static final String[] FIRST = {
+        "Anna", "Ben", "Carla", "Dmitri", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jonas"
+    };
+    private static final String[] LAST = {
+        "Smith", "Okafor", "Lindqvist", "Moreau", "Tanaka", "Novak", "Silva", "Byrne"
+    };
+    private static final String[] COMPANY = {
+        "Holdings", "Logistics", "Trading", "Partners", "Foods", "Studio", "Labs"
+    };
+
+    @Param({"10000", "1000000"})
+    public int customers;
+
+    private CustomerPrefixIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<CustomerPrefixIndex.Entry> entries = new ArrayList<>(customers);
+        for (int i = 0; i < customers; i++) {
+            String last = LAST[random.nextInt(LAST.length)] + i;
+            String name =
+                    FIRST[random.nextInt(FIRST.length)]
+                            + " "
+                            + last
+                            + " "
+                            + COMPANY[random.nextInt(COMPANY.length)];
+            entries.add(
+                    CustomerPrefixIndex.entry(
+                            new UUID(0, i), name, "billing@" + last.toLowerCase() + ".example"));
+        }
+        index = CustomerPrefixIndex.of(entries);
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = entries.get(random.nextInt(customers)).name();
+            prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(5, name.length())));
+        }
+    }
+
+    @Benchmark
+    public List<CustomerSuggestion> suggest() {
+        return index.suggest(prefixes[next++ & (prefixes.length - 1)], 10);
+    }
+}
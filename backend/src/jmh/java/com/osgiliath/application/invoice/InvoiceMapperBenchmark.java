@@ -0,0 +1,65 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.BenchmarkFixtures;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.customer.CustomerRepository;
+import com.osgiliath.domain.invoice.Invoice;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Invoice to InvoiceResponse mapping. The customer lookup is answered in memory so the numbers
+ * cover only the mapping itself, not the database round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvoiceMapperBenchmark {
+
+    @Param({"1", "50", "1000"})
+    public int lineItems;
+
+    private InvoiceMapper mapper;
+    private Invoice invoice;
+
+    @Setup
+    public void setUp() {
+        Customer customer = BenchmarkFixtures.customer();
+        mapper = new InvoiceMapper(inMemoryCustomerRepository(customer));
+        invoice = BenchmarkFixtures.invoiceWithLineItems(customer.getId(), lineItems);
+    }
+
+    @Benchmark
+    public InvoiceResponse toResponse() {
+        return mapper.toResponse(invoice);
+    }
+
+    private static CustomerRepository inMemoryCustomerRepository(Customer customer) {
+        Optional<Customer> found = Optional.of(customer);
+        return (CustomerRepository)
+                Proxy.newProxyInstance(
+                        CustomerRepository.class.getClassLoader(),
+                        new Class<?>[] {CustomerRepository.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().equals("findById")) {
+                                return found;
+                            }
+                            throw new UnsupportedOperationException(method.getName());
+                        });
+    }
+}
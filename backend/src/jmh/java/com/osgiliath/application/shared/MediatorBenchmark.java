@@ -0,0 +1,74 @@
+package com.osgiliath.application.shared;
+
+import com.osgiliath.application.shared.pipeline.SlowCallLoggingBehavior;
+import com.osgiliath.application.shared.pipeline.TimingBehavior;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dispatch overhead of the mediator compared to calling a handler directly. The handler does
+ * trivial work so the numbers isolate routing and pipeline cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MediatorBenchmark {
+
+    public record Lookup(int id) implements Query<Integer> {}
+
+    public static class LookupHandler implements QueryHandler<Lookup, Integer> {
+        @Override
+        public Integer handle(Lookup query) {
+            return query.id() * 31;
+        }
+    }
+
+    private LookupHandler handler;
+    private Mediator bareMediator;
+    private Mediator instrumentedMediator;
+    private Lookup query;
+
+    @Setup
+    public void setUp() {
+        handler = new LookupHandler();
+        bareMediator = new Mediator(List.of(), List.of(handler), List.of());
+        instrumentedMediator =
+                new Mediator(
+                        List.of(),
+                        List.of(handler),
+                        List.of(
+                                new TimingBehavior(new SimpleMeterRegistry()),
+                                new SlowCallLoggingBehavior(Duration.ofMillis(500))));
+        query = new Lookup(7);
+    }
+
+    @Benchmark
+    public Integer directHandlerCall() {
+        return handler.handle(query);
+    }
+
+    @Benchmark
+    public Integer mediatorWithoutBehaviors() {
+        return bareMediator.query(query);
+    }
+
+    @Benchmark
+    public Integer mediatorWithTimingAndSlowCallLogging() {
+        return instrumentedMediator.query(query);
+    }
+}
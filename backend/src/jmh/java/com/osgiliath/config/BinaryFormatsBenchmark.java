@@ -0,0 +1,132 @@
+package com.osgiliath.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.osgiliath.BenchmarkFixtures;
+import com.osgiliath.application.invoice.InvoiceMapper;
+import com.osgiliath.application.invoice.InvoiceResponse;
+import com.osgiliath.application.payment.dto.PaymentResponse;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.payment.PaymentMethod;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Writing and reading an InvoiceResponse and a list of PaymentResponses as JSON, CBOR and Smile,
+ * with the mappers BinaryFormatsConfig registers. Payload sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFormatsBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    /** Line items on the invoice, and payments in the list */
+    @Param({"1", "50", "1000"})
+    public int items;
+
+    private ObjectMapper mapper;
+    private CollectionType paymentListType;
+    private InvoiceResponse invoice;
+    private List<PaymentResponse> payments;
+    private byte[] invoiceBytes;
+    private byte[] paymentBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = mapper(format);
+        paymentListType =
+                mapper.getTypeFactory().constructCollectionType(List.class, PaymentResponse.class);
+        Customer customer = BenchmarkFixtures.customer();
+        Invoice source = BenchmarkFixtures.invoiceWithLineItems(customer.getId(), items);
+        invoice = new InvoiceMapper(null).toResponse(source, customer);
+        payments = payments(source.getId(), items);
+        invoiceBytes = mapper.writeValueAsBytes(invoice);
+        paymentBytes = mapper.writeValueAsBytes(payments);
+        System.out.printf(
+                "%n%s, %d items: invoice %d bytes, payments %d bytes%n",
+                format, items, invoiceBytes.length, paymentBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeInvoice() throws IOException {
+        return mapper.writeValueAsBytes(invoice);
+    }
+
+    @Benchmark
+    public InvoiceResponse readInvoice() throws IOException {
+        return mapper.readValue(invoiceBytes, InvoiceResponse.class);
+    }
+
+    @Benchmark
+    public byte[] writePayments() throws IOException {
+        return mapper.writeValueAsBytes(payments);
+    }
+
+    @Benchmark
+    public List<PaymentResponse> readPayments() throws IOException {
+        return mapper.readValue(paymentBytes, paymentListType);
+    }
+
+    /** The mapper the application uses for the format, from a builder configured like Boot's */
+    private static ObjectMapper mapper(String format) {
+        BinaryFormatsConfig config = new BinaryFormatsConfig();
+        return switch (format) {
+            case "json" -> builder().build();
+            case "cbor" -> config.cborHttpMessageConverter(builder()).getObjectMapper();
+            case "smile" -> config.smileHttpMessageConverter(builder()).getObjectMapper();
+            default -> throw new IllegalArgumentException(format);
+        };
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static List<PaymentResponse> payments(UUID invoiceId, int count) {
+        Random random = new Random(42);
+        List<PaymentResponse> payments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            payments.add(
+                    new PaymentResponse(
+                            UUID.nameUUIDFromBytes(("payment-" + i).getBytes()),
+                            invoiceId,
+                            BenchmarkFixtures.unitPrice(random).getAmount(),
+                            LocalDate.of(2025, 2, 1).plusDays(i % 28),
+                            PaymentMethod.BANK_TRANSFER,
+                            "REF-" + i,
+                            LocalDateTime.of(2025, 2, 1, 10, 0),
+                            BigDecimal.ZERO.setScale(2),
+                            InvoiceStatus.PAID));
+        }
+        return payments;
+    }
+}
@@ -0,0 +1,64 @@
+package com.osgiliath.domain.invoice;
+
+import com.osgiliath.BenchmarkFixtures;
+import com.osgiliath.domain.shared.Money;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Invoice aggregate hot paths. Every line item change recalculates totals over all line items, so
+ * these scale with invoice size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvoiceBenchmark {
+
+    @Param({"1", "50", "1000"})
+    public int lineItems;
+
+    private UUID customerId;
+    private Invoice invoice;
+    private UUID addedLineItemId;
+    private Money unitPrice;
+
+    @Setup
+    public void setUp() {
+        customerId = BenchmarkFixtures.customer().getId();
+        invoice = BenchmarkFixtures.invoiceWithLineItems(customerId, lineItems);
+        addedLineItemId = UUID.randomUUID();
+        unitPrice = Money.of(new BigDecimal("99.95"));
+    }
+
+    /** Add then remove one line item: two full totals recalculations at constant invoice size */
+    @Benchmark
+    public Money addAndRemoveLineItem() {
+        invoice.addLineItem("Benchmark item", BigDecimal.ONE, unitPrice);
+        List<LineItem> items = invoice.getLineItems();
+        items.get(items.size() - 1).setId(addedLineItemId);
+        invoice.removeLineItem(addedLineItemId);
+        return invoice.getTotalAmount();
+    }
+
+    /** Build an invoice from scratch, as CreateInvoiceHandler does */
+    @Benchmark
+    public Invoice createInvoice() {
+        return BenchmarkFixtures.invoiceWithLineItems(customerId, lineItems);
+    }
+}
@@ -0,0 +1,57 @@
+package com.osgiliath.domain.shared;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Money arithmetic used on every invoice total and payment */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
+
+    private Money price;
+    private Money other;
+    private BigDecimal rawAmount;
+
+    @Setup
+    public void setUp() {
+        price = Money.of(new BigDecimal("1234.56"));
+        other = Money.of(new BigDecimal("78.90"));
+        rawAmount = new BigDecimal("1234.5678");
+    }
+
+    @Benchmark
+    public Money of() {
+        return Money.of(rawAmount);
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    public Money multiplyByTaxRate() {
+        return price.multiply(TAX_RATE);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return price.isGreaterThan(other);
+    }
+}
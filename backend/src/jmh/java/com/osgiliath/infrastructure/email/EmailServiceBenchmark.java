@@ -0,0 +1,61 @@
+package com.osgiliath.infrastructure.email;
+
+import com.osgiliath.BenchmarkFixtures;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MIME message assembly for invoice emails, dominated by base64-encoding the PDF. No request is
+ * sent to SES.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailServiceBenchmark {
+
+    @Param({"16", "256", "2048"})
+    public int attachmentKb;
+
+    private EmailService emailService;
+    private byte[] attachment;
+    private String htmlBody;
+    private String textBody;
+
+    @Setup
+    public void setUp() {
+        emailService = new EmailService("us-east-1", "billing@osgiliath.example.com");
+        attachment = BenchmarkFixtures.pdfBytes(attachmentKb);
+        htmlBody = "<html><body>" + "<p>Line item</p>".repeat(50) + "</body></html>";
+        textBody = "Line item\n".repeat(50);
+    }
+
+    @TearDown
+    public void tearDown() {
+        emailService.close();
+    }
+
+    @Benchmark
+    public String buildRawEmailMessage() {
+        return emailService.buildRawEmailMessage(
+                "billing@acme.example.com",
+                "Invoice INV-2025-00042 from Osgiliath ERP",
+                htmlBody,
+                textBody,
+                attachment,
+                "invoice_INV-2025-00042.pdf");
+    }
+}
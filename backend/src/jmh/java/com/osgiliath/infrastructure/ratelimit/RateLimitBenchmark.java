@@ -0,0 +1,53 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import com.osgiliath.infrastructure.overload.RouteClass;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of the in-memory rate limiter: route classification, bucket key and token take.
+ * The budget is under a microsecond; requests rotate over the given number of client buckets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+
+    @Param({"1", "10000"})
+    public int clients;
+
+    private LocalTokenBucketLimiter limiter;
+    private RateLimitQuota quota;
+    private String[] usernames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        limiter = new LocalTokenBucketLimiter();
+        quota = new RateLimitQuota(60, 20);
+        usernames = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            usernames[i] = "user-" + i;
+        }
+    }
+
+    @Benchmark
+    public RateLimitDecision classifyAndConsume() {
+        RouteClass routeClass = RouteClass.of("GET", "/invoices");
+        String username = usernames[next++ % clients];
+        return limiter.tryConsume(routeClass.name() + ":user:" + username, quota);
+    }
+}
@@ -0,0 +1,101 @@
+package com.osgiliath.api.admin;
+
+import com.osgiliath.infrastructure.profiling.FlightRecordingInfo;
+import com.osgiliath.infrastructure.profiling.FlightRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin endpoints for on-demand JDK Flight Recorder recordings. Start a bounded recording,
+ * reproduce the problem, then download the .jfr file and open it in JDK Mission Control.
+ */
+@RestController
+@RequestMapping("/admin/flight-recordings")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Operational and profiling APIs")
+public class FlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    @PostMapping
+    @Operation(
+            summary = "Start a flight recording",
+            description =
+                    "Starts a JFR recording that stops by itself after the given duration. "
+                            + "Includes the application's handler, transaction, PDF, email and overdue job events.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "201", description = "Recording started"),
+                @ApiResponse(responseCode = "400", description = "Duration or settings invalid"),
+                @ApiResponse(responseCode = "409", description = "A recording is already running")
+            })
+    public ResponseEntity<FlightRecordingInfo> start(
+            @Parameter(description = "Recording duration in seconds")
+                    @RequestParam(defaultValue = "60")
+                    long durationSeconds,
+            @Parameter(description = "JFR settings: default (~1% overhead) or profile (~2%)")
+                    @RequestParam(defaultValue = "profile")
+                    String settings) {
+        FlightRecordingInfo info =
+                flightRecordingService.start(Duration.ofSeconds(durationSeconds), settings);
+        return ResponseEntity.status(HttpStatus.CREATED).body(info);
+    }
+
+    @GetMapping("/current")
+    @Operation(summary = "Get the current flight recording")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Recording found"),
+                @ApiResponse(responseCode = "404", description = "No recording started")
+            })
+    public ResponseEntity<FlightRecordingInfo> current() {
+        return ResponseEntity.ok(flightRecordingService.current());
+    }
+
+    @GetMapping("/current/data")
+    @Operation(
+            summary = "Download the current flight recording",
+            description =
+                    "Dumps the data recorded so far as a .jfr file. A running recording keeps running.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Recording dumped"),
+                @ApiResponse(responseCode = "404", description = "No recording started")
+            })
+    public ResponseEntity<byte[]> download() throws IOException {
+        Path file = flightRecordingService.dump();
+        try {
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/octet-stream")
+                    .header(
+                            "Content-Disposition",
+                            "attachment; filename=\"" + file.getFileName() + "\"")
+                    .body(Files.readAllBytes(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @DeleteMapping("/current")
+    @Operation(summary = "Stop and discard the current flight recording")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "204", description = "Recording discarded"),
+                @ApiResponse(responseCode = "404", description = "No recording started")
+            })
+    public ResponseEntity<Void> close() {
+        flightRecordingService.close();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.osgiliath.api.admin;
+
+import com.osgiliath.domain.shared.DomainException;
+import com.osgiliath.infrastructure.events.DomainEventLog;
+import com.osgiliath.infrastructure.events.ProjectionCheckpoint;
+import com.osgiliath.infrastructure.events.ProjectionCheckpointRepository;
+import com.osgiliath.infrastructure.events.ProjectionRunner;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin endpoints for read models built from the domain event log. Replay clears a projection and
+ * rebuilds it from the first logged event, e.g. after fixing a bug in it.
+ */
+@RestController
+@RequestMapping("/admin/projections")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Operational and profiling APIs")
+public class ProjectionController {
+
+    private final ProjectionCheckpointRepository checkpointRepository;
+    private final DomainEventLog eventLog;
+    private final Optional<ProjectionRunner> projectionRunner;
+
+    @GetMapping
+    @Operation(summary = "List projection checkpoints")
+    public ResponseEntity<List<ProjectionCheckpoint>> list() {
+        if (!eventLog.isAvailable()) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(checkpointRepository.findAll());
+    }
+
+    @PostMapping("/{name}/replay")
+    @Operation(
+            summary = "Replay a projection",
+            description =
+                    "Clears the projection and resets its checkpoint. It is rebuilt from the whole"
+                            + " event log in the background.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "202", description = "Replay started"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description =
+                                "Projections disabled on this node or not supported by its"
+                                        + " database"),
+                @ApiResponse(responseCode = "404", description = "Unknown projection")
+            })
+    public ResponseEntity<Void> replay(@PathVariable String name) {
+        projectionRunner
+                .orElseThrow(() -> new DomainException("Projections are disabled on this node"))
+                .replay(name);
+        return ResponseEntity.accepted().build();
+    }
+}
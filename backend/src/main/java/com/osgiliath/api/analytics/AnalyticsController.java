@@ -1,15 +1,19 @@
 package com.osgiliath.api.analytics;
 
 import com.osgiliath.application.analytics.*;
+import com.osgiliath.application.shared.Mediator;
 import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.infrastructure.dashboard.DashboardEventStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** REST controller for analytics and reporting endpoints */
 @RestController
@@ -20,9 +24,8 @@ import org.springframework.web.bind.annotation.*;
         description = "Analytics and reporting endpoints for business intelligence")
 public class AnalyticsController {
 
-    private final GetRevenueOverTimeQueryHandler revenueOverTimeHandler;
-    private final GetInvoiceStatusBreakdownQueryHandler statusBreakdownHandler;
-    private final GetTopCustomersQueryHandler topCustomersHandler;
+    private final Mediator mediator;
+    private final DashboardEventStream dashboardEventStream;
 
     /**
      * Get revenue over time Returns monthly revenue aggregated from paid invoices
@@ -40,7 +43,7 @@ public class AnalyticsController {
                     @RequestParam(defaultValue = "12")
                     Integer months) {
         GetRevenueOverTimeQuery query = new GetRevenueOverTimeQuery(months);
-        List<MonthlyRevenueDto> result = revenueOverTimeHandler.handle(query);
+        List<MonthlyRevenueDto> result = mediator.query(query);
         return ResponseEntity.ok(result);
     }
 
@@ -56,7 +59,7 @@ public class AnalyticsController {
                     "Returns the count of invoices grouped by status (DRAFT, SENT, PAID, OVERDUE, CANCELLED)")
     public ResponseEntity<Map<InvoiceStatus, Long>> getStatusBreakdown() {
         GetInvoiceStatusBreakdownQuery query = new GetInvoiceStatusBreakdownQuery();
-        Map<InvoiceStatus, Long> result = statusBreakdownHandler.handle(query);
+        Map<InvoiceStatus, Long> result = mediator.query(query);
         return ResponseEntity.ok(result);
     }
 
@@ -76,7 +79,50 @@ public class AnalyticsController {
                     @RequestParam(defaultValue = "10")
                     Integer limit) {
         GetTopCustomersQuery query = new GetTopCustomersQuery(limit);
-        List<TopCustomerDto> result = topCustomersHandler.handle(query);
+        List<TopCustomerDto> result = mediator.query(query);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * Get daily invoice activity Returns invoices created, sent, paid and cancelled and payments
+     * received per day
+     *
+     * @param days Number of days to include, ending today (default: 30)
+     * @return One entry per day
+     */
+    @GetMapping("/daily-activity")
+    @Operation(
+            summary = "Get daily invoice activity",
+            description =
+                    "Returns per-day counts of invoices created, sent, paid and cancelled and of"
+                            + " payments received. Built from domain events in the background, so it"
+                            + " can lag a few seconds behind.")
+    public ResponseEntity<List<DailyActivityDto>> getDailyActivity(
+            @Parameter(description = "Number of days to include", example = "30")
+                    @RequestParam(defaultValue = "30")
+                    Integer days) {
+        List<DailyActivityDto> result = mediator.query(new GetDailyActivityQuery(days));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Stream dashboard changes Pushes status breakdown and revenue deltas as invoices change
+     *
+     * @param lastEventId ID of the last event received, sent by the browser on reconnect
+     * @return Server-Sent Events stream of delta events
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream dashboard changes",
+            description =
+                    "Server-Sent Events stream. Each 'delta' event holds changes to add to the status"
+                            + " breakdown and revenue-over-time results. Load those once, then apply"
+                            + " deltas instead of polling. A 'reset' event means missed changes could"
+                            + " not be replayed and both should be reloaded.")
+    public SseEmitter streamDashboard(
+            @Parameter(description = "Last event ID received, for resuming after a reconnect")
+                    @RequestHeader(value = "Last-Event-ID", required = false)
+                    String lastEventId) {
+        return dashboardEventStream.subscribe(lastEventId);
+    }
 }
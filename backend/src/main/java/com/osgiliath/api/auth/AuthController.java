@@ -5,6 +5,7 @@ import com.osgiliath.application.auth.dto.LoginRequest;
 import com.osgiliath.application.auth.dto.LoginResponse;
 import com.osgiliath.application.auth.dto.RegisterRequest;
 import com.osgiliath.application.auth.dto.UserResponse;
+import com.osgiliath.application.shared.Mediator;
 import com.osgiliath.domain.auth.User;
 import com.osgiliath.domain.auth.UserRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -25,15 +26,15 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Authentication", description = "Authentication and user management endpoints")
 public class AuthController {
 
-    private final LoginHandler loginHandler;
-    private final RegisterHandler registerHandler;
+    private final Mediator mediator;
+
     private final UserRepository userRepository;
 
     @PostMapping("/login")
     @Operation(summary = "Login user", description = "Authenticate user and return JWT token")
     public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
         LoginCommand command = new LoginCommand(request.getUsername(), request.getPassword());
-        LoginResponse response = loginHandler.handle(command);
+        LoginResponse response = mediator.send(command);
         return ResponseEntity.ok(response);
     }
 
@@ -43,7 +44,7 @@ public class AuthController {
         RegisterCommand command =
                 new RegisterCommand(
                         request.getUsername(), request.getPassword(), request.getEmail());
-        UserResponse response = registerHandler.handle(command);
+        UserResponse response = mediator.send(command);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -1,23 +1,31 @@
 package com.osgiliath.api.customer;
 
+import com.osgiliath.api.shared.ETags;
 import com.osgiliath.application.customer.command.*;
 import com.osgiliath.application.customer.dto.CreateCustomerRequest;
 import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.customer.dto.CustomerSuggestion;
 import com.osgiliath.application.customer.dto.UpdateCustomerRequest;
 import com.osgiliath.application.customer.query.GetCustomerByIdQuery;
-import com.osgiliath.application.customer.query.GetCustomerByIdQueryHandler;
+import com.osgiliath.application.customer.query.GetCustomerVersionQuery;
 import com.osgiliath.application.customer.query.ListCustomersQuery;
-import com.osgiliath.application.customer.query.ListCustomersQueryHandler;
+import com.osgiliath.application.customer.query.SuggestCustomersQuery;
+import com.osgiliath.application.shared.EntityVersion;
+import com.osgiliath.application.shared.Mediator;
+import com.osgiliath.application.shared.TotalMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,11 +38,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Customers", description = "Customer management API")
 public class CustomerController {
 
-    private final CreateCustomerHandler createCustomerHandler;
-    private final UpdateCustomerHandler updateCustomerHandler;
-    private final DeleteCustomerHandler deleteCustomerHandler;
-    private final GetCustomerByIdQueryHandler getCustomerByIdQueryHandler;
-    private final ListCustomersQueryHandler listCustomersQueryHandler;
+    private final Mediator mediator;
 
     @PostMapping
     @Operation(
@@ -59,9 +63,9 @@ public class CustomerController {
                         request.getPhone(),
                         request.getAddress());
 
-        CustomerResponse response = createCustomerHandler.handle(command);
+        CustomerResponse response = mediator.send(command);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(response)).body(response);
     }
 
     @GetMapping("/{id}")
@@ -71,16 +75,30 @@ public class CustomerController {
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "Customer found"),
+                @ApiResponse(responseCode = "304", description = "Cached copy is current"),
                 @ApiResponse(responseCode = "404", description = "Customer not found")
             })
     public ResponseEntity<CustomerResponse> getCustomerById(
-            @Parameter(description = "Customer ID", required = true) @PathVariable UUID id) {
+            @Parameter(description = "Customer ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "ETag of a cached copy")
+                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
         log.info("REST request to get customer: {}", id);
 
+        // A conditional GET is answered from the version column before the customer is loaded
+        if (ifNoneMatch != null) {
+            Optional<String> current =
+                    mediator.query(new GetCustomerVersionQuery(id))
+                            .map(version -> ETags.of(id, version));
+            if (current.isPresent() && ETags.matches(ifNoneMatch, current.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current.get()).build();
+            }
+        }
+
         GetCustomerByIdQuery query = new GetCustomerByIdQuery(id);
-        CustomerResponse response = getCustomerByIdQueryHandler.handle(query);
+        CustomerResponse response = mediator.query(query);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @GetMapping
@@ -91,7 +109,7 @@ public class CustomerController {
             value = {
                 @ApiResponse(responseCode = "200", description = "Customers retrieved successfully")
             })
-    public ResponseEntity<Page<CustomerResponse>> listCustomers(
+    public ResponseEntity<Slice<CustomerResponse>> listCustomers(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0")
                     int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
@@ -102,7 +120,13 @@ public class CustomerController {
                     String sortDirection,
             @Parameter(description = "Search term for name or email")
                     @RequestParam(required = false)
-                    String search) {
+                    String search,
+            @Parameter(
+                            description =
+                                    "Total to report: EXACT (default), ESTIMATED, or NONE for"
+                                            + " a slice with only a last-page flag")
+                    @RequestParam(defaultValue = "EXACT")
+                    TotalMode total) {
         log.info(
                 "REST request to list customers - page: {}, size: {}, search: {}",
                 page,
@@ -110,8 +134,39 @@ public class CustomerController {
                 search);
 
         ListCustomersQuery query =
-                new ListCustomersQuery(page, size, sortBy, sortDirection, search);
-        Page<CustomerResponse> response = listCustomersQueryHandler.handle(query);
+                new ListCustomersQuery(page, size, sortBy, sortDirection, search, total);
+        Slice<CustomerResponse> response = mediator.query(query);
+
+        // The page is read in one query either way, so the tag only saves the transfer; Spring
+        // answers a matching If-None-Match with 304
+        String etag =
+                ETags.ofPage(
+                        response.map(
+                                customer ->
+                                        new EntityVersion(
+                                                customer.getId(), customer.getVersion())));
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(
+            summary = "Suggest customers",
+            description =
+                    "Autocomplete over customer names, name words, emails and email domains,"
+                            + " served from memory")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Suggestions retrieved"),
+                @ApiResponse(responseCode = "400", description = "Limit out of range")
+            })
+    public ResponseEntity<List<CustomerSuggestion>> suggestCustomers(
+            @Parameter(description = "Prefix typed so far") @RequestParam(defaultValue = "")
+                    String q,
+            @Parameter(description = "Maximum suggestions (1-50)")
+                    @RequestParam(defaultValue = "10")
+                    int limit) {
+        SuggestCustomersQuery query = new SuggestCustomersQuery(q, limit);
+        List<CustomerSuggestion> response = mediator.query(query);
 
         return ResponseEntity.ok(response);
     }
@@ -127,11 +182,17 @@ public class CustomerController {
                 @ApiResponse(responseCode = "404", description = "Customer not found"),
                 @ApiResponse(
                         responseCode = "409",
-                        description = "Customer with email already exists")
+                        description = "Customer with email already exists"),
+                @ApiResponse(
+                        responseCode = "412",
+                        description = "Customer changed since the version named in If-Match")
             })
     public ResponseEntity<CustomerResponse> updateCustomer(
             @Parameter(description = "Customer ID", required = true) @PathVariable UUID id,
-            @Valid @RequestBody UpdateCustomerRequest request) {
+            @Valid @RequestBody UpdateCustomerRequest request,
+            @Parameter(description = "ETag of the version being updated")
+                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch) {
         log.info("REST request to update customer: {}", id);
 
         UpdateCustomerCommand command =
@@ -140,11 +201,12 @@ public class CustomerController {
                         request.getName(),
                         request.getEmail(),
                         request.getPhone(),
-                        request.getAddress());
+                        request.getAddress(),
+                        ETags.expectedVersions(ifMatch, id));
 
-        CustomerResponse response = updateCustomerHandler.handle(command);
+        CustomerResponse response = mediator.send(command);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -159,8 +221,12 @@ public class CustomerController {
         log.info("REST request to delete customer: {}", id);
 
         DeleteCustomerCommand command = new DeleteCustomerCommand(id);
-        deleteCustomerHandler.handle(command);
+        mediator.send(command);
 
         return ResponseEntity.noContent().build();
     }
+
+    private static String eTag(CustomerResponse customer) {
+        return ETags.of(customer.getId(), customer.getVersion());
+    }
 }
@@ -1,9 +1,12 @@
 package com.osgiliath.api.error;
 
+import com.osgiliath.domain.exceptions.AggregateConflictException;
+import com.osgiliath.domain.exceptions.CapacityExceededException;
 import com.osgiliath.domain.exceptions.CustomerHasInvoicesException;
 import com.osgiliath.domain.exceptions.InsufficientBalanceException;
 import com.osgiliath.domain.exceptions.InvoiceHasNoLineItemsException;
 import com.osgiliath.domain.exceptions.InvoiceNotSentException;
+import com.osgiliath.domain.exceptions.StaleVersionException;
 import com.osgiliath.domain.shared.DomainException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -39,6 +42,53 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(AggregateConflictException.class)
+    public ResponseEntity<ErrorResponse> handleAggregateConflict(
+            AggregateConflictException ex, HttpServletRequest request) {
+        log.warn("Aggregate conflict: {}", ex.getMessage());
+        ErrorResponse error =
+                ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.CONFLICT.value())
+                        .error(HttpStatus.CONFLICT.getReasonPhrase())
+                        .message(ex.getMessage())
+                        .path(request.getRequestURI())
+                        .build();
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(StaleVersionException.class)
+    public ResponseEntity<ErrorResponse> handleStaleVersion(
+            StaleVersionException ex, HttpServletRequest request) {
+        log.debug("Precondition failed: {}", ex.getMessage());
+        ErrorResponse error =
+                ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.PRECONDITION_FAILED.value())
+                        .error(HttpStatus.PRECONDITION_FAILED.getReasonPhrase())
+                        .message(ex.getMessage())
+                        .path(request.getRequestURI())
+                        .build();
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleCapacityExceeded(
+            CapacityExceededException ex, HttpServletRequest request) {
+        log.warn("Capacity exceeded: {}", ex.getMessage());
+        ErrorResponse error =
+                ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                        .message(ex.getMessage())
+                        .path(request.getRequestURI())
+                        .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(error);
+    }
+
     @ExceptionHandler(InsufficientBalanceException.class)
     public ResponseEntity<ErrorResponse> handleInsufficientBalance(
             InsufficientBalanceException ex, HttpServletRequest request) {
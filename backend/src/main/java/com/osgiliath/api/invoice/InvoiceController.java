@@ -1,21 +1,34 @@
 package com.osgiliath.api.invoice;
 
+import com.osgiliath.api.shared.BinaryFormats;
+import com.osgiliath.api.shared.ETags;
 import com.osgiliath.application.invoice.*;
+import com.osgiliath.application.shared.EntityVersion;
+import com.osgiliath.application.shared.Mediator;
+import com.osgiliath.application.shared.TotalMode;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.invoice.InvoiceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,18 +41,8 @@ import org.springframework.web.bind.annotation.*;
         description = "APIs for managing invoices with state machine lifecycle")
 public class InvoiceController {
 
-    private final CreateInvoiceHandler createInvoiceHandler;
-    private final UpdateInvoiceHandler updateInvoiceHandler;
-    private final AddLineItemHandler addLineItemHandler;
-    private final RemoveLineItemHandler removeLineItemHandler;
-    private final SendInvoiceHandler sendInvoiceHandler;
-    private final MarkInvoiceAsPaidHandler markInvoiceAsPaidHandler;
-    private final CancelInvoiceHandler cancelInvoiceHandler;
-    private final DeleteInvoiceHandler deleteInvoiceHandler;
-    private final GetInvoiceByIdQueryHandler getInvoiceByIdQueryHandler;
-    private final ListInvoicesQueryHandler listInvoicesQueryHandler;
-    private final GetInvoiceBalanceQueryHandler getInvoiceBalanceQueryHandler;
-    private final ExportInvoiceToPdfQueryHandler exportInvoiceToPdfQueryHandler;
+    private final Mediator mediator;
+
     private final InvoiceMapper invoiceMapper;
 
     @PostMapping
@@ -55,36 +58,78 @@ public class InvoiceController {
     public ResponseEntity<InvoiceResponse> createInvoice(
             @Valid @RequestBody CreateInvoiceRequest request) {
         CreateInvoiceCommand command = invoiceMapper.toCommand(request);
-        UUID invoiceId = createInvoiceHandler.handle(command);
-
-        Invoice invoice = getInvoiceByIdQueryHandler.handle(new GetInvoiceByIdQuery(invoiceId));
-        InvoiceResponse response = invoiceMapper.toResponse(invoice);
+        InvoiceResponse response = mediator.send(command);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(response)).body(response);
     }
 
     @GetMapping("/{id}")
     @Operation(
             summary = "Get invoice by ID",
-            description = "Retrieves an invoice with all line items")
+            description =
+                    "Retrieves an invoice with all line items. PAID and CANCELLED invoices are"
+                            + " served from a cache of their JSON, gzipped when the client"
+                            + " accepts it. CBOR and Smile are rendered on every request")
     @ApiResponses(
             value = {
-                @ApiResponse(responseCode = "200", description = "Invoice found"),
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Invoice found",
+                        content =
+                                @Content(
+                                        mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                        schema = @Schema(implementation = InvoiceResponse.class))),
+                @ApiResponse(responseCode = "304", description = "Cached copy is current"),
                 @ApiResponse(responseCode = "404", description = "Invoice not found")
             })
-    public ResponseEntity<InvoiceResponse> getInvoiceById(
-            @Parameter(description = "Invoice ID") @PathVariable UUID id) {
-        Invoice invoice = getInvoiceByIdQueryHandler.handle(new GetInvoiceByIdQuery(id));
-        InvoiceResponse response = invoiceMapper.toResponse(invoice);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getInvoiceById(
+            @Parameter(description = "Invoice ID") @PathVariable UUID id,
+            @Parameter(description = "ETag of a cached copy")
+                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+                    String accept,
+            @Parameter(hidden = true)
+                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                    String acceptEncoding) {
+        Optional<String> unchanged = unchangedETag(id, ifNoneMatch);
+        if (unchanged.isPresent()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(unchanged.get()).build();
+        }
+        if (BinaryFormats.requested(accept)) {
+            // The cache holds JSON; binary formats go through the message converters
+            Invoice invoice = mediator.query(new GetInvoiceByIdQuery(id));
+            InvoiceResponse response = invoiceMapper.toResponse(invoice);
+            return ResponseEntity.ok()
+                    .eTag(eTag(response))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(response);
+        }
+
+        InvoiceJson json = mediator.query(new GetInvoiceJsonQuery(id));
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok()
+                        .eTag(eTag(id, json.getVersions()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (json.getGzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(json.getGzip());
+        }
+        return response.body(json.getJson());
     }
 
     @GetMapping
     @Operation(
             summary = "List invoices",
-            description = "Lists invoices with optional filters, pagination and sorting")
+            description =
+                    "Lists invoices with optional filters, pagination and sorting. X-Has-Next says"
+                            + " whether another page follows; X-Total-Count is only set when a"
+                            + " total was requested. With facets=true the body is an"
+                            + " InvoiceListResponse that adds per-status counts and balances for"
+                            + " the filter, ignoring its status, and the exact total. Pages without"
+                            + " a total or facets carry an ETag for If-None-Match")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "List of invoices")})
-    public ResponseEntity<List<InvoiceResponse>> listInvoices(
+    public ResponseEntity<?> listInvoices(
             @Parameter(description = "Filter by status") @RequestParam(required = false)
                     InvoiceStatus status,
             @Parameter(description = "Filter by customer ID") @RequestParam(required = false)
@@ -108,17 +153,107 @@ public class InvoiceController {
                     String sortBy,
             @Parameter(description = "Sort direction (ASC or DESC)")
                     @RequestParam(required = false, defaultValue = "DESC")
-                    String sortDirection) {
+                    String sortDirection,
+            @Parameter(description = "Total to report in X-Total-Count: NONE, EXACT or ESTIMATED")
+                    @RequestParam(required = false, defaultValue = "NONE")
+                    TotalMode total,
+            @Parameter(description = "Include per-status facet counts in an object body")
+                    @RequestParam(required = false, defaultValue = "false")
+                    boolean facets,
+            @Parameter(description = "ETag of a cached copy of this page")
+                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
 
         ListInvoicesQuery query =
                 new ListInvoicesQuery(
-                        status, customerId, fromDate, toDate, page, size, sortBy, sortDirection);
-        List<Invoice> invoices = listInvoicesQueryHandler.handle(query);
-
-        List<InvoiceResponse> responses =
-                invoices.stream().map(invoiceMapper::toResponse).collect(Collectors.toList());
+                        status,
+                        customerId,
+                        fromDate,
+                        toDate,
+                        page,
+                        size,
+                        sortBy,
+                        sortDirection,
+                        facets ? TotalMode.NONE : total);
+
+        // A plain page is tagged by its IDs, versions and customer versions, which one ID query
+        // reads before any invoice is loaded; totals and facets can change without the page
+        // changing, so those responses are not tagged
+        boolean tagged = !facets && total == TotalMode.NONE;
+        if (tagged && ifNoneMatch != null) {
+            String current = ETags.ofPage(mediator.query(new ListInvoiceVersionsQuery(query)));
+            if (ETags.matches(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+        }
+
+        if (facets) {
+            // One grouped query instead of a count, and instead of a second request for tab
+            // counts; it runs in the page's transaction so both see the same invoices
+            InvoicePageWithFacets result = mediator.query(new ListInvoicesWithFacetsQuery(query));
+            Slice<Invoice> invoices = result.invoices();
+            List<InvoiceStatusFacet> statusFacets = result.facets();
+            long totalElements =
+                    statusFacets.stream()
+                            .filter(facet -> status == null || facet.getStatus() == status)
+                            .mapToLong(InvoiceStatusFacet::getCount)
+                            .sum();
+            return ResponseEntity.ok(
+                    InvoiceListResponse.builder()
+                            .content(invoiceMapper.toResponses(invoices.getContent()))
+                            .hasNext(invoices.hasNext())
+                            .totalElements(totalElements)
+                            .facets(statusFacets)
+                            .build());
+        }
+
+        Slice<Invoice> invoices = mediator.query(query);
+        List<InvoiceResponse> responses = invoiceMapper.toResponses(invoices.getContent());
+
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok().header("X-Has-Next", String.valueOf(invoices.hasNext()));
+        if (invoices instanceof Page<Invoice> withTotal) {
+            response.header("X-Total-Count", String.valueOf(withTotal.getTotalElements()));
+        }
+        if (tagged) {
+            List<EntityVersion> versions =
+                    responses.stream()
+                            .map(
+                                    invoice ->
+                                            new EntityVersion(
+                                                    invoice.getId(),
+                                                    invoice.getVersion(),
+                                                    invoice.getCustomerVersion()))
+                            .toList();
+            response.eTag(
+                    ETags.ofPage(
+                            new SliceImpl<>(versions, invoices.getPageable(), invoices.hasNext())));
+        }
+        return response.body(responses);
+    }
 
-        return ResponseEntity.ok(responses);
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search invoices",
+            description =
+                    "Full-text search over invoice numbers, customer names and line item"
+                            + " descriptions. Every word must prefix-match a word in one of those"
+                            + " fields; best matches come first")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Matching invoices"),
+                @ApiResponse(responseCode = "400", description = "Invalid limit or cursor")
+            })
+    public ResponseEntity<InvoiceSearchResponse> searchInvoices(
+            @Parameter(description = "Search text") @RequestParam String q,
+            @Parameter(description = "Maximum results (1-100)")
+                    @RequestParam(required = false, defaultValue = "20")
+                    Integer limit,
+            @Parameter(description = "nextCursor from the previous page")
+                    @RequestParam(required = false)
+                    String cursor) {
+        InvoiceSearchResponse response = mediator.query(new SearchInvoicesQuery(q, limit, cursor));
+        return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{id}")
@@ -129,19 +264,23 @@ public class InvoiceController {
                 @ApiResponse(
                         responseCode = "400",
                         description = "Invalid request data or invoice not in DRAFT status"),
-                @ApiResponse(responseCode = "404", description = "Invoice not found")
+                @ApiResponse(responseCode = "404", description = "Invoice not found"),
+                @ApiResponse(
+                        responseCode = "412",
+                        description = "Invoice changed since the version named in If-Match")
             })
     public ResponseEntity<InvoiceResponse> updateInvoice(
             @Parameter(description = "Invoice ID") @PathVariable UUID id,
-            @Valid @RequestBody UpdateInvoiceRequest request) {
-
-        UpdateInvoiceCommand command = invoiceMapper.toUpdateCommand(id, request);
-        updateInvoiceHandler.handle(command);
+            @Valid @RequestBody UpdateInvoiceRequest request,
+            @Parameter(description = "ETag of the version being updated")
+                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch) {
 
-        Invoice invoice = getInvoiceByIdQueryHandler.handle(new GetInvoiceByIdQuery(id));
-        InvoiceResponse response = invoiceMapper.toResponse(invoice);
+        UpdateInvoiceCommand command =
+                invoiceMapper.toUpdateCommand(id, request, ETags.expectedVersions(ifMatch, id));
+        InvoiceResponse response = mediator.send(command);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @PostMapping("/{id}/line-items")
@@ -161,15 +300,7 @@ public class InvoiceController {
             @Valid @RequestBody LineItemRequest request) {
 
         AddLineItemCommand command = invoiceMapper.toAddLineItemCommand(id, request);
-        UUID lineItemId = addLineItemHandler.handle(command);
-
-        Invoice invoice = getInvoiceByIdQueryHandler.handle(new GetInvoiceByIdQuery(id));
-        LineItemResponse response =
-                invoice.getLineItems().stream()
-                        .filter(item -> item.getId().equals(lineItemId))
-                        .map(invoiceMapper::toLineItemResponse)
-                        .findFirst()
-                        .orElseThrow();
+        LineItemResponse response = mediator.send(command);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -189,7 +320,7 @@ public class InvoiceController {
             @Parameter(description = "Line item ID") @PathVariable UUID lineItemId) {
 
         RemoveLineItemCommand command = new RemoveLineItemCommand(id, lineItemId);
-        removeLineItemHandler.handle(command);
+        mediator.send(command);
 
         return ResponseEntity.noContent().build();
     }
@@ -210,12 +341,9 @@ public class InvoiceController {
             @Parameter(description = "Invoice ID") @PathVariable UUID id) {
 
         SendInvoiceCommand command = new SendInvoiceCommand(id);
-        sendInvoiceHandler.handle(command);
+        InvoiceResponse response = mediator.send(command);
 
-        Invoice invoice = getInvoiceByIdQueryHandler.handle(new GetInvoiceByIdQuery(id));
-        InvoiceResponse response = invoiceMapper.toResponse(invoice);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @PostMapping("/{id}/mark-paid")
@@ -234,12 +362,9 @@ public class InvoiceController {
             @Parameter(description = "Invoice ID") @PathVariable UUID id) {
 
         MarkInvoiceAsPaidCommand command = new MarkInvoiceAsPaidCommand(id);
-        markInvoiceAsPaidHandler.handle(command);
-
-        Invoice invoice = getInvoiceByIdQueryHandler.handle(new GetInvoiceByIdQuery(id));
-        InvoiceResponse response = invoiceMapper.toResponse(invoice);
+        InvoiceResponse response = mediator.send(command);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @PostMapping("/{id}/cancel")
@@ -258,7 +383,7 @@ public class InvoiceController {
 
         String reason = request != null ? request.getReason() : null;
         CancelInvoiceCommand command = new CancelInvoiceCommand(id, reason);
-        cancelInvoiceHandler.handle(command);
+        mediator.send(command);
 
         return ResponseEntity.ok().build();
     }
@@ -275,11 +400,27 @@ public class InvoiceController {
             @Parameter(description = "Invoice ID") @PathVariable UUID id) {
 
         DeleteInvoiceCommand command = new DeleteInvoiceCommand(id);
-        deleteInvoiceHandler.handle(command);
+        mediator.send(command);
 
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{id}/detail")
+    @Operation(
+            summary = "Get invoice detail",
+            description =
+                    "Returns the invoice with its customer, payments and balance in one response,"
+                            + " read in parallel")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Invoice detail found"),
+                @ApiResponse(responseCode = "404", description = "Invoice not found")
+            })
+    public ResponseEntity<InvoiceDetailResponse> getInvoiceDetail(
+            @Parameter(description = "Invoice ID", required = true) @PathVariable UUID id) {
+        return ResponseEntity.ok(mediator.query(new GetInvoiceDetailQuery(id)));
+    }
+
     @GetMapping("/{id}/balance")
     @Operation(
             summary = "Get invoice balance",
@@ -293,7 +434,7 @@ public class InvoiceController {
             @Parameter(description = "Invoice ID") @PathVariable UUID id) {
 
         GetInvoiceBalanceQuery query = new GetInvoiceBalanceQuery(id);
-        InvoiceBalanceResponse response = getInvoiceBalanceQueryHandler.handle(query);
+        InvoiceBalanceResponse response = mediator.query(query);
 
         return ResponseEntity.ok(response);
     }
@@ -305,17 +446,68 @@ public class InvoiceController {
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "PDF generated successfully"),
+                @ApiResponse(responseCode = "304", description = "Cached copy is current"),
                 @ApiResponse(responseCode = "404", description = "Invoice or customer not found")
             })
     public ResponseEntity<byte[]> exportInvoiceToPdf(
-            @Parameter(description = "Invoice ID") @PathVariable UUID id) {
+            @Parameter(description = "Invoice ID") @PathVariable UUID id,
+            @Parameter(description = "ETag of a cached copy")
+                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
+
+        // Rendering is the expensive part, so the versions are always read first to tag the PDF
+        Optional<String> etag =
+                mediator.query(new GetInvoiceVersionsQuery(id)).map(versions -> eTag(id, versions));
+        if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+        }
 
         ExportInvoiceToPdfQuery query = new ExportInvoiceToPdfQuery(id);
-        byte[] pdfBytes = exportInvoiceToPdfQueryHandler.handle(query);
+        byte[] pdfBytes = mediator.query(query);
+
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok()
+                        .header("Content-Type", "application/pdf")
+                        .header(
+                                "Content-Disposition",
+                                "attachment; filename=\"invoice-" + id + ".pdf\"");
+        etag.ifPresent(response::eTag);
+        return response.body(pdfBytes);
+    }
+
+    /** Whether Accept-Encoding allows gzip; a q of zero refuses it */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().toLowerCase().split("\\s*;\\s*");
+            if (parts[0].equals("gzip")) {
+                return parts.length == 1 || !parts[1].matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /** Tag of an invoice; it includes the customer version, since the customer's name is shown */
+    private static String eTag(InvoiceResponse invoice) {
+        return ETags.of(invoice.getId(), invoice.getVersion(), invoice.getCustomerVersion());
+    }
+
+    private static String eTag(UUID id, InvoiceVersions versions) {
+        return ETags.of(id, versions.invoice(), versions.customer());
+    }
 
-        return ResponseEntity.ok()
-                .header("Content-Type", "application/pdf")
-                .header("Content-Disposition", "attachment; filename=\"invoice-" + id + ".pdf\"")
-                .body(pdfBytes);
+    /**
+     * Tag of the invoice if the client's copy is current, from the invoice and customer version
+     * columns alone; empty for unconditional requests, which skip the lookup
+     */
+    private Optional<String> unchangedETag(UUID id, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        return mediator.query(new GetInvoiceVersionsQuery(id))
+                .map(versions -> eTag(id, versions))
+                .filter(etag -> ETags.matches(ifNoneMatch, etag));
     }
 }
@@ -1,15 +1,13 @@
 package com.osgiliath.api.payment;
 
 import com.osgiliath.application.payment.command.RecordPaymentCommand;
-import com.osgiliath.application.payment.command.RecordPaymentHandler;
 import com.osgiliath.application.payment.command.RecordPaymentResult;
 import com.osgiliath.application.payment.dto.PaymentMapper;
 import com.osgiliath.application.payment.dto.PaymentResponse;
 import com.osgiliath.application.payment.dto.RecordPaymentRequest;
 import com.osgiliath.application.payment.query.GetPaymentByIdQuery;
-import com.osgiliath.application.payment.query.GetPaymentByIdQueryHandler;
 import com.osgiliath.application.payment.query.ListPaymentsForInvoiceQuery;
-import com.osgiliath.application.payment.query.ListPaymentsForInvoiceQueryHandler;
+import com.osgiliath.application.shared.Mediator;
 import com.osgiliath.domain.payment.Payment;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -37,9 +35,8 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Payments", description = "Payment management APIs")
 public class PaymentController {
 
-    private final RecordPaymentHandler recordPaymentHandler;
-    private final GetPaymentByIdQueryHandler getPaymentByIdQueryHandler;
-    private final ListPaymentsForInvoiceQueryHandler listPaymentsForInvoiceQueryHandler;
+    private final Mediator mediator;
+
     private final PaymentMapper paymentMapper;
 
     @PostMapping("/invoices/{invoiceId}/payments")
@@ -68,13 +65,10 @@ public class PaymentController {
             @Parameter(description = "Invoice ID", required = true) @PathVariable UUID invoiceId,
             @Valid @RequestBody RecordPaymentRequest request) {
         RecordPaymentCommand command = paymentMapper.toCommand(invoiceId, request);
-        RecordPaymentResult result = recordPaymentHandler.handle(command);
-
-        // Fetch the saved payment to get full details
-        Payment payment =
-                getPaymentByIdQueryHandler.handle(new GetPaymentByIdQuery(result.getPaymentId()));
+        // Serialized per invoice so concurrent installments queue instead of colliding on @Version
+        RecordPaymentResult result = mediator.send(command);
 
-        PaymentResponse response = paymentMapper.toResponse(result, payment);
+        PaymentResponse response = paymentMapper.toResponse(result);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -95,7 +89,7 @@ public class PaymentController {
     public ResponseEntity<PaymentResponse> getPaymentById(
             @Parameter(description = "Payment ID", required = true) @PathVariable UUID id) {
         GetPaymentByIdQuery query = new GetPaymentByIdQuery(id);
-        Payment payment = getPaymentByIdQueryHandler.handle(query);
+        Payment payment = mediator.query(query);
 
         PaymentResponse response = paymentMapper.toResponse(payment);
 
@@ -118,7 +112,7 @@ public class PaymentController {
     public ResponseEntity<List<PaymentResponse>> listPaymentsForInvoice(
             @Parameter(description = "Invoice ID", required = true) @PathVariable UUID invoiceId) {
         ListPaymentsForInvoiceQuery query = new ListPaymentsForInvoiceQuery(invoiceId);
-        List<Payment> payments = listPaymentsForInvoiceQueryHandler.handle(query);
+        List<Payment> payments = mediator.query(query);
 
         List<PaymentResponse> responses =
                 payments.stream().map(paymentMapper::toResponse).collect(Collectors.toList());
@@ -0,0 +1,34 @@
+package com.osgiliath.api.shared;
+
+import java.util.List;
+import org.springframework.http.MediaType;
+
+/**
+ * Media types of the binary JSON formats served next to JSON. Only needed by endpoints that write
+ * pre-serialized JSON themselves; everything else is negotiated by the message converters.
+ */
+public final class BinaryFormats {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final List<MediaType> ALL = List.of(CBOR, SMILE);
+
+    private BinaryFormats() {}
+
+    /**
+     * Whether an Accept header asks for CBOR or Smile, rather than only allowing it via a wildcard
+     */
+    public static boolean requested(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        for (MediaType type : MediaType.parseMediaTypes(accept)) {
+            if (type.getQualityValue() > 0 && ALL.stream().anyMatch(type::equalsTypeAndSubtype)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
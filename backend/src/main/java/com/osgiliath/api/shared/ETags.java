@@ -0,0 +1,108 @@
+package com.osgiliath.api.shared;
+
+import com.osgiliath.application.shared.EntityVersion;
+import com.osgiliath.domain.exceptions.StaleVersionException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Weak entity tags for conditional requests. A single resource is tagged with its ID and
+ * {@code @Version}, which every write bumps, plus the version of any other entity it shows parts of
+ * (an invoice shows its customer's name); a list page with a digest of its items' IDs and versions,
+ * whether another page follows and, if the page carries one, the total.
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {}
+
+    /** Tag of a single resource */
+    public static String of(UUID id, Long version) {
+        return of(id, version, null);
+    }
+
+    /** Tag of a single resource that also shows an entity at the related version, if not null */
+    public static String of(UUID id, Long version, Long relatedVersion) {
+        String related = relatedVersion == null ? "" : "." + relatedVersion;
+        return WEAK_PREFIX + "\"" + id + "-" + version + related + "\"";
+    }
+
+    /** Tag of one page of a list */
+    public static String ofPage(Slice<EntityVersion> page) {
+        StringBuilder raw = new StringBuilder();
+        for (EntityVersion item : page) {
+            raw.append(item.id()).append('-').append(item.version());
+            if (item.relatedVersion() != null) {
+                raw.append('.').append(item.relatedVersion());
+            }
+            raw.append(',');
+        }
+        raw.append(page.hasNext());
+        if (page instanceof Page<EntityVersion> withTotal) {
+            raw.append(',').append(withTotal.getTotalElements());
+        }
+        String digest = DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8));
+        return WEAK_PREFIX + "\"" + digest + "\"";
+    }
+
+    /** Whether an If-None-Match header names the tag; weak comparison, as GET requires */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || opaque(candidate).equals(opaque));
+    }
+
+    /**
+     * Versions an If-Match header accepts the resource at, any one of which lets the write through,
+     * or null when the header is absent or "*". Tags for other resources, or ones this API did not
+     * issue, can never match, and a header naming none of this resource's versions is rejected. The
+     * related version is ignored: a write changes the resource itself, not what it shows of others.
+     *
+     * <p>RFC 9110 asks for strong comparison here. This API only issues weak tags, though, and
+     * clients and proxies may send them back with or without the W/ prefix, so both forms are
+     * accepted; the version a tag names is exact, so this admits no write the strong form would
+     * not.
+     */
+    public static Set<Long> expectedVersions(String ifMatch, UUID id) {
+        if (ifMatch == null) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        Set<Long> versions = new HashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String opaque = opaque(candidate.trim());
+            if (opaque.equals("*")) {
+                return null;
+            }
+            if (opaque.startsWith(prefix) && opaque.endsWith("\"")) {
+                try {
+                    String tagged = opaque.substring(prefix.length(), opaque.length() - 1);
+                    int related = tagged.indexOf('.');
+                    versions.add(
+                            Long.parseLong(related < 0 ? tagged : tagged.substring(0, related)));
+                } catch (NumberFormatException e) {
+                    // Not one of ours; it cannot match
+                }
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new StaleVersionException("If-Match does not name a current version of " + id);
+        }
+        return versions;
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+}
@@ -0,0 +1,21 @@
+package com.osgiliath.application.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** DTO for one day of invoice activity */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyActivityDto {
+    private LocalDate day;
+    private Integer invoicesCreated;
+    private Integer invoicesSent;
+    private Integer invoicesPaid;
+    private Integer invoicesCancelled;
+    private Integer paymentsReceived;
+    private BigDecimal paymentAmount;
+}
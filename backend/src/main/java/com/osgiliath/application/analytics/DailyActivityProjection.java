@@ -0,0 +1,96 @@
+package com.osgiliath.application.analytics;
+
+import com.osgiliath.application.shared.Projection;
+import com.osgiliath.domain.invoice.InvoicePaymentApplied;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.invoice.InvoiceStatusChanged;
+import com.osgiliath.domain.shared.DomainEvent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds {@link DailyInvoiceActivity} from invoice events. A batch is summed per day in memory and
+ * written with one upsert per day.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyActivityProjection implements Projection {
+
+    private static final class Day {
+        int created;
+        int sent;
+        int paid;
+        int cancelled;
+        int payments;
+        BigDecimal paymentAmount = BigDecimal.ZERO;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String getName() {
+        return "daily-invoice-activity";
+    }
+
+    @Override
+    public void apply(List<DomainEvent> events) {
+        Map<LocalDate, Day> days = new TreeMap<>();
+        for (DomainEvent event : events) {
+            Day day =
+                    days.computeIfAbsent(
+                            event.getOccurredAt().atZone(ZoneId.systemDefault()).toLocalDate(),
+                            date -> new Day());
+            if (event instanceof InvoiceStatusChanged changed) {
+                if (changed.getPreviousStatus() == null) {
+                    day.created++;
+                }
+                if (changed.getNewStatus() == InvoiceStatus.SENT) {
+                    day.sent++;
+                } else if (changed.getNewStatus() == InvoiceStatus.PAID) {
+                    day.paid++;
+                } else if (changed.getNewStatus() == InvoiceStatus.CANCELLED) {
+                    day.cancelled++;
+                }
+            } else if (event instanceof InvoicePaymentApplied payment) {
+                day.payments++;
+                day.paymentAmount = day.paymentAmount.add(payment.getAmount());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO daily_invoice_activity AS a (activity_date, invoices_created, invoices_sent,"
+                        + " invoices_paid, invoices_cancelled, payments_received, payment_amount)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (activity_date) DO UPDATE SET"
+                        + " invoices_created = a.invoices_created + EXCLUDED.invoices_created,"
+                        + " invoices_sent = a.invoices_sent + EXCLUDED.invoices_sent,"
+                        + " invoices_paid = a.invoices_paid + EXCLUDED.invoices_paid,"
+                        + " invoices_cancelled = a.invoices_cancelled + EXCLUDED.invoices_cancelled,"
+                        + " payments_received = a.payments_received + EXCLUDED.payments_received,"
+                        + " payment_amount = a.payment_amount + EXCLUDED.payment_amount",
+                days.entrySet().stream()
+                        .map(
+                                entry ->
+                                        new Object[] {
+                                            entry.getKey(),
+                                            entry.getValue().created,
+                                            entry.getValue().sent,
+                                            entry.getValue().paid,
+                                            entry.getValue().cancelled,
+                                            entry.getValue().payments,
+                                            entry.getValue().paymentAmount
+                                        })
+                        .toList());
+    }
+
+    @Override
+    public void reset() {
+        jdbcTemplate.update("DELETE FROM daily_invoice_activity");
+    }
+}
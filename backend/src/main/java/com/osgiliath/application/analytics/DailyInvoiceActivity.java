@@ -0,0 +1,42 @@
+package com.osgiliath.application.analytics;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Read model of invoice activity per day, maintained by {@link DailyActivityProjection} from the
+ * domain event log. Rows are only ever written by the projection, never through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "daily_invoice_activity")
+@Getter
+@NoArgsConstructor
+public class DailyInvoiceActivity {
+
+    @Id
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "invoices_created", nullable = false)
+    private int invoicesCreated;
+
+    @Column(name = "invoices_sent", nullable = false)
+    private int invoicesSent;
+
+    @Column(name = "invoices_paid", nullable = false)
+    private int invoicesPaid;
+
+    @Column(name = "invoices_cancelled", nullable = false)
+    private int invoicesCancelled;
+
+    @Column(name = "payments_received", nullable = false)
+    private int paymentsReceived;
+
+    @Column(name = "payment_amount", nullable = false, precision = 38, scale = 2)
+    private BigDecimal paymentAmount;
+}
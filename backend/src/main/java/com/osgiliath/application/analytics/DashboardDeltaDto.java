@@ -0,0 +1,20 @@
+package com.osgiliath.application.analytics;
+
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import java.math.BigDecimal;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a change to the dashboard aggregates: add statusCounts to the status breakdown and
+ * revenue to the matching revenue-over-time months. Only changed entries are present.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDeltaDto {
+    private Map<InvoiceStatus, Long> statusCounts;
+    private Map<String, BigDecimal> revenue; // Keyed by month, format: "2024-01"
+}
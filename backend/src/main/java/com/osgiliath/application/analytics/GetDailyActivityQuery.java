@@ -0,0 +1,18 @@
+package com.osgiliath.application.analytics;
+
+import com.osgiliath.application.shared.Query;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query to get invoice activity per day for the last days, read from the event-built projection (a
+ * few seconds behind the invoices themselves)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetDailyActivityQuery implements Query<List<DailyActivityDto>> {
+    private Integer days = 30;
+}
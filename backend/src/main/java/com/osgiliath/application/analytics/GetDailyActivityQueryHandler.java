@@ -0,0 +1,65 @@
+package com.osgiliath.application.analytics;
+
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.shared.DomainException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Handler for GetDailyActivityQuery Returns one entry per day, with zeros for quiet days */
+@Service
+@Transactional(readOnly = true)
+public class GetDailyActivityQueryHandler
+        implements QueryHandler<GetDailyActivityQuery, List<DailyActivityDto>> {
+
+    private static final int MAX_DAYS = 366;
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    public List<DailyActivityDto> handle(GetDailyActivityQuery query) {
+        if (query.getDays() == null || query.getDays() < 1 || query.getDays() > MAX_DAYS) {
+            throw new DomainException("Days must be between 1 and " + MAX_DAYS);
+        }
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(query.getDays() - 1L);
+
+        Map<LocalDate, DailyInvoiceActivity> activityByDay =
+                entityManager
+                        .createQuery(
+                                "SELECT a FROM DailyInvoiceActivity a WHERE a.day BETWEEN :from"
+                                        + " AND :to",
+                                DailyInvoiceActivity.class)
+                        .setParameter("from", startDate)
+                        .setParameter("to", endDate)
+                        .getResultStream()
+                        .collect(
+                                Collectors.toMap(
+                                        DailyInvoiceActivity::getDay, Function.identity()));
+
+        List<DailyActivityDto> result = new ArrayList<>();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            DailyInvoiceActivity activity = activityByDay.get(day);
+            result.add(
+                    activity == null
+                            ? new DailyActivityDto(day, 0, 0, 0, 0, 0, BigDecimal.ZERO)
+                            : new DailyActivityDto(
+                                    day,
+                                    activity.getInvoicesCreated(),
+                                    activity.getInvoicesSent(),
+                                    activity.getInvoicesPaid(),
+                                    activity.getInvoicesCancelled(),
+                                    activity.getPaymentsReceived(),
+                                    activity.getPaymentAmount()));
+        }
+        return result;
+    }
+}
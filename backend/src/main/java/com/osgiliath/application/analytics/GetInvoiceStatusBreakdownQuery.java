@@ -1,11 +1,17 @@
 package com.osgiliath.application.analytics;
 
+import com.osgiliath.application.shared.CacheableQuery;
+import com.osgiliath.application.shared.ReportingQuery;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import java.util.Map;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /** Query to get invoice status breakdown Returns count of invoices by status */
 @Data
 @NoArgsConstructor
-public class GetInvoiceStatusBreakdownQuery {
+public class GetInvoiceStatusBreakdownQuery
+        implements CacheableQuery<Map<InvoiceStatus, Long>>,
+                ReportingQuery<Map<InvoiceStatus, Long>> {
     // No parameters needed - returns all statuses
 }
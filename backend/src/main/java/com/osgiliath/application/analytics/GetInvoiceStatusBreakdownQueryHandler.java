@@ -1,5 +1,6 @@
 package com.osgiliath.application.analytics;
 
+import com.osgiliath.application.shared.QueryHandler;
 import com.osgiliath.domain.invoice.InvoiceStatus;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -13,7 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class GetInvoiceStatusBreakdownQueryHandler {
+public class GetInvoiceStatusBreakdownQueryHandler
+        implements QueryHandler<GetInvoiceStatusBreakdownQuery, Map<InvoiceStatus, Long>> {
 
     @PersistenceContext private EntityManager entityManager;
 
@@ -21,6 +23,7 @@ public class GetInvoiceStatusBreakdownQueryHandler {
         return entityManager;
     }
 
+    @Override
     public Map<InvoiceStatus, Long> handle(GetInvoiceStatusBreakdownQuery query) {
         // Query to get count by status
         var results =
@@ -37,12 +40,23 @@ public class GetInvoiceStatusBreakdownQueryHandler {
             breakdown.put(status, 0L);
         }
 
+        // Settled invoices moved to cold storage still count
+        var archivedResults =
+                entityManager
+                        .createQuery(
+                                "SELECT a.status, COUNT(a) FROM ArchivedInvoice a GROUP BY a.status",
+                                Object[].class)
+                        .getResultList();
+
         // Fill in actual counts
         for (Object[] result : results) {
             InvoiceStatus status = (InvoiceStatus) result[0];
             Long count = (Long) result[1];
             breakdown.put(status, count);
         }
+        for (Object[] result : archivedResults) {
+            breakdown.merge((InvoiceStatus) result[0], (Long) result[1], Long::sum);
+        }
 
         return breakdown;
     }
@@ -1,5 +1,8 @@
 package com.osgiliath.application.analytics;
 
+import com.osgiliath.application.shared.CacheableQuery;
+import com.osgiliath.application.shared.ReportingQuery;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,6 +11,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class GetRevenueOverTimeQuery {
+public class GetRevenueOverTimeQuery
+        implements CacheableQuery<List<MonthlyRevenueDto>>,
+                ReportingQuery<List<MonthlyRevenueDto>> {
     private Integer months = 12; // Default to last 12 months
 }
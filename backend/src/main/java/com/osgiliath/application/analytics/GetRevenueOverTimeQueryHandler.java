@@ -1,5 +1,8 @@
 package com.osgiliath.application.analytics;
 
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.invoice.ArchivedInvoice;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceStatus;
 import com.osgiliath.infrastructure.invoice.InvoiceSpecifications;
@@ -9,6 +12,7 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -21,11 +25,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class GetRevenueOverTimeQueryHandler {
+public class GetRevenueOverTimeQueryHandler
+        implements QueryHandler<GetRevenueOverTimeQuery, List<MonthlyRevenueDto>> {
 
     private final JpaInvoiceRepository invoiceRepository;
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
     private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
 
+    @Override
     public List<MonthlyRevenueDto> handle(GetRevenueOverTimeQuery query) {
         int monthsToShow = query.getMonths();
 
@@ -48,12 +55,23 @@ public class GetRevenueOverTimeQueryHandler {
                                         (Invoice invoice) ->
                                                 YearMonth.from(invoice.getIssueDate())
                                                         .format(MONTH_FORMATTER),
+                                        HashMap::new,
                                         Collectors.reducing(
                                                 BigDecimal.ZERO,
                                                 (Invoice invoice) ->
                                                         invoice.getTotalAmount().getAmount(),
                                                 BigDecimal::add)));
 
+        // Add paid invoices that have been moved to cold storage
+        for (ArchivedInvoice archived :
+                archivedInvoiceRepository.findByStatusAndIssueDateBetween(
+                        InvoiceStatus.PAID, startDate, endDate)) {
+            revenueByMonth.merge(
+                    YearMonth.from(archived.getIssueDate()).format(MONTH_FORMATTER),
+                    archived.getTotalAmount().getAmount(),
+                    BigDecimal::add);
+        }
+
         // Generate all months in range, filling in zeros for months with no revenue
         List<MonthlyRevenueDto> result = new ArrayList<>();
         YearMonth currentMonth = YearMonth.from(startDate);
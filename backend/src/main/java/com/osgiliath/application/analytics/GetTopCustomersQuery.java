@@ -1,5 +1,8 @@
 package com.osgiliath.application.analytics;
 
+import com.osgiliath.application.shared.CacheableQuery;
+import com.osgiliath.application.shared.ReportingQuery;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,6 +14,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class GetTopCustomersQuery {
+public class GetTopCustomersQuery
+        implements CacheableQuery<List<TopCustomerDto>>, ReportingQuery<List<TopCustomerDto>> {
     private Integer limit = 10; // Default to top 10 customers
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.analytics;
 
+import com.osgiliath.application.shared.QueryHandler;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.math.BigDecimal;
@@ -16,7 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class GetTopCustomersQueryHandler {
+public class GetTopCustomersQueryHandler
+        implements QueryHandler<GetTopCustomersQuery, List<TopCustomerDto>> {
 
     @PersistenceContext private EntityManager entityManager;
 
@@ -24,20 +26,24 @@ public class GetTopCustomersQueryHandler {
         return entityManager;
     }
 
+    @Override
     public List<TopCustomerDto> handle(GetTopCustomersQuery query) {
         int limit = query.getLimit();
 
-        // Query to join invoices with customers and aggregate by customer
-        var results =
+        // Aggregate paid invoices from both the hot table and the archive, joined with customers
+        @SuppressWarnings("unchecked")
+        List<Object[]> results =
                 entityManager
-                        .createQuery(
-                                "SELECT i.customerId, c.name, SUM(i.totalAmount.amount), COUNT(i) "
-                                        + "FROM Invoice i "
-                                        + "JOIN Customer c ON i.customerId = c.id "
-                                        + "WHERE i.status = com.osgiliath.domain.invoice.InvoiceStatus.PAID "
-                                        + "GROUP BY i.customerId, c.name "
-                                        + "ORDER BY SUM(i.totalAmount.amount) DESC",
-                                Object[].class)
+                        .createNativeQuery(
+                                "SELECT p.customer_id, c.name, SUM(p.total_amount), COUNT(*) "
+                                        + "FROM (SELECT customer_id, total_amount FROM invoices "
+                                        + "      WHERE status = 'PAID' "
+                                        + "      UNION ALL "
+                                        + "      SELECT customer_id, total_amount FROM invoices_archive "
+                                        + "      WHERE status = 'PAID') p "
+                                        + "JOIN customers c ON p.customer_id = c.id "
+                                        + "GROUP BY p.customer_id, c.name "
+                                        + "ORDER BY SUM(p.total_amount) DESC")
                         .setMaxResults(limit)
                         .getResultList();
 
@@ -48,7 +54,7 @@ public class GetTopCustomersQueryHandler {
                                         (UUID) result[0], // customerId
                                         (String) result[1], // customerName
                                         (BigDecimal) result[2], // totalRevenue
-                                        (Long) result[3] // invoiceCount
+                                        ((Number) result[3]).longValue() // invoiceCount
                                         ))
                 .collect(Collectors.toList());
     }
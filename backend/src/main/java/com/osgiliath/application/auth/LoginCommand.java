@@ -1,5 +1,7 @@
 package com.osgiliath.application.auth;
 
+import com.osgiliath.application.auth.dto.LoginResponse;
+import com.osgiliath.application.shared.AccountCommand;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class LoginCommand {
+public class LoginCommand implements AccountCommand<LoginResponse> {
 
     private String username;
     private String password;
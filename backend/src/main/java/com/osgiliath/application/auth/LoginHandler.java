@@ -1,6 +1,7 @@
 package com.osgiliath.application.auth;
 
 import com.osgiliath.application.auth.dto.LoginResponse;
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.config.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,11 +15,12 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class LoginHandler {
+public class LoginHandler implements CommandHandler<LoginCommand, LoginResponse> {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
 
+    @Override
     public LoginResponse handle(LoginCommand command) {
         try {
             Authentication authentication =
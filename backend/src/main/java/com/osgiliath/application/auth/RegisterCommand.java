@@ -1,5 +1,7 @@
 package com.osgiliath.application.auth;
 
+import com.osgiliath.application.auth.dto.UserResponse;
+import com.osgiliath.application.shared.AccountCommand;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class RegisterCommand {
+public class RegisterCommand implements AccountCommand<UserResponse> {
 
     private String username;
     private String password;
@@ -1,6 +1,7 @@
 package com.osgiliath.application.auth;
 
 import com.osgiliath.application.auth.dto.UserResponse;
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.auth.User;
 import com.osgiliath.infrastructure.auth.JpaUserRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class RegisterHandler {
+public class RegisterHandler implements CommandHandler<RegisterCommand, UserResponse> {
 
     private final JpaUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional
+    @Override
     public UserResponse handle(RegisterCommand command) {
         if (userRepository.existsByUsername(command.getUsername())) {
             throw new IllegalArgumentException("Username already exists");
@@ -1,5 +1,7 @@
 package com.osgiliath.application.customer.command;
 
+import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.shared.Command;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,7 +10,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class CreateCustomerCommand {
+public class CreateCustomerCommand implements Command<CustomerResponse> {
     private String name;
     private String email;
     private String phone;
@@ -2,6 +2,8 @@ package com.osgiliath.application.customer.command;
 
 import com.osgiliath.application.customer.dto.CustomerMapper;
 import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.customer.query.CustomerSuggestionIndex;
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.customer.CustomerRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -14,12 +16,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CreateCustomerHandler {
+public class CreateCustomerHandler
+        implements CommandHandler<CreateCustomerCommand, CustomerResponse> {
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final CustomerSuggestionIndex suggestionIndex;
 
     @Transactional
+    @Override
     public CustomerResponse handle(CreateCustomerCommand command) {
         log.info("Creating customer with email: {}", command.getEmail());
 
@@ -40,6 +45,8 @@ public class CreateCustomerHandler {
         // Save to repository
         Customer savedCustomer = customerRepository.save(customer);
 
+        suggestionIndex.put(savedCustomer);
+
         log.info("Customer created successfully with ID: {}", savedCustomer.getId());
 
         return customerMapper.toResponse(savedCustomer);
@@ -1,5 +1,6 @@
 package com.osgiliath.application.customer.command;
 
+import com.osgiliath.application.shared.Command;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,6 +10,6 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class DeleteCustomerCommand {
+public class DeleteCustomerCommand implements Command<Void> {
     private UUID id;
 }
@@ -1,8 +1,11 @@
 package com.osgiliath.application.customer.command;
 
+import com.osgiliath.application.customer.query.CustomerSuggestionIndex;
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.customer.CustomerRepository;
 import com.osgiliath.domain.exceptions.CustomerHasInvoicesException;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
 import lombok.RequiredArgsConstructor;
@@ -14,13 +17,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class DeleteCustomerHandler {
+public class DeleteCustomerHandler implements CommandHandler<DeleteCustomerCommand, Void> {
 
     private final CustomerRepository customerRepository;
     private final InvoiceRepository invoiceRepository;
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
+    private final CustomerSuggestionIndex suggestionIndex;
 
     @Transactional
-    public void handle(DeleteCustomerCommand command) {
+    @Override
+    public Void handle(DeleteCustomerCommand command) {
         log.info("Deleting customer with ID: {}", command.getId());
 
         // Find existing customer
@@ -32,8 +38,9 @@ public class DeleteCustomerHandler {
                                         new DomainException(
                                                 "Customer not found with ID: " + command.getId()));
 
-        // Business rule: Cannot delete customer if they have any invoices
-        if (invoiceRepository.existsByCustomerId(command.getId())) {
+        // Business rule: Cannot delete customer if they have any invoices (including archived)
+        if (invoiceRepository.existsByCustomerId(command.getId())
+                || archivedInvoiceRepository.existsByCustomerId(command.getId())) {
             throw new CustomerHasInvoicesException(
                     "Cannot delete customer with existing invoices. Please delete or cancel all invoices first.");
         }
@@ -41,6 +48,9 @@ public class DeleteCustomerHandler {
         // Delete customer
         customerRepository.delete(customer);
 
+        suggestionIndex.remove(customer.getId());
+
         log.info("Customer deleted successfully with ID: {}", command.getId());
+        return null;
     }
 }
@@ -1,5 +1,8 @@
 package com.osgiliath.application.customer.command;
 
+import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.shared.Command;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,10 +12,13 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UpdateCustomerCommand {
+public class UpdateCustomerCommand implements Command<CustomerResponse> {
     private UUID id;
     private String name;
     private String email;
     private String phone;
     private String address;
+
+    /** Versions the client accepts, from If-Match; null to update whatever is current */
+    private Set<Long> expectedVersions;
 }
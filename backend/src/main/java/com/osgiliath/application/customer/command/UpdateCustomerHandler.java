@@ -2,8 +2,11 @@ package com.osgiliath.application.customer.command;
 
 import com.osgiliath.application.customer.dto.CustomerMapper;
 import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.customer.query.CustomerSuggestionIndex;
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.customer.CustomerRepository;
+import com.osgiliath.domain.exceptions.StaleVersionException;
 import com.osgiliath.domain.shared.DomainException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,12 +17,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class UpdateCustomerHandler {
+public class UpdateCustomerHandler
+        implements CommandHandler<UpdateCustomerCommand, CustomerResponse> {
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final CustomerSuggestionIndex suggestionIndex;
 
     @Transactional
+    @Override
     public CustomerResponse handle(UpdateCustomerCommand command) {
         log.info("Updating customer with ID: {}", command.getId());
 
@@ -32,6 +38,12 @@ public class UpdateCustomerHandler {
                                         new DomainException(
                                                 "Customer not found with ID: " + command.getId()));
 
+        if (command.getExpectedVersions() != null
+                && !command.getExpectedVersions().contains(customer.getVersion())) {
+            throw new StaleVersionException(
+                    "Customer " + command.getId() + " has changed since it was read");
+        }
+
         // Check if email is being changed to an existing email
         if (!customer.getEmailAddress().equals(command.getEmail())) {
             if (customerRepository.existsByEmail(command.getEmail())) {
@@ -46,6 +58,10 @@ public class UpdateCustomerHandler {
 
         // Save updated customer
         Customer updatedCustomer = customerRepository.save(customer);
+        // The version is bumped on flush; flush now so the response and its ETag carry it
+        customerRepository.flush();
+
+        suggestionIndex.put(updatedCustomer);
 
         log.info("Customer updated successfully with ID: {}", updatedCustomer.getId());
 
@@ -0,0 +1,26 @@
+package com.osgiliath.application.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Response DTO for one customer autocomplete suggestion */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Customer autocomplete suggestion")
+public class CustomerSuggestion {
+
+    @Schema(
+            description = "Customer unique identifier",
+            example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "Customer name", example = "John Doe")
+    private String name;
+
+    @Schema(description = "Customer email address", example = "john.doe@example.com")
+    private String email;
+}
@@ -0,0 +1,236 @@
+package com.osgiliath.application.customer.query;
+
+import com.osgiliath.application.customer.dto.CustomerSuggestion;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable prefix index over customer names and emails. Each customer keeps one normalized search
+ * text (name, then email); a key is an offset into it at the start of a name token, of the email or
+ * of the email domain. Keys are held in two parallel arrays sorted by the text from their offset,
+ * so a lookup is a binary search followed by a scan of the matching range.
+ *
+ * <p>Changes return a new index and cost a linear copy, which suits how rarely customers change.
+ */
+final class CustomerPrefixIndex {
+
+    static final CustomerPrefixIndex EMPTY = new CustomerPrefixIndex(new Entry[0], new int[0], 0);
+
+    /** Separates the name from the email so a key never runs on from one into the other */
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private static final Comparator<Key> KEY_ORDER = (a, b) -> compare(a.entry, a.offset, b);
+
+    record Entry(UUID id, String name, String email, String text, int[] offsets) {}
+
+    private record Key(Entry entry, int offset) {}
+
+    private final Entry[] entries;
+    private final int[] offsets;
+    private final int customers;
+
+    private CustomerPrefixIndex(Entry[] entries, int[] offsets, int customers) {
+        this.entries = entries;
+        this.offsets = offsets;
+        this.customers = customers;
+    }
+
+    static Entry entry(UUID id, String name, String email) {
+        String normalizedName = normalize(name);
+        String normalizedEmail = normalize(email);
+        String text = normalizedName + FIELD_SEPARATOR + normalizedEmail;
+
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < normalizedName.length(); i++) {
+            if (i == 0 || normalizedName.charAt(i - 1) == ' ') {
+                starts.add(i);
+            }
+        }
+        int emailStart = normalizedName.length() + 1;
+        starts.add(emailStart);
+        int at = email == null ? -1 : email.indexOf('@');
+        if (at > 0) {
+            int domainStart = emailStart + normalize(email.substring(0, at)).length() + 1;
+            if (domainStart > emailStart + 1 && domainStart < text.length()) {
+                starts.add(domainStart);
+            }
+        }
+        return new Entry(
+                id, name, email, text, starts.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    static CustomerPrefixIndex of(Collection<Entry> entries) {
+        List<Key> keys = new ArrayList<>();
+        for (Entry entry : entries) {
+            addKeys(keys, entry);
+        }
+        return fromSorted(sorted(keys), entries.size());
+    }
+
+    /** This index with the customer added, or replaced if it is already present */
+    CustomerPrefixIndex with(Entry entry) {
+        List<Key> added = new ArrayList<>();
+        addKeys(added, entry);
+        return merge(entry.id(), sorted(added), 1);
+    }
+
+    /** This index without the customer */
+    CustomerPrefixIndex without(UUID id) {
+        return merge(id, List.of(), 0);
+    }
+
+    /** Up to {@code limit} customers with a key starting with the normalized prefix */
+    List<CustomerSuggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        List<CustomerSuggestion> result = new ArrayList<>(Math.min(limit, 16));
+        if (normalized.isEmpty()) {
+            return result;
+        }
+        List<UUID> seen = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(normalized);
+                i < offsets.length && result.size() < limit && startsWith(i, normalized);
+                i++) {
+            Entry entry = entries[i];
+            if (!seen.contains(entry.id())) {
+                seen.add(entry.id());
+                result.add(new CustomerSuggestion(entry.id(), entry.name(), entry.email()));
+            }
+        }
+        return result;
+    }
+
+    int customers() {
+        return customers;
+    }
+
+    int keys() {
+        return offsets.length;
+    }
+
+    /**
+     * Lower-case, strip accents and collapse anything that is not a letter or digit into single
+     * spaces, so "Zoë O'Brien" and "zoe o brien" index and match alike
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder result = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && result.length() > 0) {
+                    result.append(' ');
+                }
+                pendingSpace = false;
+                result.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return result.toString();
+    }
+
+    private CustomerPrefixIndex merge(UUID replacedId, List<Key> added, int addedCustomers) {
+        Entry[] mergedEntries = new Entry[offsets.length + added.size()];
+        int[] mergedOffsets = new int[mergedEntries.length];
+        boolean replaced = false;
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            if (entries[i].id().equals(replacedId)) {
+                replaced = true;
+                continue;
+            }
+            while (next < added.size() && compare(entries[i], offsets[i], added.get(next)) > 0) {
+                mergedEntries[size] = added.get(next).entry;
+                mergedOffsets[size++] = added.get(next++).offset;
+            }
+            mergedEntries[size] = entries[i];
+            mergedOffsets[size++] = offsets[i];
+        }
+        while (next < added.size()) {
+            mergedEntries[size] = added.get(next).entry;
+            mergedOffsets[size++] = added.get(next++).offset;
+        }
+        return new CustomerPrefixIndex(
+                Arrays.copyOf(mergedEntries, size),
+                Arrays.copyOf(mergedOffsets, size),
+                customers - (replaced ? 1 : 0) + addedCustomers);
+    }
+
+    private static void addKeys(List<Key> keys, Entry entry) {
+        for (int offset : entry.offsets()) {
+            keys.add(new Key(entry, offset));
+        }
+    }
+
+    private static List<Key> sorted(List<Key> keys) {
+        keys.sort(KEY_ORDER);
+        return keys;
+    }
+
+    private static CustomerPrefixIndex fromSorted(List<Key> keys, int customers) {
+        Entry[] sortedEntries = new Entry[keys.size()];
+        int[] sortedOffsets = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            sortedEntries[i] = keys.get(i).entry;
+            sortedOffsets[i] = keys.get(i).offset;
+        }
+        return new CustomerPrefixIndex(sortedEntries, sortedOffsets, customers);
+    }
+
+    /** First key not ordered before the prefix */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = offsets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToPrefix(entries[mid].text(), offsets[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean startsWith(int key, String prefix) {
+        return entries[key].text().startsWith(prefix, offsets[key]);
+    }
+
+    private static int compare(Entry entry, int offset, Key other) {
+        String text = entry.text();
+        String otherText = other.entry.text();
+        int length = Math.min(text.length() - offset, otherText.length() - other.offset);
+        for (int i = 0; i < length; i++) {
+            int diff = text.charAt(offset + i) - otherText.charAt(other.offset + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        int diff = (text.length() - offset) - (otherText.length() - other.offset);
+        return diff != 0 ? diff : entry.id().compareTo(other.entry.id());
+    }
+
+    private static int compareToPrefix(String text, int offset, String prefix) {
+        int length = Math.min(text.length() - offset, prefix.length());
+        for (int i = 0; i < length; i++) {
+            int diff = text.charAt(offset + i) - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (text.length() - offset) - prefix.length();
+    }
+}
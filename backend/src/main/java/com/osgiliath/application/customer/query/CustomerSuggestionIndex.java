@@ -0,0 +1,134 @@
+package com.osgiliath.application.customer.query;
+
+import com.osgiliath.application.customer.dto.CustomerSuggestion;
+import com.osgiliath.domain.customer.Customer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process {@link CustomerPrefixIndex} for customer autocomplete. Loaded on startup, updated by
+ * the customer command handlers once their transaction commits, and reloaded periodically to pick
+ * up changes made on other nodes or directly in the database.
+ */
+@Component
+@Slf4j
+public class CustomerSuggestionIndex {
+
+    private static final String LOAD_SQL = "SELECT id, name, email_address FROM customers";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile CustomerPrefixIndex index = CustomerPrefixIndex.EMPTY;
+
+    /** Changes committed while a reload is reading the table, replayed on top of its result */
+    private Map<UUID, CustomerPrefixIndex.Entry> changedDuringReload;
+
+    public CustomerSuggestionIndex(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("customers.suggest.indexed", this, self -> self.index.customers())
+                .description("Customers in the autocomplete index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /** Up to {@code limit} customers whose name, a word of it, email or email domain starts so */
+    public List<CustomerSuggestion> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit);
+    }
+
+    /** Index the customer as saved, once the current transaction (if any) commits */
+    public void put(Customer customer) {
+        CustomerPrefixIndex.Entry entry =
+                CustomerPrefixIndex.entry(
+                        customer.getId(), customer.getName(), customer.getEmailAddress());
+        afterCommit(() -> apply(entry.id(), entry));
+    }
+
+    /** Drop the customer, once the current transaction (if any) commits */
+    public void remove(UUID customerId) {
+        afterCommit(() -> apply(customerId, null));
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.customer-suggest.reload-interval-ms:300000}",
+            initialDelayString = "${app.customer-suggest.reload-interval-ms:300000}")
+    public void reload() {
+        long startedAt = System.nanoTime();
+        synchronized (this) {
+            changedDuringReload = new LinkedHashMap<>();
+        }
+        List<CustomerPrefixIndex.Entry> entries = new ArrayList<>();
+        try {
+            jdbcTemplate.query(
+                    LOAD_SQL,
+                    rs -> {
+                        entries.add(
+                                CustomerPrefixIndex.entry(
+                                        rs.getObject("id", UUID.class),
+                                        rs.getString("name"),
+                                        rs.getString("email_address")));
+                    });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringReload = null;
+            }
+            throw e;
+        }
+
+        CustomerPrefixIndex loaded = CustomerPrefixIndex.of(entries);
+        synchronized (this) {
+            for (Map.Entry<UUID, CustomerPrefixIndex.Entry> change :
+                    changedDuringReload.entrySet()) {
+                loaded =
+                        change.getValue() == null
+                                ? loaded.without(change.getKey())
+                                : loaded.with(change.getValue());
+            }
+            changedDuringReload = null;
+            index = loaded;
+        }
+        log.debug(
+                "Loaded {} customers ({} keys) into the suggestion index in {} ms",
+                loaded.customers(),
+                loaded.keys(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private synchronized void apply(UUID customerId, CustomerPrefixIndex.Entry entry) {
+        index = entry == null ? index.without(customerId) : index.with(entry);
+        if (changedDuringReload != null) {
+            changedDuringReload.put(customerId, entry);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+}
@@ -1,5 +1,7 @@
 package com.osgiliath.application.customer.query;
 
+import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.shared.Query;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,6 +11,6 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class GetCustomerByIdQuery {
+public class GetCustomerByIdQuery implements Query<CustomerResponse> {
     private UUID id;
 }
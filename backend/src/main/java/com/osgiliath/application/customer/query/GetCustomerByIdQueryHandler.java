@@ -2,6 +2,7 @@ package com.osgiliath.application.customer.query;
 
 import com.osgiliath.application.customer.dto.CustomerMapper;
 import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.shared.QueryHandler;
 import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.customer.CustomerRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -14,12 +15,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GetCustomerByIdQueryHandler {
+public class GetCustomerByIdQueryHandler
+        implements QueryHandler<GetCustomerByIdQuery, CustomerResponse> {
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
 
     @Transactional(readOnly = true)
+    @Override
     public CustomerResponse handle(GetCustomerByIdQuery query) {
         log.debug("Fetching customer with ID: {}", query.getId());
 
@@ -0,0 +1,16 @@
+package com.osgiliath.application.customer.query;
+
+import com.osgiliath.application.shared.Query;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Query for the current version of a customer, empty if there is no such customer */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetCustomerVersionQuery implements Query<Optional<Long>> {
+    private UUID id;
+}
@@ -0,0 +1,23 @@
+package com.osgiliath.application.customer.query;
+
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.customer.CustomerRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Handler for GetCustomerVersionQuery Reads only the version column by primary key */
+@Service
+@RequiredArgsConstructor
+public class GetCustomerVersionQueryHandler
+        implements QueryHandler<GetCustomerVersionQuery, Optional<Long>> {
+
+    private final CustomerRepository customerRepository;
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Long> handle(GetCustomerVersionQuery query) {
+        return customerRepository.findVersionById(query.getId());
+    }
+}
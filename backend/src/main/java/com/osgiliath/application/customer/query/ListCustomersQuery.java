@@ -1,17 +1,25 @@
 package com.osgiliath.application.customer.query;
 
+import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.shared.Query;
+import com.osgiliath.application.shared.TotalMode;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
 
-/** Query to retrieve a paginated list of customers */
+/**
+ * Query to retrieve a paginated list of customers. The result is a Page when a total was requested
+ * and a Slice (content plus whether there is a next page) otherwise.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ListCustomersQuery {
+public class ListCustomersQuery implements Query<Slice<CustomerResponse>> {
     private int page = 0;
     private int size = 20;
     private String sortBy = "createdAt";
     private String sortDirection = "DESC";
     private String search; // Optional search term for name or email
+    private TotalMode total = TotalMode.EXACT;
 }
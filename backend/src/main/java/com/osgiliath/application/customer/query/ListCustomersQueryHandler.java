@@ -2,13 +2,17 @@ package com.osgiliath.application.customer.query;
 
 import com.osgiliath.application.customer.dto.CustomerMapper;
 import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.shared.QueryHandler;
 import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.infrastructure.customer.CustomerSearch;
 import com.osgiliath.infrastructure.customer.JpaCustomerRepository;
+import com.osgiliath.infrastructure.pagination.PageTotals;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,13 +21,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class ListCustomersQueryHandler {
+public class ListCustomersQueryHandler
+        implements QueryHandler<ListCustomersQuery, Slice<CustomerResponse>> {
 
     private final JpaCustomerRepository customerRepository;
+    private final CustomerSearch customerSearch;
     private final CustomerMapper customerMapper;
+    private final PageTotals pageTotals;
 
     @Transactional(readOnly = true)
-    public Page<CustomerResponse> handle(ListCustomersQuery query) {
+    @Override
+    public Slice<CustomerResponse> handle(ListCustomersQuery query) {
         log.debug(
                 "Fetching customers - page: {}, size: {}, search: {}",
                 query.getPage(),
@@ -41,15 +49,28 @@ public class ListCustomersQueryHandler {
         // Create pageable
         Pageable pageable = PageRequest.of(query.getPage(), query.getSize(), sort);
 
-        // Fetch customers with or without search
-        Page<Customer> customersPage;
+        // Fetch one row past the page instead of counting; count only if a total was requested
+        Slice<Customer> customers;
         if (query.getSearch() != null && !query.getSearch().trim().isEmpty()) {
-            customersPage = customerRepository.searchByNameOrEmail(query.getSearch(), pageable);
+            String search = query.getSearch().trim();
+            customers =
+                    pageTotals.withTotal(
+                            customerSearch.search(search, pageable),
+                            query.getTotal(),
+                            "customers",
+                            search.toLowerCase(Locale.ROOT),
+                            () -> customerSearch.count(search));
         } else {
-            customersPage = customerRepository.findAll(pageable);
+            customers =
+                    pageTotals.withTotal(
+                            customerRepository.findSliceBy(pageable),
+                            query.getTotal(),
+                            "customers",
+                            null,
+                            customerRepository::count);
         }
 
         // Map to response DTOs
-        return customersPage.map(customerMapper::toResponse);
+        return customers.map(customerMapper::toResponse);
     }
 }
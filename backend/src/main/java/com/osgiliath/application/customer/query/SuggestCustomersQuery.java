@@ -0,0 +1,17 @@
+package com.osgiliath.application.customer.query;
+
+import com.osgiliath.application.customer.dto.CustomerSuggestion;
+import com.osgiliath.application.shared.Query;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Query for customer autocomplete suggestions, served from the in-memory prefix index */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestCustomersQuery implements Query<List<CustomerSuggestion>> {
+    private String prefix;
+    private Integer limit = 10;
+}
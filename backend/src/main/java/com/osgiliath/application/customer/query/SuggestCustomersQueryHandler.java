@@ -0,0 +1,30 @@
+package com.osgiliath.application.customer.query;
+
+import com.osgiliath.application.customer.dto.CustomerSuggestion;
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.shared.DomainException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/** Handler for SuggestCustomersQuery Reads the suggestion index without touching the database */
+@Service
+@RequiredArgsConstructor
+public class SuggestCustomersQueryHandler
+        implements QueryHandler<SuggestCustomersQuery, List<CustomerSuggestion>> {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final CustomerSuggestionIndex suggestionIndex;
+
+    @Override
+    public List<CustomerSuggestion> handle(SuggestCustomersQuery query) {
+        if (query.getLimit() == null || query.getLimit() < 1 || query.getLimit() > MAX_LIMIT) {
+            throw new DomainException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (query.getPrefix() == null || query.getPrefix().isBlank()) {
+            return List.of();
+        }
+        return suggestionIndex.suggest(query.getPrefix(), query.getLimit());
+    }
+}
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.AggregateCommand;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,9 +8,14 @@ import lombok.Getter;
 /** Command to add a line item to an invoice (DRAFT only) */
 @Getter
 @AllArgsConstructor
-public class AddLineItemCommand {
+public class AddLineItemCommand implements AggregateCommand<LineItemResponse> {
     private final UUID invoiceId;
     private final String description;
     private final String quantity;
     private final String unitPrice;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
 }
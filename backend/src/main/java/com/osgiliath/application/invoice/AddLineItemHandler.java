@@ -1,11 +1,11 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
 import com.osgiliath.domain.shared.Money;
 import java.math.BigDecimal;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,12 +13,14 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for AddLineItemCommand Adds a line item to an invoice (DRAFT status only) */
 @Service
 @RequiredArgsConstructor
-public class AddLineItemHandler {
+public class AddLineItemHandler implements CommandHandler<AddLineItemCommand, LineItemResponse> {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceMapper invoiceMapper;
 
     @Transactional
-    public UUID handle(AddLineItemCommand command) {
+    @Override
+    public LineItemResponse handle(AddLineItemCommand command) {
         Invoice invoice =
                 invoiceRepository
                         .findById(command.getInvoiceId())
@@ -33,7 +35,8 @@ public class AddLineItemHandler {
                 Money.of(new BigDecimal(command.getUnitPrice())));
 
         Invoice saved = invoiceRepository.save(invoice);
-        // Return the ID of the newly added line item (last one in the list)
-        return saved.getLineItems().get(saved.getLineItems().size() - 1).getId();
+        // The newly added line item is the last one in the list
+        return invoiceMapper.toLineItemResponse(
+                saved.getLineItems().get(saved.getLineItems().size() - 1));
     }
 }
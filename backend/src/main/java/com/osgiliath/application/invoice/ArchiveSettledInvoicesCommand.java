@@ -0,0 +1,17 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.Command;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Command to move PAID and CANCELLED invoices last modified before settledBefore into cold storage,
+ * batchSize invoices per transaction
+ */
+@AllArgsConstructor
+@Getter
+public class ArchiveSettledInvoicesCommand implements Command<Integer> {
+    private final LocalDateTime settledBefore;
+    private final int batchSize;
+}
@@ -0,0 +1,49 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.CommandHandler;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
+import com.osgiliath.domain.shared.DomainException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Handler for ArchiveSettledInvoicesCommand. Each chunk is moved in its own transaction so locks
+ * stay short and a failure only rolls back the current chunk.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveSettledInvoicesHandler
+        implements CommandHandler<ArchiveSettledInvoicesCommand, Integer> {
+
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public Integer handle(ArchiveSettledInvoicesCommand command) {
+        if (command.getBatchSize() <= 0) {
+            throw new DomainException("Archive batch size must be greater than zero");
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+        int moved;
+        do {
+            moved =
+                    transactionTemplate.execute(
+                            status ->
+                                    archivedInvoiceRepository.archiveSettledInvoices(
+                                            command.getSettledBefore(), command.getBatchSize()));
+            total += moved;
+            if (moved > 0) {
+                log.debug("Archived chunk of {} invoices ({} so far)", moved, total);
+            }
+        } while (moved == command.getBatchSize());
+
+        log.info("Archived {} settled invoices", total);
+        return total;
+    }
+}
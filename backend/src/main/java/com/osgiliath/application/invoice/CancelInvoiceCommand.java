@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.AggregateCommand;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,7 +8,12 @@ import lombok.Getter;
 /** Command to cancel an invoice Can be executed on DRAFT or SENT invoices */
 @AllArgsConstructor
 @Getter
-public class CancelInvoiceCommand {
+public class CancelInvoiceCommand implements AggregateCommand<Void> {
     private final UUID invoiceId;
     private final String reason; // Optional cancellation reason
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -13,12 +14,13 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @RequiredArgsConstructor
-public class CancelInvoiceHandler {
+public class CancelInvoiceHandler implements CommandHandler<CancelInvoiceCommand, Void> {
 
     private final InvoiceRepository invoiceRepository;
 
     @Transactional
-    public void handle(CancelInvoiceCommand command) {
+    @Override
+    public Void handle(CancelInvoiceCommand command) {
         Invoice invoice =
                 invoiceRepository
                         .findById(command.getInvoiceId())
@@ -34,5 +36,6 @@ public class CancelInvoiceHandler {
 
         // Note: The reason field from command could be logged or stored in an audit trail
         // For now, it's available in the command but not persisted
+        return null;
     }
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.Command;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -9,7 +10,7 @@ import lombok.Getter;
 /** Command to create a new invoice with line items */
 @Getter
 @AllArgsConstructor
-public class CreateInvoiceCommand {
+public class CreateInvoiceCommand implements Command<InvoiceResponse> {
     private final UUID customerId;
     private final LocalDate issueDate;
     private final LocalDate dueDate;
@@ -1,31 +1,41 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
+import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.customer.CustomerRepository;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
 import com.osgiliath.domain.shared.Money;
 import java.math.BigDecimal;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Handler for CreateInvoiceCommand Creates a new invoice with line items */
+/**
+ * Handler for CreateInvoiceCommand Creates a new invoice with line items and returns it as saved,
+ * so the caller does not have to read it back
+ */
 @Service
 @RequiredArgsConstructor
-public class CreateInvoiceHandler {
+public class CreateInvoiceHandler implements CommandHandler<CreateInvoiceCommand, InvoiceResponse> {
 
     private final InvoiceRepository invoiceRepository;
     private final CustomerRepository customerRepository;
     private final InvoiceNumberGenerator invoiceNumberGenerator;
+    private final InvoiceMapper invoiceMapper;
 
     @Transactional
-    public UUID handle(CreateInvoiceCommand command) {
+    @Override
+    public InvoiceResponse handle(CreateInvoiceCommand command) {
         // Validate customer exists
-        if (!customerRepository.findById(command.getCustomerId()).isPresent()) {
-            throw new DomainException("Customer not found: " + command.getCustomerId());
-        }
+        Customer customer =
+                customerRepository
+                        .findById(command.getCustomerId())
+                        .orElseThrow(
+                                () ->
+                                        new DomainException(
+                                                "Customer not found: " + command.getCustomerId()));
 
         // Generate invoice number
         String invoiceNumber = invoiceNumberGenerator.generate(command.getIssueDate());
@@ -50,6 +60,6 @@ public class CreateInvoiceHandler {
 
         // Save and return
         Invoice saved = invoiceRepository.save(invoice);
-        return saved.getId();
+        return invoiceMapper.toResponse(saved, customer);
     }
 }
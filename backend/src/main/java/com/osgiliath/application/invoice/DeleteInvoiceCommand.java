@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.AggregateCommand;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,6 +8,11 @@ import lombok.Getter;
 /** Command to delete an invoice (DRAFT status only) */
 @AllArgsConstructor
 @Getter
-public class DeleteInvoiceCommand {
+public class DeleteInvoiceCommand implements AggregateCommand<Void> {
     private final UUID invoiceId;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
 }
@@ -1,8 +1,8 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
-import com.osgiliath.domain.invoice.InvoiceStatus;
 import com.osgiliath.domain.shared.DomainException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,12 +11,13 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for DeleteInvoiceCommand Deletes an invoice (DRAFT status only) */
 @Service
 @RequiredArgsConstructor
-public class DeleteInvoiceHandler {
+public class DeleteInvoiceHandler implements CommandHandler<DeleteInvoiceCommand, Void> {
 
     private final InvoiceRepository invoiceRepository;
 
     @Transactional
-    public void handle(DeleteInvoiceCommand command) {
+    @Override
+    public Void handle(DeleteInvoiceCommand command) {
         Invoice invoice =
                 invoiceRepository
                         .findById(command.getInvoiceId())
@@ -25,10 +26,8 @@ public class DeleteInvoiceHandler {
                                         new DomainException(
                                                 "Invoice not found: " + command.getInvoiceId()));
 
-        if (invoice.getStatus() != InvoiceStatus.DRAFT) {
-            throw new DomainException("Can only delete draft invoices");
-        }
-
+        invoice.discard();
         invoiceRepository.delete(invoice);
+        return null;
     }
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.ReportingQuery;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,6 +8,6 @@ import lombok.Getter;
 /** Query to export an invoice as PDF */
 @Getter
 @AllArgsConstructor
-public class ExportInvoiceToPdfQuery {
+public class ExportInvoiceToPdfQuery implements ReportingQuery<byte[]> {
     private final UUID invoiceId;
 }
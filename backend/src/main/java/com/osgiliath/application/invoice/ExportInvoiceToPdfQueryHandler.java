@@ -9,12 +9,16 @@ import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
+import com.osgiliath.application.shared.QueryHandler;
 import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.customer.CustomerRepository;
+import com.osgiliath.domain.invoice.ArchivedInvoice;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.invoice.LineItem;
 import com.osgiliath.domain.shared.DomainException;
+import com.osgiliath.infrastructure.profiling.PdfRenderEvent;
 import java.io.ByteArrayOutputStream;
 import java.time.format.DateTimeFormatter;
 import lombok.RequiredArgsConstructor;
@@ -26,9 +30,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class ExportInvoiceToPdfQueryHandler {
+public class ExportInvoiceToPdfQueryHandler
+        implements QueryHandler<ExportInvoiceToPdfQuery, byte[]> {
 
     private final InvoiceRepository invoiceRepository;
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
     private final CustomerRepository customerRepository;
     private final com.osgiliath.domain.payment.PaymentRepository paymentRepository;
 
@@ -36,13 +42,19 @@ public class ExportInvoiceToPdfQueryHandler {
             DateTimeFormatter.ofPattern("MMM dd, yyyy");
 
     @Transactional(readOnly = true)
+    @Override
     public byte[] handle(ExportInvoiceToPdfQuery query) {
         log.debug("Generating PDF for invoice: {}", query.getInvoiceId());
 
-        // Fetch invoice with line items
+        // Fetch invoice with line items (settled invoices may live in the archive)
         Invoice invoice =
                 invoiceRepository
                         .findById(query.getInvoiceId())
+                        .or(
+                                () ->
+                                        archivedInvoiceRepository
+                                                .findById(query.getInvoiceId())
+                                                .map(ArchivedInvoice::toInvoice))
                         .orElseThrow(
                                 () ->
                                         new DomainException(
@@ -57,23 +69,38 @@ public class ExportInvoiceToPdfQueryHandler {
                                         new DomainException(
                                                 "Customer not found: " + invoice.getCustomerId()));
 
+        // Fetch payments for this invoice
+        var payments = paymentRepository.findByInvoiceId(invoice.getId());
+
+        PdfRenderEvent event = new PdfRenderEvent();
+        event.begin();
         try {
-            return generatePdf(invoice, customer);
+            byte[] pdf = generatePdf(invoice, customer, payments);
+            event.end();
+            if (event.shouldCommit()) {
+                event.invoiceId = invoice.getId().toString();
+                event.lineItems = invoice.getLineItems().size();
+                event.payments = payments.size();
+                event.bytes = pdf.length;
+                event.commit();
+            }
+            return pdf;
         } catch (Exception e) {
             log.error("Error generating PDF for invoice: {}", query.getInvoiceId(), e);
             throw new DomainException("Failed to generate PDF: " + e.getMessage());
         }
     }
 
-    private byte[] generatePdf(Invoice invoice, Customer customer) throws Exception {
+    private byte[] generatePdf(
+            Invoice invoice,
+            Customer customer,
+            java.util.List<com.osgiliath.domain.payment.Payment> payments)
+            throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PdfWriter writer = new PdfWriter(baos);
         PdfDocument pdfDoc = new PdfDocument(writer);
         Document document = new Document(pdfDoc);
 
-        // Fetch payments for this invoice
-        var payments = paymentRepository.findByInvoiceId(invoice.getId());
-
         // Add company header
         addHeader(document);
 
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.Query;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,6 +8,6 @@ import lombok.Getter;
 /** Query to get an invoice's balance information */
 @Getter
 @AllArgsConstructor
-public class GetInvoiceBalanceQuery {
+public class GetInvoiceBalanceQuery implements Query<InvoiceBalanceResponse> {
     private final UUID invoiceId;
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.QueryHandler;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -10,11 +11,13 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for GetInvoiceBalanceQuery Returns balance information for an invoice */
 @Service
 @RequiredArgsConstructor
-public class GetInvoiceBalanceQueryHandler {
+public class GetInvoiceBalanceQueryHandler
+        implements QueryHandler<GetInvoiceBalanceQuery, InvoiceBalanceResponse> {
 
     private final InvoiceRepository invoiceRepository;
 
     @Transactional(readOnly = true)
+    @Override
     public InvoiceBalanceResponse handle(GetInvoiceBalanceQuery query) {
         Invoice invoice =
                 invoiceRepository
@@ -24,13 +27,6 @@ public class GetInvoiceBalanceQueryHandler {
                                         new DomainException(
                                                 "Invoice not found: " + query.getInvoiceId()));
 
-        return InvoiceBalanceResponse.builder()
-                .invoiceId(invoice.getId())
-                .invoiceNumber(invoice.getInvoiceNumber())
-                .status(invoice.getStatus())
-                .totalAmount(invoice.getTotalAmount().getAmount())
-                .paidAmount(invoice.getTotalAmount().subtract(invoice.getBalanceDue()).getAmount())
-                .balanceDue(invoice.getBalanceDue().getAmount())
-                .build();
+        return InvoiceBalanceResponse.of(invoice);
     }
 }
@@ -1,5 +1,7 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.Query;
+import com.osgiliath.domain.invoice.Invoice;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,6 +9,6 @@ import lombok.Getter;
 /** Query to get an invoice by ID with line items and customer data */
 @AllArgsConstructor
 @Getter
-public class GetInvoiceByIdQuery {
+public class GetInvoiceByIdQuery implements Query<Invoice> {
     private final UUID invoiceId;
 }
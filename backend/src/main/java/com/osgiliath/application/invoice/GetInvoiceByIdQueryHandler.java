@@ -1,5 +1,8 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.invoice.ArchivedInvoice;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -7,17 +10,27 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Handler for GetInvoiceByIdQuery Retrieves an invoice with eager-loaded line items */
+/**
+ * Handler for GetInvoiceByIdQuery Retrieves an invoice with eager-loaded line items, falling back
+ * to the archive for settled invoices that have been moved to cold storage
+ */
 @Service
 @RequiredArgsConstructor
-public class GetInvoiceByIdQueryHandler {
+public class GetInvoiceByIdQueryHandler implements QueryHandler<GetInvoiceByIdQuery, Invoice> {
 
     private final InvoiceRepository invoiceRepository;
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
 
     @Transactional(readOnly = true)
+    @Override
     public Invoice handle(GetInvoiceByIdQuery query) {
         return invoiceRepository
                 .findById(query.getInvoiceId())
+                .or(
+                        () ->
+                                archivedInvoiceRepository
+                                        .findById(query.getInvoiceId())
+                                        .map(ArchivedInvoice::toInvoice))
                 .orElseThrow(
                         () -> new DomainException("Invoice not found: " + query.getInvoiceId()));
     }
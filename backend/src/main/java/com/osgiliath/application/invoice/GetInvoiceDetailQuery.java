@@ -0,0 +1,13 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.Query;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Query for everything the invoice detail page shows: invoice, customer, payments and balance */
+@AllArgsConstructor
+@Getter
+public class GetInvoiceDetailQuery implements Query<InvoiceDetailResponse> {
+    private final UUID invoiceId;
+}
@@ -0,0 +1,83 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.customer.dto.CustomerMapper;
+import com.osgiliath.application.payment.dto.PaymentMapper;
+import com.osgiliath.application.shared.ParallelReads;
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.customer.CustomerRepository;
+import com.osgiliath.domain.invoice.ArchivedInvoice;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.invoice.InvoiceRepository;
+import com.osgiliath.domain.payment.Payment;
+import com.osgiliath.domain.payment.PaymentRepository;
+import com.osgiliath.domain.shared.DomainException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Handler for GetInvoiceDetailQuery Assembles the invoice detail view from three reads that only
+ * need the invoice ID, run side by side: the invoice with its line items, its payments, and its
+ * customer (found through the active or archived invoice by subquery). The balance is derived from
+ * the invoice. Not transactional itself, since each read takes its own connection.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetInvoiceDetailQueryHandler
+        implements QueryHandler<GetInvoiceDetailQuery, InvoiceDetailResponse> {
+
+    private final InvoiceRepository invoiceRepository;
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
+    private final PaymentRepository paymentRepository;
+    private final CustomerRepository customerRepository;
+    private final ParallelReads parallelReads;
+    private final InvoiceMapper invoiceMapper;
+    private final CustomerMapper customerMapper;
+    private final PaymentMapper paymentMapper;
+
+    @Override
+    public InvoiceDetailResponse handle(GetInvoiceDetailQuery query) {
+        UUID invoiceId = query.getInvoiceId();
+        CompletableFuture<List<Payment>> payments =
+                parallelReads.submit(() -> paymentRepository.findByInvoiceId(invoiceId));
+        CompletableFuture<Optional<Customer>> customer =
+                parallelReads.submit(() -> customerRepository.findByInvoiceId(invoiceId));
+
+        Invoice invoice;
+        try {
+            invoice = parallelReads.run(() -> findInvoice(invoiceId));
+        } catch (RuntimeException e) {
+            payments.cancel(false);
+            customer.cancel(false);
+            throw e;
+        }
+
+        Customer owner = ParallelReads.join(customer).orElse(null);
+
+        return InvoiceDetailResponse.builder()
+                .invoice(invoiceMapper.toResponse(invoice, owner))
+                .customer(owner != null ? customerMapper.toResponse(owner) : null)
+                .payments(
+                        ParallelReads.join(payments).stream()
+                                .map(paymentMapper::toResponse)
+                                .toList())
+                .balance(InvoiceBalanceResponse.of(invoice))
+                .build();
+    }
+
+    private Invoice findInvoice(UUID invoiceId) {
+        return invoiceRepository
+                .findById(invoiceId)
+                .or(
+                        () ->
+                                archivedInvoiceRepository
+                                        .findById(invoiceId)
+                                        .map(ArchivedInvoice::toInvoice))
+                .orElseThrow(() -> new DomainException("Invoice not found: " + invoiceId));
+    }
+}
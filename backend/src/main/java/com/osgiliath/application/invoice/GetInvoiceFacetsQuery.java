@@ -0,0 +1,20 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.Query;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Query for per-status invoice counts and outstanding balances under the invoice list's filters.
+ * The status filter is deliberately not part of it, so every status tab gets its count.
+ */
+@AllArgsConstructor
+@Getter
+public class GetInvoiceFacetsQuery implements Query<List<InvoiceStatusFacet>> {
+    private final UUID customerId;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+}
@@ -0,0 +1,72 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.infrastructure.invoice.InvoiceSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handler for GetInvoiceFacetsQuery Counts invoices and sums their balance due per status in one
+ * grouped query over the filtered set. Statuses without invoices are reported with zeros, in
+ * InvoiceStatus order.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetInvoiceFacetsQueryHandler
+        implements QueryHandler<GetInvoiceFacetsQuery, List<InvoiceStatusFacet>> {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<InvoiceStatusFacet> handle(GetInvoiceFacetsQuery query) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = criteriaBuilder.createTupleQuery();
+        Root<Invoice> root = criteria.from(Invoice.class);
+        Expression<InvoiceStatus> status = root.get("status");
+        Expression<BigDecimal> balanceDue =
+                root.get("balanceDue").get("amount").as(BigDecimal.class);
+        criteria.multiselect(status, criteriaBuilder.count(root), criteriaBuilder.sum(balanceDue))
+                .where(
+                        InvoiceSpecifications.withFilters(
+                                        null,
+                                        query.getCustomerId(),
+                                        query.getFromDate(),
+                                        query.getToDate())
+                                .toPredicate(root, criteria, criteriaBuilder))
+                .groupBy(status);
+
+        Map<InvoiceStatus, Tuple> rows = new EnumMap<>(InvoiceStatus.class);
+        for (Tuple row : entityManager.createQuery(criteria).getResultList()) {
+            rows.put(row.get(0, InvoiceStatus.class), row);
+        }
+        return Arrays.stream(InvoiceStatus.values())
+                .map(
+                        value -> {
+                            Tuple row = rows.get(value);
+                            return InvoiceStatusFacet.builder()
+                                    .status(value)
+                                    .count(row == null ? 0 : row.get(1, Long.class))
+                                    .balanceDue(
+                                            row == null
+                                                    ? BigDecimal.ZERO
+                                                    : row.get(2, BigDecimal.class))
+                                    .build();
+                        })
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.Query;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Query for an invoice's InvoiceResponse already serialized to JSON */
+@AllArgsConstructor
+@Getter
+public class GetInvoiceJsonQuery implements Query<InvoiceJson> {
+    private final UUID invoiceId;
+}
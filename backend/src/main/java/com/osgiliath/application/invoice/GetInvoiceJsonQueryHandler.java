@@ -0,0 +1,77 @@
+package com.osgiliath.application.invoice;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.customer.CustomerRepository;
+import com.osgiliath.domain.invoice.ArchivedInvoice;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.invoice.InvoiceRepository;
+import com.osgiliath.domain.invoice.InvoiceVersions;
+import com.osgiliath.domain.shared.DomainException;
+import com.osgiliath.infrastructure.invoice.InvoiceJsonCache;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handler for GetInvoiceJsonQuery PAID and CANCELLED invoices are served from {@link
+ * InvoiceJsonCache} after a single version check, skipping the invoice and customer reads, the
+ * mapper and Jackson. Other invoices are rendered as before. The versions cached with the JSON are
+ * those of the very rows it was rendered from, so a concurrent write can only make an entry stale,
+ * never wrong.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetInvoiceJsonQueryHandler implements QueryHandler<GetInvoiceJsonQuery, InvoiceJson> {
+
+    private final InvoiceRepository invoiceRepository;
+    private final CustomerRepository customerRepository;
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
+    private final InvoiceMapper invoiceMapper;
+    private final InvoiceJsonCache jsonCache;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    @Override
+    public InvoiceJson handle(GetInvoiceJsonQuery query) {
+        UUID id = query.getInvoiceId();
+        InvoiceJsonCache.Entry cached =
+                jsonCache.get(id, () -> invoiceRepository.findVersionsById(id));
+        if (cached != null) {
+            return InvoiceJson.gzipped(cached.versions(), cached.gzip());
+        }
+
+        // Archived invoices are not cached: their versions cannot be checked against live rows
+        Optional<Invoice> active = invoiceRepository.findById(id);
+        Invoice invoice =
+                active.or(
+                                () ->
+                                        archivedInvoiceRepository
+                                                .findById(id)
+                                                .map(ArchivedInvoice::toInvoice))
+                        .orElseThrow(() -> new DomainException("Invoice not found: " + id));
+        Customer customer = customerRepository.findById(invoice.getCustomerId()).orElse(null);
+        byte[] json = serialize(invoiceMapper.toResponse(invoice, customer));
+        InvoiceVersions versions =
+                new InvoiceVersions(
+                        invoice.getVersion(), customer != null ? customer.getVersion() : null);
+
+        if (active.isPresent() && customer != null && invoice.getStatus().isTerminal()) {
+            jsonCache.put(id, versions, json);
+        }
+        return InvoiceJson.plain(versions, json);
+    }
+
+    private byte[] serialize(InvoiceResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize invoice " + response.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.Query;
+import com.osgiliath.domain.invoice.InvoiceVersions;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Query for the current versions of an invoice and its customer, empty if there is no active
+ * invoice by that ID
+ */
+@AllArgsConstructor
+@Getter
+public class GetInvoiceVersionsQuery implements Query<Optional<InvoiceVersions>> {
+    private final UUID invoiceId;
+}
@@ -0,0 +1,27 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.invoice.InvoiceRepository;
+import com.osgiliath.domain.invoice.InvoiceVersions;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handler for GetInvoiceVersionsQuery Reads only the two version columns by primary key, so
+ * answering a conditional GET costs one indexed join and no line items
+ */
+@Service
+@RequiredArgsConstructor
+public class GetInvoiceVersionsQueryHandler
+        implements QueryHandler<GetInvoiceVersionsQuery, Optional<InvoiceVersions>> {
+
+    private final InvoiceRepository invoiceRepository;
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<InvoiceVersions> handle(GetInvoiceVersionsQuery query) {
+        return invoiceRepository.findVersionsById(query.getInvoiceId());
+    }
+}
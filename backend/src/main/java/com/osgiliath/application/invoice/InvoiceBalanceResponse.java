@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceStatus;
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -15,4 +16,15 @@ public class InvoiceBalanceResponse {
     private BigDecimal totalAmount;
     private BigDecimal paidAmount;
     private BigDecimal balanceDue;
+
+    public static InvoiceBalanceResponse of(Invoice invoice) {
+        return InvoiceBalanceResponse.builder()
+                .invoiceId(invoice.getId())
+                .invoiceNumber(invoice.getInvoiceNumber())
+                .status(invoice.getStatus())
+                .totalAmount(invoice.getTotalAmount().getAmount())
+                .paidAmount(invoice.getTotalAmount().subtract(invoice.getBalanceDue()).getAmount())
+                .balanceDue(invoice.getBalanceDue().getAmount())
+                .build();
+    }
 }
@@ -0,0 +1,17 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.payment.dto.PaymentResponse;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/** An invoice with its customer, payments and balance, as returned by GET /invoices/{id}/detail */
+@Getter
+@Builder
+public class InvoiceDetailResponse {
+    private InvoiceResponse invoice;
+    private CustomerResponse customer;
+    private List<PaymentResponse> payments;
+    private InvoiceBalanceResponse balance;
+}
@@ -0,0 +1,38 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.domain.invoice.InvoiceVersions;
+import com.osgiliath.infrastructure.invoice.InvoiceJsonCache;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Serialized InvoiceResponse and the invoice and customer versions it shows. Comes either as plain
+ * JSON, freshly rendered, or gzipped from the cache, in which case clients that accept gzip can be
+ * sent it as is.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class InvoiceJson {
+
+    @Getter private final InvoiceVersions versions;
+    private final byte[] json;
+    private final byte[] gzip;
+
+    static InvoiceJson plain(InvoiceVersions versions, byte[] json) {
+        return new InvoiceJson(versions, json, null);
+    }
+
+    static InvoiceJson gzipped(InvoiceVersions versions, byte[] gzip) {
+        return new InvoiceJson(versions, null, gzip);
+    }
+
+    /** The gzipped JSON, or null when it was rendered for this request */
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /** The JSON, decompressed if it came from the cache */
+    public byte[] getJson() {
+        return json != null ? json : InvoiceJsonCache.gunzip(gzip);
+    }
+}
@@ -0,0 +1,18 @@
+package com.osgiliath.application.invoice;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A page of invoices with the status facets of its filter, returned by GET /invoices?facets=true.
+ * The total is exact and comes from the facets, so it costs no count query of its own.
+ */
+@Getter
+@Builder
+public class InvoiceListResponse {
+    private List<InvoiceResponse> content;
+    private boolean hasNext;
+    private long totalElements;
+    private List<InvoiceStatusFacet> facets;
+}
@@ -5,6 +5,10 @@ import com.osgiliath.domain.customer.CustomerRepository;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.LineItem;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,6 +18,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class InvoiceMapper {
 
+    private static final String UNKNOWN_CUSTOMER = "Unknown";
+
     private final CustomerRepository customerRepository;
 
     /** Map CreateInvoiceRequest to CreateInvoiceCommand */
@@ -40,31 +46,44 @@ public class InvoiceMapper {
     }
 
     /** Map LineItemRequest to AddLineItemCommand */
-    public AddLineItemCommand toAddLineItemCommand(
-            java.util.UUID invoiceId, LineItemRequest request) {
+    public AddLineItemCommand toAddLineItemCommand(UUID invoiceId, LineItemRequest request) {
         return new AddLineItemCommand(
                 invoiceId, request.getDescription(), request.getQuantity(), request.getUnitPrice());
     }
 
     /** Map UpdateInvoiceRequest to UpdateInvoiceCommand */
     public UpdateInvoiceCommand toUpdateCommand(
-            java.util.UUID invoiceId, UpdateInvoiceRequest request) {
-        return new UpdateInvoiceCommand(invoiceId, request.getIssueDate(), request.getDueDate());
+            UUID invoiceId, UpdateInvoiceRequest request, Set<Long> expectedVersions) {
+        return new UpdateInvoiceCommand(
+                invoiceId, request.getIssueDate(), request.getDueDate(), expectedVersions);
     }
 
     /** Map Invoice entity to InvoiceResponse DTO */
     public InvoiceResponse toResponse(Invoice invoice) {
         // Look up customer name
-        String customerName =
-                customerRepository
-                        .findById(invoice.getCustomerId())
-                        .map(Customer::getName)
-                        .orElse("Unknown");
+        return toResponse(
+                invoice, customerRepository.findById(invoice.getCustomerId()).orElse(null));
+    }
+
+    /** Map a list of invoices, loading all their customers' names in a single query */
+    public List<InvoiceResponse> toResponses(List<Invoice> invoices) {
+        Set<UUID> customerIds =
+                invoices.stream().map(Invoice::getCustomerId).collect(Collectors.toSet());
+        Map<UUID, Customer> customers =
+                customerRepository.findAllById(customerIds).stream()
+                        .collect(Collectors.toMap(Customer::getId, Function.identity()));
+
+        return invoices.stream()
+                .map(invoice -> toResponse(invoice, customers.get(invoice.getCustomerId())))
+                .collect(Collectors.toList());
+    }
 
+    /** Map Invoice entity to InvoiceResponse DTO with its customer already loaded */
+    public InvoiceResponse toResponse(Invoice invoice, Customer customer) {
         return InvoiceResponse.builder()
                 .id(invoice.getId())
                 .customerId(invoice.getCustomerId())
-                .customerName(customerName)
+                .customerName(customer != null ? customer.getName() : UNKNOWN_CUSTOMER)
                 .invoiceNumber(invoice.getInvoiceNumber())
                 .issueDate(invoice.getIssueDate())
                 .dueDate(invoice.getDueDate())
@@ -76,6 +95,8 @@ public class InvoiceMapper {
                 .balanceDue(invoice.getBalanceDue().getAmount())
                 .createdAt(invoice.getCreatedAt())
                 .updatedAt(invoice.getUpdatedAt())
+                .version(invoice.getVersion())
+                .customerVersion(customer != null ? customer.getVersion() : null)
                 .build();
     }
 
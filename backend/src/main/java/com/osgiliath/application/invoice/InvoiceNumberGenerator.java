@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -18,6 +19,7 @@ public class InvoiceNumberGenerator {
     private static final int SEQUENCE_LENGTH = 5;
 
     private final InvoiceRepository invoiceRepository;
+    private final ArchivedInvoiceRepository archivedInvoiceRepository;
 
     /** Generate a unique invoice number for the current date */
     public String generate() {
@@ -30,12 +32,14 @@ public class InvoiceNumberGenerator {
         int sequence = 1;
         String invoiceNumber;
 
-        // Keep trying until we find a unique number
+        // Keep trying until we find a unique number (backdated invoices can collide with archived
+        // ones)
         do {
             String sequenceStr = String.format("%0" + SEQUENCE_LENGTH + "d", sequence);
             invoiceNumber = PREFIX + dateStr + "-" + sequenceStr;
             sequence++;
-        } while (invoiceRepository.existsByInvoiceNumber(invoiceNumber));
+        } while (invoiceRepository.existsByInvoiceNumber(invoiceNumber)
+                || archivedInvoiceRepository.existsByInvoiceNumber(invoiceNumber));
 
         return invoiceNumber;
     }
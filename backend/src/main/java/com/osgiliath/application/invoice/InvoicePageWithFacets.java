@@ -0,0 +1,8 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.domain.invoice.Invoice;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+/** A page of invoices and the per-status facets of the filters it was listed with */
+public record InvoicePageWithFacets(Slice<Invoice> invoices, List<InvoiceStatusFacet> facets) {}
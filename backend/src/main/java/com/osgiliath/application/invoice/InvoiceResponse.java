@@ -1,6 +1,7 @@
 package com.osgiliath.application.invoice;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.osgiliath.domain.invoice.InvoiceStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
@@ -66,4 +67,12 @@ public class InvoiceResponse {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     @Schema(description = "Last update timestamp")
     private LocalDateTime updatedAt;
+
+    @Schema(description = "Entity version for optimistic locking")
+    private Long version;
+
+    /** Version of the customer the name was read from, for the ETag; null if it is unknown */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long customerVersion;
 }
@@ -0,0 +1,26 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One invoice found by full-text search. The snippet is the best matching line item description,
+ * HTML-escaped with the matched words wrapped in {@code <mark>}, or null if no line item matched.
+ */
+@Getter
+@Builder
+public class InvoiceSearchHit {
+    private UUID invoiceId;
+    private String invoiceNumber;
+    private UUID customerId;
+    private String customerName;
+    private InvoiceStatus status;
+    private LocalDate issueDate;
+    private BigDecimal totalAmount;
+    private float rank;
+    private String snippet;
+}
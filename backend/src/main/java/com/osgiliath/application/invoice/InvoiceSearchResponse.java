@@ -0,0 +1,13 @@
+package com.osgiliath.application.invoice;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/** A page of invoice search results; pass nextCursor back for the following page */
+@Getter
+@Builder
+public class InvoiceSearchResponse {
+    private List<InvoiceSearchHit> results;
+    private String nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Number of invoices in one status and the sum of their balance due */
+@Getter
+@Builder
+public class InvoiceStatusFacet {
+    private InvoiceStatus status;
+    private long count;
+    private BigDecimal balanceDue;
+}
@@ -0,0 +1,17 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.EntityVersion;
+import com.osgiliath.application.shared.Query;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Query for the IDs and versions of one page of an invoice list, enough to tell whether a client's
+ * cached copy of that page is current without loading the invoices
+ */
+@AllArgsConstructor
+@Getter
+public class ListInvoiceVersionsQuery implements Query<Slice<EntityVersion>> {
+    private final ListInvoicesQuery list;
+}
@@ -0,0 +1,21 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.EntityVersion;
+import com.osgiliath.application.shared.QueryHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/** Handler for ListInvoiceVersionsQuery Runs only the ID step of ListInvoicesQueryHandler */
+@Service
+@RequiredArgsConstructor
+public class ListInvoiceVersionsQueryHandler
+        implements QueryHandler<ListInvoiceVersionsQuery, Slice<EntityVersion>> {
+
+    private final ListInvoicesQueryHandler listHandler;
+
+    @Override
+    public Slice<EntityVersion> handle(ListInvoiceVersionsQuery query) {
+        return listHandler.findVersions(query.getList());
+    }
+}
@@ -1,18 +1,22 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.Query;
+import com.osgiliath.application.shared.TotalMode;
+import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceStatus;
 import java.time.LocalDate;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.data.domain.Slice;
 
 /**
  * Query to list invoices with optional filters Supports filtering by status, customer, and date
- * range with sorting
+ * range with sorting. The result is a Page when a total was requested and a Slice otherwise.
  */
 @AllArgsConstructor
 @Getter
-public class ListInvoicesQuery {
+public class ListInvoicesQuery implements Query<Slice<Invoice>> {
     private final InvoiceStatus status;
     private final UUID customerId;
     private final LocalDate fromDate;
@@ -21,4 +25,5 @@ public class ListInvoicesQuery {
     private final Integer size;
     private final String sortBy;
     private final String sortDirection;
+    private final TotalMode total;
 }
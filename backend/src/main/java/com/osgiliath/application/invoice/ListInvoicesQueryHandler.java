@@ -1,34 +1,85 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.EntityVersion;
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceStatus;
 import com.osgiliath.infrastructure.invoice.JpaInvoiceRepository;
+import com.osgiliath.infrastructure.pagination.PageTotals;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Handler for ListInvoicesQuery Returns filtered list of invoices with pagination and sorting */
+/**
+ * Handler for ListInvoicesQuery Returns filtered list of invoices with pagination and sorting.
+ * Reads the page's IDs (plus one, to detect a next page) and then the invoices with their line
+ * items; the total is only computed when the query asks for one. The first step alone, with each
+ * ID's version, answers {@link ListInvoiceVersionsQuery}.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class ListInvoicesQueryHandler {
+public class ListInvoicesQueryHandler implements QueryHandler<ListInvoicesQuery, Slice<Invoice>> {
 
     private final JpaInvoiceRepository invoiceRepository;
+    private final EntityManager entityManager;
+    private final PageTotals pageTotals;
 
     @Transactional(readOnly = true)
-    public List<Invoice> handle(ListInvoicesQuery query) {
+    @Override
+    public Slice<Invoice> handle(ListInvoicesQuery query) {
+        Slice<EntityVersion> versions = findVersions(query);
+
+        List<Invoice> invoices = List.of();
+        if (versions.hasContent()) {
+            // Fetch full invoices with line items, in the order of the ID page
+            List<UUID> invoiceIds = versions.map(EntityVersion::id).getContent();
+            Map<UUID, Invoice> byId =
+                    invoiceRepository.findAllByIdWithLineItems(invoiceIds).stream()
+                            .collect(Collectors.toMap(Invoice::getId, Function.identity()));
+            invoices = invoiceIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+
+        Filters filters =
+                new Filters(
+                        query.getStatus(),
+                        query.getCustomerId(),
+                        query.getFromDate(),
+                        query.getToDate());
+        return pageTotals.withTotal(
+                new SliceImpl<>(invoices, versions.getPageable(), versions.hasNext()),
+                query.getTotal(),
+                "invoices",
+                filters.isEmpty() ? null : filters,
+                () -> invoiceRepository.count(specification(query)));
+    }
+
+    /** IDs and versions of the requested page, without loading the invoices */
+    @Transactional(readOnly = true)
+    public Slice<EntityVersion> findVersions(ListInvoicesQuery query) {
         log.debug(
                 "Fetching invoices - page: {}, size: {}, sortBy: {}, sortDirection: {}",
                 query.getPage(),
@@ -53,37 +104,56 @@ public class ListInvoicesQueryHandler {
         // Create pageable
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // Build specification with filters
-        Specification<Invoice> spec =
-                buildSpecification(
-                        query.getStatus(),
-                        query.getCustomerId(),
-                        query.getFromDate(),
-                        query.getToDate());
+        // Fetch one ID past the page to learn whether another page follows, without a count
+        List<EntityVersion> versions = findIds(specification(query), pageable);
+        boolean hasNext = versions.size() > size;
+        if (hasNext) {
+            versions = versions.subList(0, size);
+        }
+        return new SliceImpl<>(versions, pageable, hasNext);
+    }
 
-        // Fetch invoice IDs with filters and pagination
-        Page<Invoice> invoicePage = invoiceRepository.findAll(spec, pageable);
+    /** Specification with the query's filters */
+    private Specification<Invoice> specification(ListInvoicesQuery query) {
+        return buildSpecification(
+                query.getStatus(), query.getCustomerId(), query.getFromDate(), query.getToDate());
+    }
+
+    /** Cache key for filtered totals */
+    private record Filters(
+            InvoiceStatus status, UUID customerId, LocalDate fromDate, LocalDate toDate) {
 
-        if (invoicePage.isEmpty()) {
-            return List.of();
+        boolean isEmpty() {
+            return status == null && customerId == null && fromDate == null && toDate == null;
         }
+    }
 
-        // Extract IDs
-        List<UUID> invoiceIds =
-                invoicePage.getContent().stream().map(Invoice::getId).collect(Collectors.toList());
-
-        // Fetch full invoices with line items
-        List<Invoice> invoices = invoiceRepository.findAllByIdWithLineItems(invoiceIds);
-
-        // Sort invoices in memory to match the order from the page query
-        return invoices.stream()
-                .sorted(
-                        (i1, i2) -> {
-                            int idx1 = invoiceIds.indexOf(i1.getId());
-                            int idx2 = invoiceIds.indexOf(i2.getId());
-                            return Integer.compare(idx1, idx2);
-                        })
-                .collect(Collectors.toList());
+    /**
+     * IDs of the requested page plus one, selecting only the ID and version columns and, since the
+     * list shows customer names, each invoice's customer version
+     */
+    private List<EntityVersion> findIds(Specification<Invoice> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EntityVersion> criteria = criteriaBuilder.createQuery(EntityVersion.class);
+        Root<Invoice> root = criteria.from(Invoice.class);
+        Subquery<Long> customerVersion = criteria.subquery(Long.class);
+        Root<Customer> customer = customerVersion.from(Customer.class);
+        customerVersion
+                .select(customer.get("version"))
+                .where(criteriaBuilder.equal(customer.get("id"), root.get("customerId")));
+        criteria.select(
+                        criteriaBuilder.construct(
+                                EntityVersion.class,
+                                root.get("id"),
+                                root.get("version"),
+                                customerVersion))
+                .where(spec.toPredicate(root, criteria, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        return entityManager
+                .createQuery(criteria)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
     }
 
     private Specification<Invoice> buildSpecification(
@@ -0,0 +1,15 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.Query;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Query for one page of an invoice list together with the status facets of its customer and date
+ * filters, read from the same snapshot so the facet counts agree with the page
+ */
+@AllArgsConstructor
+@Getter
+public class ListInvoicesWithFacetsQuery implements Query<InvoicePageWithFacets> {
+    private final ListInvoicesQuery list;
+}
@@ -0,0 +1,33 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.QueryHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handler for ListInvoicesWithFacetsQuery Runs ListInvoicesQueryHandler and
+ * GetInvoiceFacetsQueryHandler in one read-only transaction. Under read committed each statement
+ * would take its own snapshot, so the transaction is repeatable read: an invoice created between
+ * the page and the facet query cannot show up in the counts only.
+ */
+@Service
+@RequiredArgsConstructor
+public class ListInvoicesWithFacetsQueryHandler
+        implements QueryHandler<ListInvoicesWithFacetsQuery, InvoicePageWithFacets> {
+
+    private final ListInvoicesQueryHandler listHandler;
+    private final GetInvoiceFacetsQueryHandler facetsHandler;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    @Override
+    public InvoicePageWithFacets handle(ListInvoicesWithFacetsQuery query) {
+        ListInvoicesQuery list = query.getList();
+        return new InvoicePageWithFacets(
+                listHandler.handle(list),
+                facetsHandler.handle(
+                        new GetInvoiceFacetsQuery(
+                                list.getCustomerId(), list.getFromDate(), list.getToDate())));
+    }
+}
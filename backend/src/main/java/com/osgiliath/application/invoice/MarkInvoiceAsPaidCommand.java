@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.AggregateCommand;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,6 +8,11 @@ import lombok.Getter;
 /** Command to manually mark an invoice as paid (administrative override) */
 @AllArgsConstructor
 @Getter
-public class MarkInvoiceAsPaidCommand {
+public class MarkInvoiceAsPaidCommand implements AggregateCommand<InvoiceResponse> {
     private final UUID invoiceId;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
 }
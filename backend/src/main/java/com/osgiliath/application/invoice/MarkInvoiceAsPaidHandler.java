@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -10,12 +11,15 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for MarkInvoiceAsPaidCommand Manually marks invoice as paid (administrative override) */
 @Service
 @RequiredArgsConstructor
-public class MarkInvoiceAsPaidHandler {
+public class MarkInvoiceAsPaidHandler
+        implements CommandHandler<MarkInvoiceAsPaidCommand, InvoiceResponse> {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceMapper invoiceMapper;
 
     @Transactional
-    public void handle(MarkInvoiceAsPaidCommand command) {
+    @Override
+    public InvoiceResponse handle(MarkInvoiceAsPaidCommand command) {
         Invoice invoice =
                 invoiceRepository
                         .findById(command.getInvoiceId())
@@ -26,5 +30,8 @@ public class MarkInvoiceAsPaidHandler {
 
         invoice.markAsPaid();
         invoiceRepository.save(invoice);
+        // updatedAt is stamped on flush; flush now so the response carries it
+        invoiceRepository.flush();
+        return invoiceMapper.toResponse(invoice);
     }
 }
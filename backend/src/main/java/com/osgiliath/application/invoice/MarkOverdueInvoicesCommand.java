@@ -1,8 +1,9 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.Command;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor
-public class MarkOverdueInvoicesCommand {
+public class MarkOverdueInvoicesCommand implements Command<Integer> {
     // No fields - triggered by scheduler
 }
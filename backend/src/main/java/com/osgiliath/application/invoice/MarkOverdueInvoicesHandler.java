@@ -1,8 +1,10 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.infrastructure.profiling.OverdueChunkEvent;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -13,20 +15,39 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class MarkOverdueInvoicesHandler {
+public class MarkOverdueInvoicesHandler
+        implements CommandHandler<MarkOverdueInvoicesCommand, Integer> {
+    private static final int CHUNK_SIZE = 500;
+
     private final InvoiceRepository invoiceRepository;
 
     @Transactional
-    public int handle(MarkOverdueInvoicesCommand command) {
+    @Override
+    public Integer handle(MarkOverdueInvoicesCommand command) {
         LocalDate today = LocalDate.now();
 
         // Find all SENT invoices where due date is past using optimized database query
         List<Invoice> overdueInvoices =
                 invoiceRepository.findByStatusAndDueDateBefore(InvoiceStatus.SENT, today);
 
-        for (Invoice invoice : overdueInvoices) {
-            invoice.setStatus(InvoiceStatus.OVERDUE);
-            invoiceRepository.save(invoice);
+        // Flush in chunks so each chunk's UPDATEs show up as one OverdueChunkEvent
+        for (int from = 0; from < overdueInvoices.size(); from += CHUNK_SIZE) {
+            List<Invoice> chunk =
+                    overdueInvoices.subList(
+                            from, Math.min(from + CHUNK_SIZE, overdueInvoices.size()));
+            OverdueChunkEvent event = new OverdueChunkEvent();
+            event.begin();
+            for (Invoice invoice : chunk) {
+                invoice.setStatus(InvoiceStatus.OVERDUE);
+                invoiceRepository.save(invoice);
+            }
+            invoiceRepository.flush();
+            event.end();
+            if (event.shouldCommit()) {
+                event.chunk = from / CHUNK_SIZE;
+                event.invoices = chunk.size();
+                event.commit();
+            }
         }
 
         log.info("Marked {} invoices as OVERDUE", overdueInvoices.size());
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.AggregateCommand;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,7 +8,12 @@ import lombok.Getter;
 /** Command to remove a line item from an invoice (DRAFT only) */
 @AllArgsConstructor
 @Getter
-public class RemoveLineItemCommand {
+public class RemoveLineItemCommand implements AggregateCommand<Void> {
     private final UUID invoiceId;
     private final UUID lineItemId;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
 }
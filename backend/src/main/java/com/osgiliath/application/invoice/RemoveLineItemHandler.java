@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -10,12 +11,13 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for RemoveLineItemCommand Removes a line item from an invoice (DRAFT status only) */
 @Service
 @RequiredArgsConstructor
-public class RemoveLineItemHandler {
+public class RemoveLineItemHandler implements CommandHandler<RemoveLineItemCommand, Void> {
 
     private final InvoiceRepository invoiceRepository;
 
     @Transactional
-    public void handle(RemoveLineItemCommand command) {
+    @Override
+    public Void handle(RemoveLineItemCommand command) {
         Invoice invoice =
                 invoiceRepository
                         .findById(command.getInvoiceId())
@@ -26,5 +28,6 @@ public class RemoveLineItemHandler {
 
         invoice.removeLineItem(command.getLineItemId());
         invoiceRepository.save(invoice);
+        return null;
     }
 }
@@ -0,0 +1,17 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.Query;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Query to search invoices by invoice number, customer name or line item description, best matches
+ * first, paged by the opaque cursor returned with the previous page
+ */
+@AllArgsConstructor
+@Getter
+public class SearchInvoicesQuery implements Query<InvoiceSearchResponse> {
+    private final String text;
+    private final Integer limit;
+    private final String cursor;
+}
@@ -0,0 +1,154 @@
+package com.osgiliath.application.invoice;
+
+import com.osgiliath.application.shared.QueryHandler;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.shared.DomainException;
+import com.osgiliath.infrastructure.invoice.InvoiceSearchIndexes;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handler for SearchInvoicesQuery Every word of the search text must prefix-match a word of the
+ * invoice number, the customer name or a line item description. Each source is read through its GIN
+ * index only; matches are ranked with invoice numbers weighted above customer names and those above
+ * line items, and paged by (rank, invoice ID) so later pages cost the same as the first.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchInvoicesQueryHandler
+        implements QueryHandler<SearchInvoicesQuery, InvoiceSearchResponse> {
+
+    private static final int MAX_LIMIT = 100;
+
+    private static final String CUSTOMER_NAME_VECTOR = InvoiceSearchIndexes.CUSTOMER_NAME_VECTOR;
+
+    private static final String SEARCH_SQL =
+            "WITH query AS (SELECT to_tsquery('simple', ?) AS q), "
+                    + "matches AS ("
+                    + " SELECT i.id AS invoice_id, ts_rank(i.search_vector, query.q) AS rank"
+                    + " FROM invoices i, query WHERE i.search_vector @@ query.q"
+                    + " UNION ALL"
+                    + " SELECT i.id, ts_rank(setweight("
+                    + CUSTOMER_NAME_VECTOR
+                    + ", 'B'), query.q)"
+                    + " FROM customers c JOIN invoices i ON i.customer_id = c.id, query"
+                    + " WHERE "
+                    + CUSTOMER_NAME_VECTOR
+                    + " @@ query.q"
+                    + " UNION ALL"
+                    + " SELECT li.invoice_id, ts_rank(li.search_vector, query.q)"
+                    + " FROM line_items li, query WHERE li.search_vector @@ query.q), "
+                    + "ranked AS ("
+                    + " SELECT invoice_id, max(rank) AS rank FROM matches GROUP BY invoice_id), "
+                    + "page AS ("
+                    + " SELECT r.invoice_id, r.rank FROM ranked r"
+                    + " WHERE ?::real IS NULL OR r.rank < ?::real"
+                    + " OR (r.rank = ?::real AND r.invoice_id > ?::uuid)"
+                    + " ORDER BY r.rank DESC, r.invoice_id LIMIT ?) "
+                    + "SELECT p.invoice_id, p.rank, i.invoice_number, i.customer_id,"
+                    + " c.name AS customer_name, i.status, i.issue_date, i.total_amount,"
+                    + " (SELECT ts_headline('simple', replace(replace(replace(li.description,"
+                    + " '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), query.q,"
+                    + " 'StartSel=<mark>, StopSel=</mark>, MaxWords=20, MinWords=5')"
+                    + " FROM line_items li WHERE li.invoice_id = p.invoice_id"
+                    + " AND li.search_vector @@ query.q"
+                    + " ORDER BY ts_rank(li.search_vector, query.q) DESC LIMIT 1) AS snippet"
+                    + " FROM page p JOIN invoices i ON i.id = p.invoice_id"
+                    + " JOIN customers c ON c.id = i.customer_id, query"
+                    + " ORDER BY p.rank DESC, p.invoice_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public InvoiceSearchResponse handle(SearchInvoicesQuery query) {
+        int limit = query.getLimit() == null ? 20 : query.getLimit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new DomainException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        Cursor after = query.getCursor() == null ? null : Cursor.decode(query.getCursor());
+        String tsQuery = toPrefixQuery(query.getText());
+        if (tsQuery.isEmpty()) {
+            return InvoiceSearchResponse.builder().results(List.of()).build();
+        }
+
+        Float afterRank = after == null ? null : after.rank();
+        UUID afterId = after == null ? null : after.invoiceId();
+        List<InvoiceSearchHit> hits =
+                jdbcTemplate.query(
+                        SEARCH_SQL,
+                        (rs, rowNum) ->
+                                InvoiceSearchHit.builder()
+                                        .invoiceId(rs.getObject("invoice_id", UUID.class))
+                                        .rank(rs.getFloat("rank"))
+                                        .invoiceNumber(rs.getString("invoice_number"))
+                                        .customerId(rs.getObject("customer_id", UUID.class))
+                                        .customerName(rs.getString("customer_name"))
+                                        .status(InvoiceStatus.valueOf(rs.getString("status")))
+                                        .issueDate(rs.getObject("issue_date", LocalDate.class))
+                                        .totalAmount(rs.getBigDecimal("total_amount"))
+                                        .snippet(rs.getString("snippet"))
+                                        .build(),
+                        tsQuery,
+                        afterRank,
+                        afterRank,
+                        afterRank,
+                        afterId,
+                        limit);
+
+        String nextCursor = null;
+        if (hits.size() == limit) {
+            InvoiceSearchHit last = hits.get(hits.size() - 1);
+            nextCursor = new Cursor(last.getRank(), last.getInvoiceId()).encode();
+        }
+        return InvoiceSearchResponse.builder().results(hits).nextCursor(nextCursor).build();
+    }
+
+    /**
+     * Words of the search text as a tsquery of prefix terms that must all match, e.g. "Acme
+     * web-design" becomes {@code acme:* & web:* & design:*}. Anything that is not a letter or digit
+     * separates words, which also keeps tsquery operators out of user input.
+     */
+    static String toPrefixQuery(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    /** Position after the last hit of a page, opaque to clients */
+    record Cursor(float rank, UUID invoiceId) {
+
+        String encode() {
+            String raw = Float.toString(rank) + ":" + invoiceId;
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw =
+                        new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new Cursor(
+                        Float.parseFloat(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new DomainException("Invalid search cursor");
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.customer.CustomerRepository;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
@@ -15,15 +16,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class SendInvoiceHandler {
+public class SendInvoiceHandler implements CommandHandler<SendInvoiceCommand, InvoiceResponse> {
 
     private final InvoiceRepository invoiceRepository;
     private final Optional<EmailService> emailService;
     private final ExportInvoiceToPdfQueryHandler pdfExporter;
     private final CustomerRepository customerRepository;
+    private final InvoiceMapper invoiceMapper;
 
     @Transactional
-    public void handle(SendInvoiceCommand command) {
+    @Override
+    public InvoiceResponse handle(SendInvoiceCommand command) {
         Invoice invoice =
                 invoiceRepository
                         .findById(command.getInvoiceId())
@@ -34,6 +37,8 @@ public class SendInvoiceHandler {
 
         invoice.send();
         invoiceRepository.save(invoice);
+        // updatedAt is stamped on flush; flush now so the response carries it
+        invoiceRepository.flush();
 
         // Send email notification if email service is enabled
         emailService.ifPresent(
@@ -57,5 +62,6 @@ public class SendInvoiceHandler {
                                 e.getMessage());
                     }
                 });
+        return invoiceMapper.toResponse(invoice);
     }
 }
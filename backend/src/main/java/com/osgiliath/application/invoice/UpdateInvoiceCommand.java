@@ -1,6 +1,8 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.AggregateCommand;
 import java.time.LocalDate;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -8,8 +10,16 @@ import lombok.Getter;
 /** Command to update an invoice (DRAFT only) */
 @Getter
 @AllArgsConstructor
-public class UpdateInvoiceCommand {
+public class UpdateInvoiceCommand implements AggregateCommand<InvoiceResponse> {
     private final UUID invoiceId;
     private final LocalDate issueDate;
     private final LocalDate dueDate;
+
+    /** Versions the client accepts, from If-Match; null to update whatever is current */
+    private final Set<Long> expectedVersions;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
 }
@@ -1,5 +1,7 @@
 package com.osgiliath.application.invoice;
 
+import com.osgiliath.application.shared.CommandHandler;
+import com.osgiliath.domain.exceptions.StaleVersionException;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -10,12 +12,14 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for UpdateInvoiceCommand Updates invoice details (DRAFT status only) */
 @Service
 @RequiredArgsConstructor
-public class UpdateInvoiceHandler {
+public class UpdateInvoiceHandler implements CommandHandler<UpdateInvoiceCommand, InvoiceResponse> {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceMapper invoiceMapper;
 
     @Transactional
-    public void handle(UpdateInvoiceCommand command) {
+    @Override
+    public InvoiceResponse handle(UpdateInvoiceCommand command) {
         Invoice invoice =
                 invoiceRepository
                         .findById(command.getInvoiceId())
@@ -24,7 +28,17 @@ public class UpdateInvoiceHandler {
                                         new DomainException(
                                                 "Invoice not found: " + command.getInvoiceId()));
 
+        // Checked inside the aggregate's serialized section, and @Version guards the write itself
+        if (command.getExpectedVersions() != null
+                && !command.getExpectedVersions().contains(invoice.getVersion())) {
+            throw new StaleVersionException(
+                    "Invoice " + command.getInvoiceId() + " has changed since it was read");
+        }
+
         invoice.update(command.getIssueDate(), command.getDueDate());
         invoiceRepository.save(invoice);
+        // updatedAt is stamped on flush; flush now so the response carries it
+        invoiceRepository.flush();
+        return invoiceMapper.toResponse(invoice);
     }
 }
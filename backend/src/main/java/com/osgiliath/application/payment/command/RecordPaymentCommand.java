@@ -1,5 +1,6 @@
 package com.osgiliath.application.payment.command;
 
+import com.osgiliath.application.shared.AggregateCommand;
 import com.osgiliath.domain.payment.PaymentMethod;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -10,11 +11,16 @@ import lombok.Getter;
 /** Command to record a payment against an invoice */
 @Getter
 @AllArgsConstructor
-public class RecordPaymentCommand {
+public class RecordPaymentCommand implements AggregateCommand<RecordPaymentResult> {
 
     private final UUID invoiceId;
     private final BigDecimal amount;
     private final LocalDate paymentDate;
     private final PaymentMethod paymentMethod;
     private final String referenceNumber;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.payment.command;
 
+import com.osgiliath.application.shared.CommandHandler;
 import com.osgiliath.domain.exceptions.InsufficientBalanceException;
 import com.osgiliath.domain.exceptions.InvoiceNotSentException;
 import com.osgiliath.domain.invoice.Invoice;
@@ -23,12 +24,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class RecordPaymentHandler {
+public class RecordPaymentHandler
+        implements CommandHandler<RecordPaymentCommand, RecordPaymentResult> {
 
     private final PaymentRepository paymentRepository;
     private final InvoiceRepository invoiceRepository;
 
     @Transactional
+    @Override
     public RecordPaymentResult handle(RecordPaymentCommand command) {
         // 1. Fetch invoice
         Invoice invoice =
@@ -80,6 +83,7 @@ public class RecordPaymentHandler {
                 savedInvoice.getId(),
                 savedPayment.getAmount(),
                 savedInvoice.getBalanceDue(),
-                savedInvoice.getStatus());
+                savedInvoice.getStatus(),
+                savedPayment);
     }
 }
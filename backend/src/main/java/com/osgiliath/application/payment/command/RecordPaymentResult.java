@@ -1,6 +1,7 @@
 package com.osgiliath.application.payment.command;
 
 import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.payment.Payment;
 import com.osgiliath.domain.shared.Money;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -16,4 +17,7 @@ public class RecordPaymentResult {
     private final Money paymentAmount;
     private final Money updatedBalance;
     private final InvoiceStatus updatedInvoiceStatus;
+
+    /** The saved payment, so callers can build a response without reading it back */
+    private final Payment payment;
 }
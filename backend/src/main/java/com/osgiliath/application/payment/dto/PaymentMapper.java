@@ -36,7 +36,8 @@ public class PaymentMapper {
     }
 
     /** Map RecordPaymentResult to PaymentResponse with invoice update info */
-    public PaymentResponse toResponse(RecordPaymentResult result, Payment payment) {
+    public PaymentResponse toResponse(RecordPaymentResult result) {
+        Payment payment = result.getPayment();
         return new PaymentResponse(
                 result.getPaymentId(),
                 result.getInvoiceId(),
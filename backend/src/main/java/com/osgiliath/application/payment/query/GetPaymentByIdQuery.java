@@ -1,5 +1,7 @@
 package com.osgiliath.application.payment.query;
 
+import com.osgiliath.application.shared.Query;
+import com.osgiliath.domain.payment.Payment;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,7 +9,7 @@ import lombok.Getter;
 /** Query to retrieve a payment by its ID */
 @Getter
 @AllArgsConstructor
-public class GetPaymentByIdQuery {
+public class GetPaymentByIdQuery implements Query<Payment> {
 
     private final UUID paymentId;
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.payment.query;
 
+import com.osgiliath.application.shared.QueryHandler;
 import com.osgiliath.domain.payment.Payment;
 import com.osgiliath.domain.payment.PaymentRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -10,11 +11,12 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for GetPaymentByIdQuery */
 @Service
 @RequiredArgsConstructor
-public class GetPaymentByIdQueryHandler {
+public class GetPaymentByIdQueryHandler implements QueryHandler<GetPaymentByIdQuery, Payment> {
 
     private final PaymentRepository paymentRepository;
 
     @Transactional(readOnly = true)
+    @Override
     public Payment handle(GetPaymentByIdQuery query) {
         return paymentRepository
                 .findById(query.getPaymentId())
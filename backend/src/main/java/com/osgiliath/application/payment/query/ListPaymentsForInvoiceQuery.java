@@ -1,5 +1,8 @@
 package com.osgiliath.application.payment.query;
 
+import com.osgiliath.application.shared.Query;
+import com.osgiliath.domain.payment.Payment;
+import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-public class ListPaymentsForInvoiceQuery {
+public class ListPaymentsForInvoiceQuery implements Query<List<Payment>> {
 
     private UUID invoiceId;
 }
@@ -1,5 +1,6 @@
 package com.osgiliath.application.payment.query;
 
+import com.osgiliath.application.shared.QueryHandler;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.payment.Payment;
 import com.osgiliath.domain.payment.PaymentRepository;
@@ -12,18 +13,19 @@ import org.springframework.transaction.annotation.Transactional;
 /** Handler for ListPaymentsForInvoiceQuery Validates invoice exists before returning payments */
 @Service
 @RequiredArgsConstructor
-public class ListPaymentsForInvoiceQueryHandler {
+public class ListPaymentsForInvoiceQueryHandler
+        implements QueryHandler<ListPaymentsForInvoiceQuery, List<Payment>> {
 
     private final PaymentRepository paymentRepository;
     private final InvoiceRepository invoiceRepository;
 
     @Transactional(readOnly = true)
+    @Override
     public List<Payment> handle(ListPaymentsForInvoiceQuery query) {
-        // Validate invoice exists
-        invoiceRepository
-                .findById(query.getInvoiceId())
-                .orElseThrow(
-                        () -> new DomainException("Invoice not found: " + query.getInvoiceId()));
+        // Validate invoice exists, without loading it and its line items
+        if (!invoiceRepository.existsById(query.getInvoiceId())) {
+            throw new DomainException("Invoice not found: " + query.getInvoiceId());
+        }
 
         return paymentRepository.findByInvoiceId(query.getInvoiceId());
     }
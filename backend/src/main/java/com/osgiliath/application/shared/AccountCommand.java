@@ -0,0 +1,7 @@
+package com.osgiliath.application.shared;
+
+/**
+ * Command that only touches user accounts (login, registration). It changes nothing a cached query
+ * reads, so unlike other commands it leaves the mediator's query cache in place.
+ */
+public interface AccountCommand<R> extends Command<R> {}
@@ -0,0 +1,12 @@
+package com.osgiliath.application.shared;
+
+import java.util.UUID;
+
+/**
+ * Command that modifies a single aggregate. The mediator runs these through the {@link
+ * AggregateCommandExecutor}, serialized per aggregate ID with optimistic-lock retries.
+ */
+public interface AggregateCommand<R> extends Command<R> {
+
+    UUID getAggregateId();
+}
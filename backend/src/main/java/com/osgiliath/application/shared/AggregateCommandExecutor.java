@@ -0,0 +1,149 @@
+package com.osgiliath.application.shared;
+
+import com.osgiliath.domain.exceptions.AggregateConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs commands that modify a single aggregate one at a time per aggregate ID.
+ *
+ * <p>Commands for the same aggregate queue on one of a fixed number of striped locks instead of
+ * racing each other into @Version conflicts. Commands for different aggregates almost always land
+ * on different stripes and run in parallel. The lock is taken outside the handler's transaction, so
+ * a command only starts once the previous one has committed.
+ *
+ * <p>Conflicts can still come from other nodes or from jobs that bypass the executor. These are
+ * retried a bounded number of times with a short jittered backoff, each attempt in a fresh
+ * transaction. If the caller already has a transaction open, the command runs exactly once, because
+ * retrying inside a transaction that is already rollback-only cannot succeed.
+ */
+@Component
+@Slf4j
+public class AggregateCommandExecutor {
+
+    private final ReentrantLock[] stripes;
+    private final int maxAttempts;
+    private final Duration lockTimeout;
+    private final Duration retryBackoff;
+    private final MeterRegistry meterRegistry;
+
+    public AggregateCommandExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.commands.lock-stripes:256}") int lockStripes,
+            @Value("${app.commands.max-attempts:3}") int maxAttempts,
+            @Value("${app.commands.lock-timeout:5s}") Duration lockTimeout,
+            @Value("${app.commands.retry-backoff:20ms}") Duration retryBackoff) {
+        if (lockStripes <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Lock stripes and max attempts must be positive");
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.lockTimeout = lockTimeout;
+        this.retryBackoff = retryBackoff;
+        this.stripes = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+    }
+
+    /** Execute a command returning a result, serialized on the given aggregate */
+    public <C, R> R execute(UUID aggregateId, C command, Function<C, R> handler) {
+        String commandName = command.getClass().getSimpleName();
+        ReentrantLock lock = stripeFor(aggregateId);
+
+        acquire(lock, aggregateId, commandName);
+        try {
+            return executeWithRetry(aggregateId, command, handler, commandName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Execute a command without a result, serialized on the given aggregate */
+    public <C> void run(UUID aggregateId, C command, Consumer<C> handler) {
+        execute(
+                aggregateId,
+                command,
+                c -> {
+                    handler.accept(c);
+                    return null;
+                });
+    }
+
+    private void acquire(ReentrantLock lock, UUID aggregateId, String commandName) {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AggregateConflictException(
+                    "Interrupted while waiting for aggregate: " + aggregateId);
+        }
+        meterRegistry
+                .timer("commands.lock.wait", "command", commandName)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            meterRegistry.counter("commands.lock.timeouts", "command", commandName).increment();
+            throw new AggregateConflictException("Aggregate is busy, please retry: " + aggregateId);
+        }
+    }
+
+    private <C, R> R executeWithRetry(
+            UUID aggregateId, C command, Function<C, R> handler, String commandName) {
+        int attempts =
+                TransactionSynchronizationManager.isActualTransactionActive() ? 1 : maxAttempts;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return handler.apply(command);
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("commands.conflicts", "command", commandName).increment();
+                if (attempt >= attempts) {
+                    meterRegistry
+                            .counter("commands.retries.exhausted", "command", commandName)
+                            .increment();
+                    throw new AggregateConflictException(
+                            "Aggregate was modified concurrently, please retry: " + aggregateId);
+                }
+                meterRegistry.counter("commands.retries", "command", commandName).increment();
+                log.debug(
+                        "Optimistic lock conflict on {} for {}, attempt {}/{}",
+                        aggregateId,
+                        commandName,
+                        attempt,
+                        attempts);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long baseMillis = retryBackoff.toMillis() * attempt;
+        if (baseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(baseMillis + ThreadLocalRandom.current().nextLong(baseMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AggregateConflictException("Interrupted while retrying command");
+        }
+    }
+
+    private ReentrantLock stripeFor(UUID aggregateId) {
+        return stripes[Math.floorMod(aggregateId.hashCode(), stripes.length)];
+    }
+}
@@ -0,0 +1,9 @@
+package com.osgiliath.application.shared;
+
+/**
+ * Query whose result may be served from the mediator's short-lived query cache. Implementations
+ * must define equals/hashCode over all of their parameters, since the query itself is the cache
+ * key. Any command sent through the mediator, other than an {@link AccountCommand}, invalidates the
+ * cache.
+ */
+public interface CacheableQuery<R> extends Query<R> {}
@@ -0,0 +1,9 @@
+package com.osgiliath.application.shared;
+
+/**
+ * Marker for a request that changes state. Dispatched through {@link Mediator#send(Command)} to
+ * exactly one {@link CommandHandler}.
+ *
+ * @param <R> result type, {@link Void} for commands without a result
+ */
+public interface Command<R> {}
@@ -0,0 +1,7 @@
+package com.osgiliath.application.shared;
+
+/** Handles one command type; registered with the {@link Mediator} at startup */
+public interface CommandHandler<C extends Command<R>, R> {
+
+    R handle(C command);
+}
@@ -0,0 +1,15 @@
+package com.osgiliath.application.shared;
+
+import java.util.UUID;
+
+/**
+ * ID and {@code @Version} of an entity, enough to tell whether a cached copy of it is current. The
+ * related version is that of another entity the copy shows parts of, such as an invoice's customer,
+ * or null when there is none.
+ */
+public record EntityVersion(UUID id, Long version, Long relatedVersion) {
+
+    public EntityVersion(UUID id, Long version) {
+        this(id, version, null);
+    }
+}
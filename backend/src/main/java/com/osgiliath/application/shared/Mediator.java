@@ -0,0 +1,130 @@
+package com.osgiliath.application.shared;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * In-process CQRS mediator. Routes each command or query to its single handler through the
+ * applicable pipeline behaviors.
+ *
+ * <p>Handler lookup and pipeline composition happen once, in the constructor: each request type
+ * gets a pre-built chain of behaviors ending in its handler. Dispatching is then one map lookup
+ * plus the chain itself, with no reflection per call.
+ */
+@Component
+@Slf4j
+public class Mediator {
+
+    private final Map<Class<?>, RequestHandlerDelegate> pipelines;
+
+    public Mediator(
+            List<CommandHandler<?, ?>> commandHandlers,
+            List<QueryHandler<?, ?>> queryHandlers,
+            List<PipelineBehavior> behaviors) {
+        List<PipelineBehavior> orderedBehaviors = new ArrayList<>(behaviors);
+        AnnotationAwareOrderComparator.sort(orderedBehaviors);
+
+        Map<Class<?>, RequestHandlerDelegate> registered = new HashMap<>();
+        for (CommandHandler<?, ?> handler : commandHandlers) {
+            register(
+                    registered,
+                    requestTypeOf(handler, CommandHandler.class),
+                    handler,
+                    orderedBehaviors);
+        }
+        for (QueryHandler<?, ?> handler : queryHandlers) {
+            register(
+                    registered,
+                    requestTypeOf(handler, QueryHandler.class),
+                    handler,
+                    orderedBehaviors);
+        }
+        this.pipelines = Map.copyOf(registered);
+        log.info(
+                "Mediator registered {} handlers with {} pipeline behaviors",
+                pipelines.size(),
+                orderedBehaviors.size());
+    }
+
+    /** Send a command to its handler and return the handler's result */
+    @SuppressWarnings("unchecked")
+    public <R> R send(Command<R> command) {
+        return (R) dispatch(command);
+    }
+
+    /** Run a query through its handler and return the result */
+    @SuppressWarnings("unchecked")
+    public <R> R query(Query<R> query) {
+        return (R) dispatch(query);
+    }
+
+    private Object dispatch(Object request) {
+        RequestHandlerDelegate pipeline = pipelines.get(request.getClass());
+        if (pipeline == null) {
+            throw new IllegalStateException(
+                    "No handler registered for " + request.getClass().getName());
+        }
+        return pipeline.invoke(request);
+    }
+
+    private static void register(
+            Map<Class<?>, RequestHandlerDelegate> registered,
+            Class<?> requestType,
+            Object handler,
+            List<PipelineBehavior> behaviors) {
+        if (registered.containsKey(requestType)) {
+            throw new IllegalStateException(
+                    "Multiple handlers registered for " + requestType.getName());
+        }
+        registered.put(requestType, buildPipeline(requestType, invokerFor(handler), behaviors));
+    }
+
+    private static RequestHandlerDelegate buildPipeline(
+            Class<?> requestType,
+            RequestHandlerDelegate handler,
+            List<PipelineBehavior> behaviors) {
+        List<PipelineBehavior> applicable = new ArrayList<>();
+        for (PipelineBehavior behavior : behaviors) {
+            if (behavior.appliesTo(requestType)) {
+                applicable.add(behavior);
+            }
+        }
+        Collections.reverse(applicable);
+
+        RequestHandlerDelegate pipeline = handler;
+        for (PipelineBehavior behavior : applicable) {
+            RequestHandlerDelegate next = pipeline;
+            pipeline = request -> behavior.handle(request, next);
+        }
+        return pipeline;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RequestHandlerDelegate invokerFor(Object handler) {
+        if (handler instanceof CommandHandler commandHandler) {
+            return request -> commandHandler.handle((Command) request);
+        }
+        QueryHandler queryHandler = (QueryHandler) handler;
+        return request -> queryHandler.handle((Query) request);
+    }
+
+    private static Class<?> requestTypeOf(Object handler, Class<?> handlerInterface) {
+        // Unwrap CGLIB proxies (e.g. @Transactional) to see the declared generic arguments
+        Class<?> handlerClass = ClassUtils.getUserClass(handler);
+        Class<?> requestType =
+                ResolvableType.forClass(handlerClass).as(handlerInterface).resolveGeneric(0);
+        if (requestType == null) {
+            throw new IllegalStateException(
+                    "Cannot resolve request type handled by " + handlerClass.getName());
+        }
+        return requestType;
+    }
+}
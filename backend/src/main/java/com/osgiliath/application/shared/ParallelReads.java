@@ -0,0 +1,92 @@
+package com.osgiliath.application.shared;
+
+import com.osgiliath.infrastructure.metrics.HibernateStatementCounter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs independent reads of one request side by side, each in its own read-only transaction and
+ * therefore on its own connection. Only committed data is visible to them, so callers should not
+ * hold a transaction of their own.
+ *
+ * <p>Reads run on virtual threads when spring.threads.virtual.enabled is set on Java 21+. Otherwise
+ * they share a small platform-thread pool; when it is busy a read runs on the calling thread
+ * instead of queueing, so under load a request degrades to sequential reads. The executor is
+ * private to this class: exposing it as a bean would replace Spring Boot's applicationTaskExecutor.
+ */
+@Component
+public class ParallelReads implements DisposableBean {
+
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate readOnly;
+
+    public ParallelReads(
+            PlatformTransactionManager transactionManager,
+            Environment environment,
+            @Value("${app.parallel-reads.max-threads:8}") int maxThreads) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("read-");
+            virtual.setVirtualThreads(true);
+            virtual.setConcurrencyLimit(maxThreads);
+            this.executor = virtual;
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("read-");
+            pool.setCorePoolSize(maxThreads);
+            pool.setMaxPoolSize(maxThreads);
+            pool.setQueueCapacity(0);
+            pool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+            pool.initialize();
+            this.executor = pool;
+        }
+    }
+
+    /** Start a read on another thread; its statements count towards the calling request */
+    public <T> CompletableFuture<T> submit(Supplier<T> read) {
+        return CompletableFuture.supplyAsync(
+                HibernateStatementCounter.countingTowardsCaller(() -> run(read)), executor);
+    }
+
+    /** Run a read on the calling thread, in a read-only transaction like the submitted ones */
+    public <T> T run(Supplier<T> read) {
+        return readOnly.execute(status -> read.get());
+    }
+
+    /** Wait for a submitted read, rethrowing its exception unwrapped */
+    public static <T> T join(CompletableFuture<T> read) {
+        try {
+            return read.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof DisposableBean pool) {
+            pool.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
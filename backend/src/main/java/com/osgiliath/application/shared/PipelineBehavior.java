@@ -0,0 +1,15 @@
+package com.osgiliath.application.shared;
+
+/**
+ * Cross-cutting step wrapped around handlers by the {@link Mediator}. Behaviors are ordered with
+ * {@link org.springframework.core.annotation.Order}; lower values run further out.
+ */
+public interface PipelineBehavior {
+
+    /**
+     * Whether this behavior wraps requests of the given type; evaluated once per type at startup
+     */
+    boolean appliesTo(Class<?> requestType);
+
+    Object handle(Object request, RequestHandlerDelegate next);
+}
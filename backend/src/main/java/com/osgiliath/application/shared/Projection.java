@@ -0,0 +1,21 @@
+package com.osgiliath.application.shared;
+
+import com.osgiliath.domain.shared.DomainEvent;
+import java.util.List;
+
+/**
+ * Read model built from the domain event log. The projection runner feeds committed events in
+ * order, in batches, each in the transaction that also advances the projection's checkpoint; a
+ * batch that fails is retried from the same checkpoint.
+ */
+public interface Projection {
+
+    /** Unique name, also the checkpoint key; renaming a projection rebuilds it */
+    String getName();
+
+    /** Apply a batch of events, oldest first */
+    void apply(List<DomainEvent> events);
+
+    /** Drop everything built so far, before a replay from the start of the log */
+    void reset();
+}
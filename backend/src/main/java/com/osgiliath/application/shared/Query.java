@@ -0,0 +1,9 @@
+package com.osgiliath.application.shared;
+
+/**
+ * Marker for a read-only request. Dispatched through {@link Mediator#query(Query)} to exactly one
+ * {@link QueryHandler}.
+ *
+ * @param <R> result type
+ */
+public interface Query<R> {}
@@ -0,0 +1,7 @@
+package com.osgiliath.application.shared;
+
+/** Handles one query type; registered with the {@link Mediator} at startup */
+public interface QueryHandler<Q extends Query<R>, R> {
+
+    R handle(Q query);
+}
@@ -0,0 +1,8 @@
+package com.osgiliath.application.shared;
+
+/**
+ * Long-running read (analytics aggregates, document exports). The mediator runs these on the
+ * separate reporting connection pool, behind a bounded bulkhead, so a slow scan cannot take
+ * connections away from commands.
+ */
+public interface ReportingQuery<R> extends Query<R> {}
@@ -0,0 +1,8 @@
+package com.osgiliath.application.shared;
+
+/** The next step of a mediator pipeline: either another behavior or the handler itself */
+@FunctionalInterface
+public interface RequestHandlerDelegate {
+
+    Object invoke(Object request);
+}
@@ -0,0 +1,14 @@
+package com.osgiliath.application.shared;
+
+/**
+ * How a paged list query reports its total. Lists fetch one row past the page to know whether there
+ * is a next page, so a total is only worth a count query when the client shows one.
+ */
+public enum TotalMode {
+    /** No total; the response only says whether there is a next page */
+    NONE,
+    /** Exact count of matching rows, one extra query unless the page is the last */
+    EXACT,
+    /** Planner row estimate for unfiltered lists, a briefly cached exact count otherwise */
+    ESTIMATED
+}
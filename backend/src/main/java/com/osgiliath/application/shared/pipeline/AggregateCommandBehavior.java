@@ -0,0 +1,33 @@
+package com.osgiliath.application.shared.pipeline;
+
+import com.osgiliath.application.shared.AggregateCommand;
+import com.osgiliath.application.shared.AggregateCommandExecutor;
+import com.osgiliath.application.shared.PipelineBehavior;
+import com.osgiliath.application.shared.RequestHandlerDelegate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link AggregateCommand}s through the {@link AggregateCommandExecutor}: serialized per
+ * aggregate and retried on optimistic-lock conflicts. Innermost behavior, so each retry re-enters
+ * only the handler's own transaction.
+ */
+@Component
+@Order(30)
+@RequiredArgsConstructor
+public class AggregateCommandBehavior implements PipelineBehavior {
+
+    private final AggregateCommandExecutor commandExecutor;
+
+    @Override
+    public boolean appliesTo(Class<?> requestType) {
+        return AggregateCommand.class.isAssignableFrom(requestType);
+    }
+
+    @Override
+    public Object handle(Object request, RequestHandlerDelegate next) {
+        AggregateCommand<?> command = (AggregateCommand<?>) request;
+        return commandExecutor.execute(command.getAggregateId(), request, next::invoke);
+    }
+}
@@ -0,0 +1,49 @@
+package com.osgiliath.application.shared.pipeline;
+
+import com.osgiliath.application.shared.AggregateCommand;
+import com.osgiliath.application.shared.Command;
+import com.osgiliath.application.shared.PipelineBehavior;
+import com.osgiliath.application.shared.RequestHandlerDelegate;
+import com.osgiliath.infrastructure.profiling.HandlerEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits a JFR {@link HandlerEvent} per request. When no recording enables the event the JIT removes
+ * the allocation and this is a plain pass-through.
+ */
+@Component
+@Order(5)
+public class FlightRecorderBehavior implements PipelineBehavior {
+
+    @Override
+    public boolean appliesTo(Class<?> requestType) {
+        return true;
+    }
+
+    @Override
+    public Object handle(Object request, RequestHandlerDelegate next) {
+        HandlerEvent event = new HandlerEvent();
+        if (!event.isEnabled()) {
+            return next.invoke(request);
+        }
+        event.begin();
+        boolean success = false;
+        try {
+            Object result = next.invoke(request);
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.requestType = request.getClass().getSimpleName();
+                event.kind = request instanceof Command<?> ? "command" : "query";
+                if (request instanceof AggregateCommand<?> command) {
+                    event.aggregateId = String.valueOf(command.getAggregateId());
+                }
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+}
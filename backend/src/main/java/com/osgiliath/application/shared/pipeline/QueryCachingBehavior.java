@@ -0,0 +1,172 @@
+package com.osgiliath.application.shared.pipeline;
+
+import com.osgiliath.application.shared.AccountCommand;
+import com.osgiliath.application.shared.CacheableQuery;
+import com.osgiliath.application.shared.Command;
+import com.osgiliath.application.shared.PipelineBehavior;
+import com.osgiliath.application.shared.RequestHandlerDelegate;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches results of {@link CacheableQuery} requests for a short TTL. Every successful command
+ * except an {@link AccountCommand} invalidates the whole cache. A generation counter keeps a query
+ * that started before a command from storing its possibly stale result afterwards.
+ *
+ * <p>Concurrent misses for an equal query are coalesced: the first caller runs the handler and the
+ * others wait for its result, so a burst of identical reads costs one database query even with the
+ * TTL set to zero. Within the stale-while-revalidate window after expiry, callers get the expired
+ * result immediately while a single background refresh runs.
+ */
+@Slf4j
+@Component
+@Order(20)
+public class QueryCachingBehavior implements PipelineBehavior {
+
+    private record CachedResult(Object value, long expiresAtNanos, long generation) {}
+
+    /** In-flight computations are per generation so no caller joins one a command has outdated */
+    private record FlightKey(Object request, long generation) {}
+
+    private final Map<Object, CachedResult> cache = new ConcurrentHashMap<>();
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final int maxEntries;
+    private final Executor refreshExecutor;
+
+    @Autowired
+    public QueryCachingBehavior(
+            @Value("${app.cqrs.query-cache.ttl:30s}") Duration ttl,
+            @Value("${app.cqrs.query-cache.stale-while-revalidate:0s}")
+                    Duration staleWhileRevalidate,
+            @Value("${app.cqrs.query-cache.max-entries:1000}") int maxEntries,
+            @Qualifier("applicationTaskExecutor") Executor refreshExecutor) {
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleWhileRevalidate.toNanos();
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    QueryCachingBehavior(Duration ttl, int maxEntries) {
+        this(ttl, Duration.ZERO, maxEntries, Runnable::run);
+    }
+
+    @Override
+    public boolean appliesTo(Class<?> requestType) {
+        return CacheableQuery.class.isAssignableFrom(requestType)
+                || (Command.class.isAssignableFrom(requestType)
+                        && !AccountCommand.class.isAssignableFrom(requestType));
+    }
+
+    @Override
+    public Object handle(Object request, RequestHandlerDelegate next) {
+        if (request instanceof Command<?>) {
+            Object result = next.invoke(request);
+            invalidateAll();
+            return result;
+        }
+
+        long currentGeneration = generation.get();
+        long now = System.nanoTime();
+        CachedResult cached = cache.get(request);
+        if (cached != null && cached.generation() == currentGeneration) {
+            if (now - cached.expiresAtNanos() < 0) {
+                return cached.value();
+            }
+            if (now - cached.expiresAtNanos() - staleNanos < 0) {
+                refreshInBackground(request, next, currentGeneration);
+                return cached.value();
+            }
+        }
+
+        FlightKey key = new FlightKey(request, currentGeneration);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+        return compute(key, flight, next);
+    }
+
+    /** Drop every cached query result */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private void refreshInBackground(
+            Object request, RequestHandlerDelegate next, long currentGeneration) {
+        FlightKey key = new FlightKey(request, currentGeneration);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(
+                    () -> {
+                        try {
+                            compute(key, flight, next);
+                        } catch (RuntimeException e) {
+                            log.warn("Background refresh of {} failed", request, e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+    }
+
+    private Object compute(
+            FlightKey key, CompletableFuture<Object> flight, RequestHandlerDelegate next) {
+        long startedAt = System.nanoTime();
+        try {
+            Object result = next.invoke(key.request());
+            store(key, result, startedAt);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void store(FlightKey key, Object result, long startedAt) {
+        if (generation.get() != key.generation()) {
+            return;
+        }
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(key.request(), new CachedResult(result, startedAt + ttlNanos, key.generation()));
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.osgiliath.application.shared.pipeline;
+
+import com.osgiliath.application.shared.PipelineBehavior;
+import com.osgiliath.application.shared.ReportingQuery;
+import com.osgiliath.application.shared.RequestHandlerDelegate;
+import com.osgiliath.infrastructure.datasource.ReportingBulkhead;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link ReportingQuery} handlers on the reporting pool. Ordered after query caching so cache
+ * hits do not take a bulkhead permit, and before the handler's own transaction starts.
+ */
+@Component
+@Order(25)
+@RequiredArgsConstructor
+public class ReportingPoolBehavior implements PipelineBehavior {
+
+    private final ReportingBulkhead bulkhead;
+
+    @Override
+    public boolean appliesTo(Class<?> requestType) {
+        return ReportingQuery.class.isAssignableFrom(requestType);
+    }
+
+    @Override
+    public Object handle(Object request, RequestHandlerDelegate next) {
+        return bulkhead.call(() -> next.invoke(request));
+    }
+}
@@ -0,0 +1,44 @@
+package com.osgiliath.application.shared.pipeline;
+
+import com.osgiliath.application.shared.PipelineBehavior;
+import com.osgiliath.application.shared.RequestHandlerDelegate;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/** Logs a warning for commands and queries that take longer than the configured threshold */
+@Component
+@Order(10)
+@Slf4j
+public class SlowCallLoggingBehavior implements PipelineBehavior {
+
+    private final long thresholdNanos;
+
+    public SlowCallLoggingBehavior(
+            @Value("${app.cqrs.slow-call-threshold:500ms}") Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public boolean appliesTo(Class<?> requestType) {
+        return true;
+    }
+
+    @Override
+    public Object handle(Object request, RequestHandlerDelegate next) {
+        long start = System.nanoTime();
+        try {
+            return next.invoke(request);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (elapsed > thresholdNanos) {
+                log.warn(
+                        "Slow {} took {} ms",
+                        request.getClass().getSimpleName(),
+                        Duration.ofNanos(elapsed).toMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.osgiliath.application.shared.pipeline;
+
+import com.osgiliath.application.shared.Command;
+import com.osgiliath.application.shared.PipelineBehavior;
+import com.osgiliath.application.shared.RequestHandlerDelegate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/** Records a cqrs.requests timer per request type, tagged with the outcome */
+@Component
+@Order(0)
+public class TimingBehavior implements PipelineBehavior {
+
+    private final ClassValue<Timer[]> timers;
+
+    public TimingBehavior(MeterRegistry meterRegistry) {
+        this.timers =
+                new ClassValue<>() {
+                    @Override
+                    protected Timer[] computeValue(Class<?> requestType) {
+                        return new Timer[] {
+                            timer(meterRegistry, requestType, "success"),
+                            timer(meterRegistry, requestType, "error")
+                        };
+                    }
+                };
+    }
+
+    @Override
+    public boolean appliesTo(Class<?> requestType) {
+        return true;
+    }
+
+    @Override
+    public Object handle(Object request, RequestHandlerDelegate next) {
+        Timer[] requestTimers = timers.get(request.getClass());
+        long start = System.nanoTime();
+        try {
+            Object result = next.invoke(request);
+            requestTimers[0].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            requestTimers[1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, Class<?> requestType, String outcome) {
+        return Timer.builder("cqrs.requests")
+                .description("Time spent dispatching commands and queries through the mediator")
+                .tag("type", Command.class.isAssignableFrom(requestType) ? "command" : "query")
+                .tag("name", requestType.getSimpleName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -36,8 +36,18 @@ public class CorsConfig {
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(true);
 
-        // Expose authorization header
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        // Expose authorization header, Retry-After on 503s from load shedding, list paging, and
+        // ETag for conditional requests
+        configuration.setExposedHeaders(
+                Arrays.asList(
+                        "Authorization",
+                        "Retry-After",
+                        "RateLimit-Limit",
+                        "RateLimit-Remaining",
+                        "RateLimit-Reset",
+                        "X-Has-Next",
+                        "X-Total-Count",
+                        "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -2,8 +2,9 @@ package com.osgiliath.config;
 
 import com.osgiliath.domain.auth.User;
 import com.osgiliath.domain.auth.UserRepository;
-import java.util.ArrayList;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,8 +14,15 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final String[] ADMIN = {"ADMIN"};
+    private static final String[] NO_ROLES = {};
+
     private final UserRepository userRepository;
 
+    /** Accounts granted ROLE_ADMIN, which the /admin endpoints require */
+    @Value("${app.security.admin-usernames:}")
+    private Set<String> adminUsernames;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user =
@@ -29,7 +37,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .username(user.getUsername())
                 .password(user.getPassword())
                 .disabled(!user.isEnabled())
-                .authorities(new ArrayList<>())
+                .roles(adminUsernames.contains(user.getUsername()) ? ADMIN : NO_ROLES)
                 .build();
     }
 }
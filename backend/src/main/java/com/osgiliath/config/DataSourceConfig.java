@@ -0,0 +1,69 @@
+package com.osgiliath.config;
+
+import com.osgiliath.infrastructure.datasource.RoutingDataSource;
+import com.osgiliath.infrastructure.profiling.ConnectionWaitDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bulkheaded connection pools. Commands and ordinary queries use the "oltp" pool configured by
+ * spring.datasource.*; {@link com.osgiliath.application.shared.ReportingQuery} handlers use the
+ * "reporting" pool configured by app.datasource.reporting.*, which has its own size and statement
+ * timeout and may point at a read replica. Both pools publish hikaricp.* metrics tagged with their
+ * pool name.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource =
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("oltp");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource reportingDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.reporting.url:}") String url,
+            @Value("${app.datasource.reporting.maximum-pool-size:2}") int maximumPoolSize,
+            @Value("${app.datasource.reporting.connection-timeout:5s}") Duration connectionTimeout,
+            @Value("${app.datasource.reporting.statement-timeout:30s}") Duration statementTimeout) {
+        HikariDataSource dataSource =
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(url)) {
+            dataSource.setJdbcUrl(url);
+        }
+        dataSource.setPoolName("reporting");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // Idle reporting connections are not worth holding; open them on demand
+        dataSource.setMinimumIdle(0);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setReadOnly(true);
+        if (!statementTimeout.isZero()) {
+            dataSource.setConnectionInitSql(
+                    "SET statement_timeout = " + statementTimeout.toMillis());
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("oltpDataSource") DataSource oltpDataSource,
+            @Qualifier("reportingDataSource") DataSource reportingDataSource) {
+        return new ConnectionWaitDataSource(
+                new RoutingDataSource(oltpDataSource, reportingDataSource));
+    }
+}
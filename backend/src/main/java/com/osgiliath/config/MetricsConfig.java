@@ -0,0 +1,22 @@
+package com.osgiliath.config;
+
+import com.osgiliath.infrastructure.metrics.HibernateStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration. Meter registries, Hikari and executor metrics come from Spring Boot
+ * Actuator; this adds the Hibernate statement counter behind hibernate.statements.per.request
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties ->
+                properties.put(
+                        AvailableSettings.STATEMENT_INSPECTOR, new HibernateStatementCounter());
+    }
+}
@@ -1,11 +1,17 @@
 package com.osgiliath.config;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,7 +22,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
@@ -29,6 +37,9 @@ public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    @Value("${app.security.internal-networks:127.0.0.1/32,::1/128}")
+    private List<String> internalNetworks;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource))
@@ -50,8 +61,15 @@ public class SecurityConfig {
                                                 "/v3/api-docs/**",
                                                 "/swagger-ui.html")
                                         .permitAll()
-                                        .requestMatchers("/actuator/**")
+                                        .requestMatchers(
+                                                "/actuator/health",
+                                                "/actuator/health/**",
+                                                "/actuator/info")
                                         .permitAll()
+                                        .requestMatchers("/actuator/**")
+                                        .access(internalOrAuthenticated())
+                                        .requestMatchers("/admin/**")
+                                        .hasRole("ADMIN")
                                         .anyRequest()
                                         .authenticated())
                 .authenticationProvider(authenticationProvider())
@@ -61,6 +79,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Metrics and the Prometheus scrape are open to callers on the internal networks (the scraper)
+     * and to authenticated users; everyone else is refused
+     */
+    private AuthorizationManager<RequestAuthorizationContext> internalOrAuthenticated() {
+        List<IpAddressMatcher> internal =
+                internalNetworks.stream().map(IpAddressMatcher::new).toList();
+        AuthorizationManager<RequestAuthorizationContext> fromInternalNetwork =
+                (authentication, context) ->
+                        new AuthorizationDecision(
+                                internal.stream()
+                                        .anyMatch(
+                                                network -> network.matches(context.getRequest())));
+        return AuthorizationManagers.anyOf(
+                fromInternalNetwork, AuthenticatedAuthorizationManager.authenticated());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
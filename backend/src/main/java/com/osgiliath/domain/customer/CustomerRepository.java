@@ -1,5 +1,6 @@
 package com.osgiliath.domain.customer;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,11 +11,22 @@ public interface CustomerRepository {
 
     Optional<Customer> findById(UUID id);
 
+    /** Version of a customer, read without loading it */
+    Optional<Long> findVersionById(UUID id);
+
+    List<Customer> findAllById(Iterable<UUID> ids);
+
     Optional<Customer> findByEmail(String email);
 
+    /** The customer of an active or archived invoice */
+    Optional<Customer> findByInvoiceId(UUID invoiceId);
+
     void delete(Customer customer);
 
     void deleteAll();
 
     boolean existsByEmail(String email);
+
+    /** Write pending changes to the database without committing */
+    void flush();
 }
@@ -0,0 +1,14 @@
+package com.osgiliath.domain.exceptions;
+
+import com.osgiliath.domain.shared.DomainException;
+
+/**
+ * Exception thrown when a command could not be applied to an aggregate because of concurrent
+ * modifications, either after exhausting optimistic-lock retries or while waiting for the aggregate
+ * to become available. The client may safely retry.
+ */
+public class AggregateConflictException extends DomainException {
+    public AggregateConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.osgiliath.domain.exceptions;
+
+import com.osgiliath.domain.shared.DomainException;
+
+/**
+ * Exception thrown when a request is rejected up front because the resources it needs are
+ * saturated. Nothing was executed; the client may retry after a short delay.
+ */
+public class CapacityExceededException extends DomainException {
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
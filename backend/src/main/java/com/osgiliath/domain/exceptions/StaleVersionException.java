@@ -0,0 +1,14 @@
+package com.osgiliath.domain.exceptions;
+
+import com.osgiliath.domain.shared.DomainException;
+
+/**
+ * Exception thrown when a conditional update names a version of an aggregate that is no longer
+ * current, e.g. an If-Match header carrying an old ETag. The client should re-read and reapply its
+ * change rather than retry as is.
+ */
+public class StaleVersionException extends DomainException {
+    public StaleVersionException(String message) {
+        super(message);
+    }
+}
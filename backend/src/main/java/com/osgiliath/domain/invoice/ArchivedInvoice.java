@@ -0,0 +1,86 @@
+package com.osgiliath.domain.invoice;
+
+import com.osgiliath.domain.shared.Money;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Read-only copy of a settled (PAID or CANCELLED) invoice that has been moved out of the hot
+ * invoices table. Rows are only ever written by the archival job, never through JPA.
+ */
+@Entity
+@Immutable
+@Table(
+        name = "invoices_archive",
+        indexes = {
+            @Index(name = "idx_invoice_archive_number", columnList = "invoice_number"),
+            @Index(name = "idx_invoice_archive_customer", columnList = "customer_id"),
+            @Index(name = "idx_invoice_archive_issue_date", columnList = "issue_date")
+        })
+@Getter
+@NoArgsConstructor
+public class ArchivedInvoice {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "invoice_number", nullable = false, length = 50)
+    private String invoiceNumber;
+
+    @Column(name = "issue_date", nullable = false)
+    private LocalDate issueDate;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private InvoiceStatus status;
+
+    @OneToMany(mappedBy = "invoice")
+    private List<ArchivedLineItem> lineItems = new ArrayList<>();
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "subtotal", nullable = false))
+    private Money subtotal;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "tax_amount", nullable = false))
+    private Money taxAmount;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "total_amount", nullable = false))
+    private Money totalAmount;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "balance_due", nullable = false))
+    private Money balanceDue;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** Rehydrate a detached Invoice aggregate so callers can treat it like any other invoice */
+    public Invoice toInvoice() {
+        return Invoice.restore(this);
+    }
+}
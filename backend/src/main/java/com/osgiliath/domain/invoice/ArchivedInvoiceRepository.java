@@ -0,0 +1,28 @@
+package com.osgiliath.domain.invoice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Repository for settled invoices moved to cold storage (Domain layer) */
+public interface ArchivedInvoiceRepository {
+
+    Optional<ArchivedInvoice> findById(UUID id);
+
+    boolean existsByInvoiceNumber(String invoiceNumber);
+
+    boolean existsByCustomerId(UUID customerId);
+
+    /** Find archived invoices with the given status issued within [from, to] */
+    List<ArchivedInvoice> findByStatusAndIssueDateBetween(
+            InvoiceStatus status, LocalDate from, LocalDate to);
+
+    /**
+     * Move up to {@code limit} PAID or CANCELLED invoices last modified before {@code
+     * settledBefore}, together with their line items, from the hot tables into the archive. Returns
+     * the number of invoices moved.
+     */
+    int archiveSettledInvoices(LocalDateTime settledBefore, int limit);
+}
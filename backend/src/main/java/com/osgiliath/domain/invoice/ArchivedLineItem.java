@@ -0,0 +1,52 @@
+package com.osgiliath.domain.invoice;
+
+import com.osgiliath.domain.shared.Money;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/** Read-only copy of a line item belonging to an ArchivedInvoice */
+@Entity
+@Immutable
+@Table(
+        name = "line_items_archive",
+        indexes = {@Index(name = "idx_line_item_archive_invoice", columnList = "invoice_id")})
+@Getter
+@NoArgsConstructor
+public class ArchivedLineItem {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "invoice_id", nullable = false)
+    private ArchivedInvoice invoice;
+
+    @Column(name = "description", nullable = false, length = 500)
+    private String description;
+
+    @Column(name = "quantity", nullable = false)
+    private BigDecimal quantity;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "unit_price", nullable = false))
+    private Money unitPrice;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "line_total", nullable = false))
+    private Money lineTotal;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "version")
+    private Long version;
+}
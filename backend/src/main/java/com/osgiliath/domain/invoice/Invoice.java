@@ -2,16 +2,21 @@ package com.osgiliath.domain.invoice;
 
 import com.osgiliath.domain.exceptions.InvoiceHasNoLineItemsException;
 import com.osgiliath.domain.shared.BaseEntity;
+import com.osgiliath.domain.shared.DomainEvent;
 import com.osgiliath.domain.shared.DomainException;
 import com.osgiliath.domain.shared.Money;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 /** Invoice Aggregate Root Manages invoice lifecycle and enforces business rules */
 @Entity
@@ -62,6 +67,11 @@ public class Invoice extends BaseEntity {
     @AttributeOverride(name = "amount", column = @Column(name = "balance_due", nullable = false))
     private Money balanceDue;
 
+    /** Events recorded since the last save; published by the repository on save/delete */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
+
     private static final BigDecimal TAX_RATE = new BigDecimal("0.10"); // 10% tax
 
     private Invoice(UUID customerId, String invoiceNumber, LocalDate issueDate, LocalDate dueDate) {
@@ -83,7 +93,43 @@ public class Invoice extends BaseEntity {
         validateInvoiceNumber(invoiceNumber);
         validateDates(issueDate, dueDate);
 
-        return new Invoice(customerId, invoiceNumber, issueDate, dueDate);
+        Invoice invoice = new Invoice(customerId, invoiceNumber, issueDate, dueDate);
+        invoice.recordStatusChange(null, InvoiceStatus.DRAFT);
+        return invoice;
+    }
+
+    /** Rebuild a detached invoice from its archived copy (never persisted again) */
+    static Invoice restore(ArchivedInvoice archived) {
+        Invoice invoice =
+                new Invoice(
+                        archived.getCustomerId(),
+                        archived.getInvoiceNumber(),
+                        archived.getIssueDate(),
+                        archived.getDueDate());
+        invoice.setId(archived.getId());
+        invoice.setCreatedAt(archived.getCreatedAt());
+        invoice.setUpdatedAt(archived.getUpdatedAt());
+        invoice.setVersion(archived.getVersion());
+        invoice.status = archived.getStatus();
+        invoice.subtotal = archived.getSubtotal();
+        invoice.taxAmount = archived.getTaxAmount();
+        invoice.totalAmount = archived.getTotalAmount();
+        invoice.balanceDue = archived.getBalanceDue();
+
+        for (ArchivedLineItem archivedItem : archived.getLineItems()) {
+            LineItem lineItem =
+                    new LineItem(
+                            invoice,
+                            archivedItem.getDescription(),
+                            archivedItem.getQuantity(),
+                            archivedItem.getUnitPrice());
+            lineItem.setId(archivedItem.getId());
+            lineItem.setCreatedAt(archivedItem.getCreatedAt());
+            lineItem.setUpdatedAt(archivedItem.getUpdatedAt());
+            lineItem.setVersion(archivedItem.getVersion());
+            invoice.lineItems.add(lineItem);
+        }
+        return invoice;
     }
 
     /** Add a line item to the invoice (only in DRAFT status) */
@@ -124,8 +170,8 @@ public class Invoice extends BaseEntity {
             throw new InvoiceHasNoLineItemsException("Cannot send an invoice without line items");
         }
 
-        this.status = InvoiceStatus.SENT;
         this.balanceDue = this.totalAmount;
+        changeStatus(InvoiceStatus.SENT);
     }
 
     /** Apply a payment to the invoice */
@@ -143,10 +189,13 @@ public class Invoice extends BaseEntity {
         }
 
         this.balanceDue = this.balanceDue.subtract(paymentAmount);
+        domainEvents.add(
+                new InvoicePaymentApplied(
+                        getId(), paymentAmount.getAmount(), balanceDue.getAmount(), Instant.now()));
 
         // Auto-transition to PAID when balance is zero
         if (this.balanceDue.isZero()) {
-            this.status = InvoiceStatus.PAID;
+            changeStatus(InvoiceStatus.PAID);
         }
     }
 
@@ -157,7 +206,7 @@ public class Invoice extends BaseEntity {
                     "Can only mark SENT or OVERDUE invoices as paid. Current status: " + status);
         }
         this.balanceDue = Money.zero();
-        this.status = InvoiceStatus.PAID;
+        changeStatus(InvoiceStatus.PAID);
     }
 
     /** Cancel the invoice (can be done from DRAFT or SENT status) */
@@ -166,7 +215,7 @@ public class Invoice extends BaseEntity {
             throw new DomainException("Can only cancel draft or sent invoices");
         }
         boolean wasDraft = (status == InvoiceStatus.DRAFT);
-        this.status = InvoiceStatus.CANCELLED;
+        changeStatus(InvoiceStatus.CANCELLED);
         // DRAFT invoices have no payments, safe to zero out
         // SENT invoices retain balanceDue as record of outstanding amount at cancellation
         if (wasDraft) {
@@ -176,7 +225,50 @@ public class Invoice extends BaseEntity {
 
     /** Set status directly (for system operations like scheduled tasks) */
     public void setStatus(InvoiceStatus status) {
-        this.status = status;
+        changeStatus(status);
+    }
+
+    /** Record that this draft is being deleted; the caller removes it through the repository */
+    public void discard() {
+        ensureDraftStatus("Can only delete draft invoices");
+        recordStatusChange(status, null);
+    }
+
+    @DomainEvents
+    public List<DomainEvent> domainEvents() {
+        // IDs are generated on persist, after create() recorded the DRAFT event
+        return domainEvents.stream()
+                .map(
+                        event ->
+                                event instanceof InvoiceStatusChanged changed
+                                                && changed.getInvoiceId() == null
+                                        ? changed.withInvoiceId(getId())
+                                        : event)
+                .toList();
+    }
+
+    @AfterDomainEventPublication
+    public void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
+    private void changeStatus(InvoiceStatus newStatus) {
+        InvoiceStatus previousStatus = this.status;
+        this.status = newStatus;
+        if (previousStatus != newStatus) {
+            recordStatusChange(previousStatus, newStatus);
+        }
+    }
+
+    private void recordStatusChange(InvoiceStatus previousStatus, InvoiceStatus newStatus) {
+        domainEvents.add(
+                new InvoiceStatusChanged(
+                        getId(),
+                        previousStatus,
+                        newStatus,
+                        issueDate,
+                        totalAmount.getAmount(),
+                        Instant.now()));
     }
 
     /** Recalculate all totals based on line items */
@@ -0,0 +1,22 @@
+package com.osgiliath.domain.invoice;
+
+import com.osgiliath.domain.shared.DomainEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Value;
+
+/** A payment was applied to an invoice, leaving balanceDue outstanding */
+@Value
+public class InvoicePaymentApplied implements DomainEvent {
+
+    UUID invoiceId;
+    BigDecimal amount;
+    BigDecimal balanceDue;
+    Instant occurredAt;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
+}
@@ -14,6 +14,11 @@ public interface InvoiceRepository {
 
     Optional<Invoice> findByInvoiceNumber(String invoiceNumber);
 
+    boolean existsById(UUID id);
+
+    /** Versions of an active invoice and of its customer, read without loading either */
+    Optional<InvoiceVersions> findVersionsById(UUID id);
+
     void delete(Invoice invoice);
 
     void deleteAll();
@@ -26,4 +31,7 @@ public interface InvoiceRepository {
 
     /** Find invoices by status where due date is before the specified date */
     List<Invoice> findByStatusAndDueDateBefore(InvoiceStatus status, LocalDate date);
+
+    /** Write pending changes to the database without committing */
+    void flush();
 }
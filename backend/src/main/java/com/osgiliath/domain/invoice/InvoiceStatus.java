@@ -6,5 +6,10 @@ public enum InvoiceStatus {
     SENT, // Invoice has been sent to customer, can receive payments
     PAID, // Invoice is fully paid, balance is zero
     OVERDUE, // Invoice is past due date and still unpaid
-    CANCELLED // Invoice has been cancelled
+    CANCELLED; // Invoice has been cancelled
+
+    /** Whether an invoice in this state can no longer change */
+    public boolean isTerminal() {
+        return this == PAID || this == CANCELLED;
+    }
 }
@@ -0,0 +1,29 @@
+package com.osgiliath.domain.invoice;
+
+import com.osgiliath.domain.shared.DomainEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * An invoice moved between statuses. previousStatus is null when the invoice was created and
+ * newStatus is null when a draft was deleted.
+ */
+@Value
+public class InvoiceStatusChanged implements DomainEvent {
+
+    @With UUID invoiceId;
+    InvoiceStatus previousStatus;
+    InvoiceStatus newStatus;
+    LocalDate issueDate;
+    BigDecimal totalAmount;
+    Instant occurredAt;
+
+    @Override
+    public UUID getAggregateId() {
+        return invoiceId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.osgiliath.domain.invoice;
+
+/**
+ * Versions of an invoice and of its customer. Together they change whenever anything shown on the
+ * invoice does, including the customer's name.
+ */
+public record InvoiceVersions(Long invoice, Long customer) {}
@@ -0,0 +1,16 @@
+package com.osgiliath.domain.shared;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Something that happened to an aggregate. Aggregates record events while they change state; the
+ * repository publishes them when the aggregate is saved or deleted, and listeners that need
+ * committed state subscribe with {@code @TransactionalEventListener}.
+ */
+public interface DomainEvent {
+
+    UUID getAggregateId();
+
+    Instant getOccurredAt();
+}
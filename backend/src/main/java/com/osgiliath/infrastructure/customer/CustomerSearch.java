@@ -0,0 +1,115 @@
+package com.osgiliath.infrastructure.customer;
+
+import com.osgiliath.domain.customer.Customer;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Substring search over customer name and email. With the pg_trgm extension and the trigram GIN
+ * indexes from db/postgres/customer-search.sql, a "%term%" match is answered from the index and
+ * results are ranked by trigram similarity. Databases without pg_trgm (H2) fall back to the plain
+ * LIKE query, which scans the table and keeps the caller's sort.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerSearch {
+
+    static final List<String> INDEX_STATEMENTS =
+            List.of(
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_name_trgm "
+                            + "ON customers USING gin (lower(name) gin_trgm_ops)",
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_email_trgm "
+                            + "ON customers USING gin (email_address gin_trgm_ops)");
+
+    private static final String HAS_TRGM_SQL =
+            "SELECT COUNT(*) FROM pg_extension WHERE extname = 'pg_trgm'";
+
+    private final JpaCustomerRepository customerRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.customer-search.create-indexes:false}")
+    private boolean createIndexes;
+
+    private volatile boolean trigramAvailable;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (createIndexes) {
+            createIndexes();
+        }
+        trigramAvailable = detectTrigram();
+        if (!trigramAvailable) {
+            log.warn("pg_trgm is not installed, customer search will scan the customers table");
+        }
+    }
+
+    /**
+     * Customers whose name or email contains the term, case-insensitively. Ranked by similarity
+     * when pg_trgm is available, in which case the pageable's sort is ignored.
+     */
+    public Slice<Customer> search(String term, Pageable pageable) {
+        String normalized = normalize(term);
+        String pattern = pattern(normalized);
+        if (trigramAvailable) {
+            return customerRepository.searchBySimilarity(
+                    normalized,
+                    pattern,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
+        return customerRepository.searchByNameOrEmail(pattern, pageable);
+    }
+
+    /** Number of customers {@link #search} matches for the term */
+    public long count(String term) {
+        return customerRepository.countByNameOrEmail(pattern(normalize(term)));
+    }
+
+    boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+
+    private static String normalize(String term) {
+        return term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String pattern(String normalized) {
+        return "%" + escapeLike(normalized) + "%";
+    }
+
+    /** Escape LIKE wildcards so they match literally, using backslash as the escape character */
+    static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private void createIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            INDEX_STATEMENTS.forEach(jdbcTemplate::execute);
+        } catch (DataAccessException e) {
+            log.warn(
+                    "Could not create customer search indexes: {}",
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private boolean detectTrigram() {
+        try {
+            Long count = jdbcTemplate.queryForObject(HAS_TRGM_SQL, Long.class);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,19 +28,62 @@ public interface JpaCustomerRepository extends JpaRepository<Customer, UUID>, Cu
             "SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Customer c WHERE c.email.address = :email")
     boolean existsByEmail(@Param("email") String email);
 
+    @Override
+    @Query("SELECT c.version FROM Customer c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /** The customer an active or archived invoice belongs to, without loading the invoice */
+    @Override
+    @Query(
+            "SELECT c FROM Customer c"
+                    + " WHERE c.id = (SELECT i.customerId FROM Invoice i WHERE i.id = :invoiceId)"
+                    + " OR c.id = (SELECT a.customerId FROM ArchivedInvoice a"
+                    + " WHERE a.id = :invoiceId)")
+    Optional<Customer> findByInvoiceId(@Param("invoiceId") UUID invoiceId);
+
     /** Find all customers with pagination */
     Page<Customer> findAll(Pageable pageable);
 
+    /** One page of customers plus whether another follows, without counting the table */
+    Slice<Customer> findSliceBy(Pageable pageable);
+
     /**
-     * Search customers by name or email with pagination
+     * Search customers by name or email with pagination. Portable, but scans the table; {@link
+     * CustomerSearch} prefers {@link #searchBySimilarity} where pg_trgm is installed.
      *
-     * @param searchTerm Search term to match against name or email (case-insensitive)
+     * @param pattern Lower-case LIKE pattern, with backslash as the escape character
      * @param pageable Pagination parameters
-     * @return Page of matching customers
+     * @return Slice of matching customers
      */
     @Query(
             "SELECT c FROM Customer c WHERE "
-                    + "LOWER(c.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR "
-                    + "LOWER(c.email.address) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Customer> searchByNameOrEmail(@Param("searchTerm") String searchTerm, Pageable pageable);
+                    + "LOWER(c.name) LIKE :pattern ESCAPE '\\' OR "
+                    + "c.email.address LIKE :pattern ESCAPE '\\'")
+    Slice<Customer> searchByNameOrEmail(@Param("pattern") String pattern, Pageable pageable);
+
+    /** Number of customers {@link #searchByNameOrEmail} and {@link #searchBySimilarity} match */
+    @Query(
+            "SELECT COUNT(c) FROM Customer c WHERE "
+                    + "LOWER(c.name) LIKE :pattern ESCAPE '\\' OR "
+                    + "c.email.address LIKE :pattern ESCAPE '\\'")
+    long countByNameOrEmail(@Param("pattern") String pattern);
+
+    /**
+     * Search customers by name or email using the pg_trgm GIN indexes, best matches first
+     *
+     * @param term Lower-case search term, for ranking
+     * @param pattern Lower-case LIKE pattern, with backslash as the escape character
+     * @param pageable Page number and size; its sort is ignored
+     * @return Slice of matching customers ordered by similarity
+     */
+    @Query(
+            value =
+                    "SELECT c.* FROM customers c "
+                            + "WHERE lower(c.name) LIKE :pattern ESCAPE '\\' "
+                            + "OR c.email_address LIKE :pattern ESCAPE '\\' "
+                            + "ORDER BY greatest(similarity(lower(c.name), :term), "
+                            + "similarity(c.email_address, :term)) DESC, c.name, c.id",
+            nativeQuery = true)
+    Slice<Customer> searchBySimilarity(
+            @Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
 }
@@ -0,0 +1,309 @@
+package com.osgiliath.infrastructure.dashboard;
+
+import com.osgiliath.application.analytics.DashboardDeltaDto;
+import com.osgiliath.domain.exceptions.CapacityExceededException;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.invoice.InvoiceStatusChanged;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes dashboard deltas to connected clients over Server-Sent Events. Committed invoice status
+ * changes are merged into a pending delta that is flushed at most twice a second, so a bulk job
+ * produces one event rather than one per invoice. The last flushed deltas are kept so a client
+ * reconnecting with Last-Event-ID gets what it missed; when that is no longer possible (buffer
+ * overrun, or the ID comes from before a restart) it gets a reset event and should reload the
+ * analytics endpoints.
+ *
+ * <p>The scheduled flush and heartbeat only queue events. Writes to the clients run on a small pool
+ * private to this class, each client's events in order, so a slow client holds up neither the
+ * scheduler thread nor the other clients. A client that falls more than max-queued events behind is
+ * disconnected and catches up through Last-Event-ID.
+ *
+ * <p>Each node only sees its own commits.
+ */
+@Component
+@Slf4j
+public class DashboardEventStream implements DisposableBean {
+
+    static final String DELTA_EVENT = "delta";
+    static final String RESET_EVENT = "reset";
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final long RECONNECT_MILLIS = 3_000;
+
+    private record SentDelta(long sequence, DashboardDeltaDto delta) {}
+
+    /** Distinguishes event IDs of this process from those handed out before a restart */
+    private final String streamId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final Set<Client> clients = new CopyOnWriteArraySet<>();
+    private final Deque<SentDelta> replayBuffer = new ArrayDeque<>();
+
+    /** Guards the pending delta only, so committing threads never wait for slow clients */
+    private final Object pendingLock = new Object();
+
+    private final Map<InvoiceStatus, Long> pendingStatusCounts = new EnumMap<>(InvoiceStatus.class);
+    private final Map<String, BigDecimal> pendingRevenue = new TreeMap<>();
+    private long sequence;
+
+    private final int replaySize;
+    private final int maxConnections;
+    private final long timeoutMillis;
+    private final int maxQueued;
+    private final ThreadPoolTaskExecutor sendPool;
+
+    public DashboardEventStream(
+            @Value("${app.dashboard.stream.replay-size:500}") int replaySize,
+            @Value("${app.dashboard.stream.max-connections:500}") int maxConnections,
+            @Value("${app.dashboard.stream.timeout:30m}") Duration timeout,
+            @Value("${app.dashboard.stream.send-threads:4}") int sendThreads,
+            @Value("${app.dashboard.stream.max-queued:20}") int maxQueued,
+            MeterRegistry meterRegistry) {
+        this.replaySize = replaySize;
+        this.maxConnections = maxConnections;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxQueued = maxQueued;
+        // Each client has at most one drain task queued or running
+        this.sendPool = new ThreadPoolTaskExecutor();
+        sendPool.setThreadNamePrefix("sse-");
+        sendPool.setCorePoolSize(sendThreads);
+        sendPool.setMaxPoolSize(sendThreads);
+        sendPool.setQueueCapacity(maxConnections);
+        sendPool.initialize();
+        Gauge.builder("dashboard.stream.connections", clients, Set::size)
+                .description("Clients connected to the dashboard event stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream for one client, first replaying deltas after lastEventId if it is given
+     *
+     * @throws CapacityExceededException when max-connections streams are already open
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (clients.size() >= maxConnections) {
+            throw new CapacityExceededException("Too many dashboard streams are open");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(error -> clients.remove(client));
+
+        // Register under the lock so no flush falls between the replay and the registration
+        synchronized (this) {
+            try {
+                emitter.send(
+                        SseEmitter.event().comment("connected").reconnectTime(RECONNECT_MILLIS));
+                if (lastEventId != null && !lastEventId.isBlank()) {
+                    replayAfter(emitter, lastEventId);
+                }
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            clients.add(client);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(InvoiceStatusChanged event) {
+        synchronized (pendingLock) {
+            if (event.getPreviousStatus() != null) {
+                pendingStatusCounts.merge(event.getPreviousStatus(), -1L, Long::sum);
+            }
+            if (event.getNewStatus() != null) {
+                pendingStatusCounts.merge(event.getNewStatus(), 1L, Long::sum);
+            }
+            // Revenue over time is the total of PAID invoices by issue month
+            BigDecimal total = event.getTotalAmount();
+            String month = YearMonth.from(event.getIssueDate()).format(MONTH_FORMATTER);
+            if (event.getNewStatus() == InvoiceStatus.PAID) {
+                pendingRevenue.merge(month, total, BigDecimal::add);
+            }
+            if (event.getPreviousStatus() == InvoiceStatus.PAID) {
+                pendingRevenue.merge(month, total.negate(), BigDecimal::add);
+            }
+        }
+    }
+
+    /** Send the changes accumulated since the last flush as one delta event */
+    @Scheduled(fixedDelay = 500)
+    public synchronized void flush() {
+        DashboardDeltaDto delta;
+        synchronized (pendingLock) {
+            pendingStatusCounts.values().removeIf(count -> count == 0);
+            pendingRevenue.values().removeIf(amount -> amount.signum() == 0);
+            if (pendingStatusCounts.isEmpty() && pendingRevenue.isEmpty()) {
+                return;
+            }
+            delta =
+                    new DashboardDeltaDto(
+                            new EnumMap<>(pendingStatusCounts), new TreeMap<>(pendingRevenue));
+            pendingStatusCounts.clear();
+            pendingRevenue.clear();
+        }
+
+        SentDelta sent = new SentDelta(++sequence, delta);
+        replayBuffer.addLast(sent);
+        if (replayBuffer.size() > replaySize) {
+            replayBuffer.removeFirst();
+        }
+        broadcast(deltaEvent(sent).build());
+    }
+
+    /** Keep idle connections open through proxies and detect clients that went away */
+    @Scheduled(fixedRate = 15_000)
+    public void heartbeat() {
+        broadcast(SseEmitter.event().comment("heartbeat").build());
+    }
+
+    int connections() {
+        return clients.size();
+    }
+
+    @Override
+    public void destroy() {
+        sendPool.shutdown();
+    }
+
+    private void broadcast(Set<DataWithMediaType> event) {
+        for (Client client : clients) {
+            client.enqueue(event);
+        }
+    }
+
+    private void replayAfter(SseEmitter emitter, String lastEventId) throws IOException {
+        long lastSequence = parseSequence(lastEventId);
+        SentDelta oldest = replayBuffer.peekFirst();
+        boolean replayable =
+                lastSequence >= 0
+                        && lastSequence <= sequence
+                        && (oldest == null
+                                ? lastSequence == sequence
+                                : lastSequence >= oldest.sequence() - 1);
+        if (!replayable) {
+            emitter.send(SseEmitter.event().name(RESET_EVENT).id(eventId(sequence)).data("{}"));
+            return;
+        }
+        List<SentDelta> missed =
+                replayBuffer.stream().filter(sent -> sent.sequence() > lastSequence).toList();
+        for (SentDelta sent : missed) {
+            emitter.send(deltaEvent(sent));
+        }
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(streamId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return streamId + "-" + sequence;
+    }
+
+    private SseEmitter.SseEventBuilder deltaEvent(SentDelta sent) {
+        return SseEmitter.event()
+                .name(DELTA_EVENT)
+                .id(eventId(sent.sequence()))
+                .data(sent.delta(), MediaType.APPLICATION_JSON);
+    }
+
+    /** One connected client and the events queued for it, sent in order by one task at a time */
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final Deque<Set<DataWithMediaType>> queued = new ArrayDeque<>();
+        private boolean draining;
+
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> event) {
+            boolean overrun;
+            boolean idle = false;
+            synchronized (this) {
+                overrun = queued.size() >= maxQueued;
+                if (!overrun) {
+                    queued.addLast(event);
+                    idle = !draining;
+                    draining = true;
+                }
+            }
+            if (overrun) {
+                drop(new IOException("More than " + maxQueued + " events behind"));
+                return;
+            }
+            if (!idle) {
+                return;
+            }
+            try {
+                sendPool.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                drop(e);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> event;
+                synchronized (this) {
+                    event = queued.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(e);
+                    return;
+                }
+            }
+        }
+
+        private void drop(Exception cause) {
+            log.debug("Dropping dashboard stream client: {}", cause.getMessage());
+            clients.remove(this);
+            synchronized (this) {
+                queued.clear();
+            }
+            emitter.completeWithError(cause);
+        }
+    }
+}
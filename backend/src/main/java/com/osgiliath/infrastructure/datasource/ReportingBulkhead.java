@@ -0,0 +1,49 @@
+package com.osgiliath.infrastructure.datasource;
+
+import com.osgiliath.domain.exceptions.CapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admits reporting work onto the reporting pool. At most pool size + max-queued calls are in
+ * flight; the rest are rejected immediately instead of piling up in Hikari's wait queue until the
+ * connection timeout.
+ */
+@Component
+@Slf4j
+public class ReportingBulkhead {
+
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public ReportingBulkhead(
+            @Value("${app.datasource.reporting.maximum-pool-size:2}") int poolSize,
+            @Value("${app.datasource.reporting.max-queued:4}") int maxQueued,
+            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(poolSize + maxQueued);
+        this.rejected =
+                Counter.builder("datasource.reporting.rejected")
+                        .description("Reporting requests rejected because the pool queue was full")
+                        .register(meterRegistry);
+    }
+
+    /** Run work on the reporting pool, or reject it if the pool and its queue are full */
+    public <T> T call(Supplier<T> work) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            log.warn("Rejected reporting request: reporting pool queue is full");
+            throw new CapacityExceededException(
+                    "Reporting capacity exceeded, please retry shortly");
+        }
+        try {
+            return RoutingDataSource.using(RoutingDataSource.Pool.REPORTING, work);
+        } finally {
+            permits.release();
+        }
+    }
+}
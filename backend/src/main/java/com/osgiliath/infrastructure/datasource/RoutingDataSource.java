@@ -0,0 +1,50 @@
+package com.osgiliath.infrastructure.datasource;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connection requests to the OLTP or the reporting pool. The pool is chosen per thread when
+ * a connection is acquired, which for JPA is at transaction begin: work must be wrapped in {@link
+ * #using} before its transaction starts, and code joining an existing transaction stays on that
+ * transaction's pool.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    /** Connection pools behind the application's DataSource */
+    public enum Pool {
+        OLTP,
+        REPORTING
+    }
+
+    private static final ThreadLocal<Pool> CURRENT = new ThreadLocal<>();
+
+    public RoutingDataSource(DataSource oltp, DataSource reporting) {
+        setTargetDataSources(Map.of(Pool.OLTP, oltp, Pool.REPORTING, reporting));
+        setDefaultTargetDataSource(oltp);
+        afterPropertiesSet();
+    }
+
+    /** Run work whose connections come from the given pool */
+    public static <T> T using(Pool pool, Supplier<T> work) {
+        Pool previous = CURRENT.get();
+        CURRENT.set(pool);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Pool pool = CURRENT.get();
+        return pool != null ? pool : Pool.OLTP;
+    }
+}
@@ -3,6 +3,7 @@ package com.osgiliath.infrastructure.email;
 import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.LineItem;
+import com.osgiliath.infrastructure.profiling.EmailSendEvent;
 import java.time.format.DateTimeFormatter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -46,6 +47,10 @@ public class EmailService {
      */
     @Async
     public void sendInvoiceEmail(Invoice invoice, Customer customer, byte[] pdfAttachment) {
+        EmailSendEvent event = new EmailSendEvent();
+        event.begin();
+        int messageBytes = 0;
+        boolean success = false;
         try {
             log.info(
                     "Sending invoice email for invoice: {} to customer: {}",
@@ -56,14 +61,16 @@ public class EmailService {
             String htmlBody = buildEmailHtmlBody(invoice, customer);
             String textBody = buildEmailTextBody(invoice, customer);
 
-            sendEmailWithAttachment(
-                    customer.getEmailAddress(),
-                    subject,
-                    htmlBody,
-                    textBody,
-                    pdfAttachment,
-                    "invoice_" + invoice.getInvoiceNumber() + ".pdf");
+            messageBytes =
+                    sendEmailWithAttachment(
+                            customer.getEmailAddress(),
+                            subject,
+                            htmlBody,
+                            textBody,
+                            pdfAttachment,
+                            "invoice_" + invoice.getInvoiceNumber() + ".pdf");
 
+            success = true;
             log.info("Successfully sent invoice email for invoice: {}", invoice.getInvoiceNumber());
         } catch (Exception e) {
             // Log error but don't throw exception to prevent transaction rollback
@@ -72,11 +79,24 @@ public class EmailService {
                     invoice.getInvoiceNumber(),
                     e.getMessage(),
                     e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.invoiceId = String.valueOf(invoice.getId());
+                event.attachmentBytes = pdfAttachment != null ? pdfAttachment.length : 0;
+                event.messageBytes = messageBytes;
+                event.success = success;
+                event.commit();
+            }
         }
     }
 
-    /** Send email with PDF attachment using AWS SES Raw Email API */
-    private void sendEmailWithAttachment(
+    /**
+     * Send email with PDF attachment using AWS SES Raw Email API
+     *
+     * @return size of the raw MIME message sent
+     */
+    private int sendEmailWithAttachment(
             String toEmail,
             String subject,
             String htmlBody,
@@ -97,6 +117,7 @@ public class EmailService {
                     SendRawEmailRequest.builder().rawMessage(rawEmailMessage).build();
 
             sesClient.sendRawEmail(rawEmailRequest);
+            return rawMessage.length();
 
         } catch (SesException e) {
             log.error(
@@ -110,8 +131,11 @@ public class EmailService {
         }
     }
 
-    /** Build MIME multipart email message with HTML body and PDF attachment */
-    private String buildRawEmailMessage(
+    /**
+     * Build MIME multipart email message with HTML body and PDF attachment. Package-private for
+     * EmailServiceBenchmark
+     */
+    String buildRawEmailMessage(
             String toEmail,
             String subject,
             String htmlBody,
@@ -0,0 +1,133 @@
+package com.osgiliath.infrastructure.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.domain.invoice.InvoicePaymentApplied;
+import com.osgiliath.domain.invoice.InvoiceStatusChanged;
+import com.osgiliath.domain.shared.DomainEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Appends every published domain event to the domain_events table within the publishing
+ * transaction, so the log holds exactly the events of committed changes, and reads them back in
+ * commit-safe order for projections. The log relies on PostgreSQL 13+ transaction IDs (xid8); on
+ * other databases (H2) events are not logged and projections do not run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventLog {
+
+    /** A logged event and the (tx_id, position) to checkpoint after applying it */
+    public record Entry(String txId, long position, DomainEvent event) {}
+
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES =
+            Stream.of(InvoiceStatusChanged.class, InvoicePaymentApplied.class)
+                    .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private static final String HAS_XID8_SQL =
+            "SELECT COUNT(*) FROM pg_type WHERE typname = 'xid8'";
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext private EntityManager entityManager;
+
+    private volatile boolean available;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        available = detectXid8();
+        if (!available) {
+            log.warn("xid8 is not available, domain events will not be logged or projected");
+        }
+    }
+
+    /** Whether the database supports the log; nothing is appended or read otherwise */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @EventListener
+    @Transactional
+    public void append(DomainEvent event) {
+        if (!available) {
+            return;
+        }
+        String type = event.getClass().getSimpleName();
+        if (!EVENT_TYPES.containsKey(type)) {
+            throw new IllegalStateException("Unregistered domain event type: " + type);
+        }
+        try {
+            entityManager.persist(
+                    new StoredDomainEvent(
+                            type,
+                            event.getAggregateId(),
+                            event.getOccurredAt(),
+                            objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + type, e);
+        }
+    }
+
+    /**
+     * Read up to limit events after the given checkpoint. Only transactions older than every
+     * running one are read, since a running transaction may still commit events that sort before
+     * the ones already visible.
+     */
+    public List<Entry> readAfter(String txId, long position, int limit) {
+        List<Entry> entries = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT tx_id::text AS tx_id, position, event_type, payload FROM domain_events"
+                        + " WHERE (tx_id, position) > (?::xid8, ?)"
+                        + " AND tx_id < pg_snapshot_xmin(pg_current_snapshot())"
+                        + " ORDER BY tx_id, position LIMIT ?",
+                rs -> {
+                    Class<? extends DomainEvent> type = EVENT_TYPES.get(rs.getString("event_type"));
+                    DomainEvent event = type == null ? null : read(rs.getString("payload"), type);
+                    if (event == null) {
+                        log.warn(
+                                "Skipping unknown domain event type {} at position {}",
+                                rs.getString("event_type"),
+                                rs.getLong("position"));
+                    }
+                    entries.add(new Entry(rs.getString("tx_id"), rs.getLong("position"), event));
+                },
+                txId,
+                position,
+                limit);
+        return entries;
+    }
+
+    private boolean detectXid8() {
+        try {
+            Long count = jdbcTemplate.queryForObject(HAS_XID8_SQL, Long.class);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private DomainEvent read(String payload, Class<? extends DomainEvent> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.osgiliath.infrastructure.events;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * How far a projection has read the domain event log, as the last (tx_id, position) applied. Rows
+ * are only ever written by {@link ProjectionRunner}, never through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "projection_checkpoints")
+@Getter
+@NoArgsConstructor
+public class ProjectionCheckpoint {
+
+    @Id
+    @Column(name = "projection", nullable = false, length = 100)
+    private String projection;
+
+    @Column(name = "tx_id", nullable = false, columnDefinition = "xid8")
+    private String txId;
+
+    @Column(name = "position", nullable = false)
+    private Long position;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
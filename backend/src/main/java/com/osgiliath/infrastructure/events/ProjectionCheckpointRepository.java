@@ -0,0 +1,9 @@
+package com.osgiliath.infrastructure.events;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/** Read access to projection checkpoints, for the admin API */
+@Repository
+public interface ProjectionCheckpointRepository
+        extends JpaRepository<ProjectionCheckpoint, String> {}
@@ -0,0 +1,159 @@
+package com.osgiliath.infrastructure.events;
+
+import com.osgiliath.application.shared.Projection;
+import com.osgiliath.domain.shared.DomainEvent;
+import com.osgiliath.domain.shared.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Feeds the domain event log to every {@link Projection} in the background. Each batch is applied
+ * in one transaction together with the projection's checkpoint, which is locked for the duration,
+ * so several nodes can run this without applying a batch twice.
+ */
+@Component
+@ConditionalOnProperty(
+        name = "app.events.projections.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@Slf4j
+public class ProjectionRunner {
+
+    private static final String START_TX_ID = "0";
+
+    private final Map<String, Projection> projections;
+    private final Map<String, Counter> applied;
+    private final DomainEventLog eventLog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ProjectionRunner(
+            List<Projection> projections,
+            DomainEventLog eventLog,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.events.projections.batch-size:500}") int batchSize) {
+        this.projections =
+                projections.stream()
+                        .collect(Collectors.toMap(Projection::getName, Function.identity()));
+        this.applied =
+                projections.stream()
+                        .collect(
+                                Collectors.toMap(
+                                        Projection::getName,
+                                        projection ->
+                                                Counter.builder("projections.events.applied")
+                                                        .description(
+                                                                "Domain events applied to a"
+                                                                        + " projection")
+                                                        .tag("projection", projection.getName())
+                                                        .register(meterRegistry)));
+        this.eventLog = eventLog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /** Bring every projection up to date with the log */
+    @Scheduled(fixedDelayString = "${app.events.projections.poll-interval-ms:1000}")
+    public void runAll() {
+        if (!eventLog.isAvailable()) {
+            return;
+        }
+        for (Projection projection : projections.values()) {
+            try {
+                int consumed;
+                do {
+                    consumed = runBatch(projection);
+                } while (consumed == batchSize);
+            } catch (RuntimeException e) {
+                log.error(
+                        "Projection {} failed; retrying on the next run", projection.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Apply the next batch of events to one projection
+     *
+     * @return number of log entries consumed
+     */
+    public int runBatch(Projection projection) {
+        return transactionTemplate.execute(
+                status -> {
+                    Checkpoint checkpoint = lockCheckpoint(projection.getName());
+                    List<DomainEventLog.Entry> entries =
+                            eventLog.readAfter(checkpoint.txId(), checkpoint.position(), batchSize);
+                    if (entries.isEmpty()) {
+                        return 0;
+                    }
+                    List<DomainEvent> events =
+                            entries.stream()
+                                    .map(DomainEventLog.Entry::event)
+                                    .filter(Objects::nonNull)
+                                    .toList();
+                    projection.apply(events);
+                    DomainEventLog.Entry last = entries.get(entries.size() - 1);
+                    saveCheckpoint(projection.getName(), last.txId(), last.position());
+                    applied.get(projection.getName()).increment(events.size());
+                    return entries.size();
+                });
+    }
+
+    /** Clear a projection and rebuild it from the start of the log on the next runs */
+    public void replay(String name) {
+        Projection projection = projections.get(name);
+        if (projection == null) {
+            throw new DomainException("Projection not found: " + name);
+        }
+        if (!eventLog.isAvailable()) {
+            throw new DomainException("The domain event log is not available on this database");
+        }
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    lockCheckpoint(name);
+                    projection.reset();
+                    saveCheckpoint(name, START_TX_ID, 0);
+                });
+        log.info("Projection {} reset for replay", name);
+    }
+
+    private record Checkpoint(String txId, long position) {}
+
+    private Checkpoint lockCheckpoint(String name) {
+        jdbcTemplate.update(
+                "INSERT INTO projection_checkpoints (projection, tx_id, position, updated_at)"
+                        + " VALUES (?, ?::xid8, 0, now()) ON CONFLICT (projection) DO NOTHING",
+                name,
+                START_TX_ID);
+        return jdbcTemplate.queryForObject(
+                "SELECT tx_id::text, position FROM projection_checkpoints WHERE projection = ?"
+                        + " FOR UPDATE",
+                (rs, rowNum) -> new Checkpoint(rs.getString(1), rs.getLong(2)),
+                name);
+    }
+
+    private void saveCheckpoint(String name, String txId, long position) {
+        jdbcTemplate.update(
+                "UPDATE projection_checkpoints SET tx_id = ?::xid8, position = ?, updated_at ="
+                        + " now() WHERE projection = ?",
+                txId,
+                position,
+                name);
+    }
+}
@@ -0,0 +1,58 @@
+package com.osgiliath.infrastructure.events;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the domain event log, written in the same transaction as the aggregate change it
+ * describes. tx_id is the writing transaction's ID, filled in by PostgreSQL; readers order by
+ * (tx_id, position) and only read below the oldest running transaction, so an event can never
+ * appear behind a checkpoint after it was committed late.
+ */
+@Entity
+@Table(
+        name = "domain_events",
+        indexes = {@Index(name = "idx_domain_events_tx_position", columnList = "tx_id, position")})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredDomainEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "domain_events_seq")
+    @SequenceGenerator(
+            name = "domain_events_seq",
+            sequenceName = "domain_events_seq",
+            allocationSize = 50)
+    @Column(name = "position", nullable = false)
+    private Long position;
+
+    @Column(
+            name = "tx_id",
+            insertable = false,
+            updatable = false,
+            columnDefinition = "xid8 NOT NULL DEFAULT pg_current_xact_id()")
+    private String txId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    StoredDomainEvent(String eventType, UUID aggregateId, Instant occurredAt, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+}
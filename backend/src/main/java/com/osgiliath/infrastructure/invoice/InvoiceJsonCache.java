@@ -0,0 +1,137 @@
+package com.osgiliath.infrastructure.invoice;
+
+import com.osgiliath.domain.invoice.InvoiceVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Gzipped JSON of invoices that can no longer change, keyed by invoice ID and valid only for the
+ * invoice and customer versions it was rendered from. A lookup checks those versions with one
+ * primary key query, so an entry goes stale as soon as either row is written, on every instance.
+ * Entries are evicted least recently used once their compressed size exceeds the budget.
+ */
+@Component
+public class InvoiceJsonCache {
+
+    /** Cached JSON of one invoice, gzipped */
+    public record Entry(InvoiceVersions versions, byte[] gzip) {}
+
+    private final Map<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private long bytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+
+    @Autowired
+    public InvoiceJsonCache(
+            @Value("${app.invoice-json-cache.max-size:32MB}") DataSize maxSize,
+            MeterRegistry meterRegistry) {
+        this.maxBytes = maxSize.toBytes();
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        this.stale = lookups(meterRegistry, "stale");
+        Gauge.builder("invoice.json.cache.size", this, InvoiceJsonCache::size)
+                .description("Compressed bytes held by the invoice JSON cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("invoice.json.cache.entries", this, InvoiceJsonCache::entryCount)
+                .description("Invoices held by the invoice JSON cache")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("invoice.json.cache.lookups")
+                .description("Invoice JSON cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The invoice's cached JSON if it was rendered from the current versions, else null. The
+     * versions are only read when there is an entry to check.
+     */
+    public Entry get(UUID invoiceId, Supplier<Optional<InvoiceVersions>> currentVersions) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(invoiceId);
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (currentVersions.get().filter(entry.versions()::equals).isEmpty()) {
+            stale.increment();
+            evict(invoiceId, entry);
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    /** Cache the JSON of an invoice rendered from the given versions */
+    public void put(UUID invoiceId, InvoiceVersions versions, byte[] json) {
+        byte[] gzip = gzip(json);
+        if (gzip.length > maxBytes) {
+            return;
+        }
+        synchronized (this) {
+            Entry previous = entries.put(invoiceId, new Entry(versions, gzip));
+            bytes += gzip.length - (previous != null ? previous.gzip().length : 0);
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().gzip().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    public synchronized long size() {
+        return bytes;
+    }
+
+    public synchronized int entryCount() {
+        return entries.size();
+    }
+
+    private synchronized void evict(UUID invoiceId, Entry entry) {
+        if (entries.remove(invoiceId, entry)) {
+            bytes -= entry.gzip().length;
+        }
+    }
+
+    public static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] gunzip(byte[] gzip) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
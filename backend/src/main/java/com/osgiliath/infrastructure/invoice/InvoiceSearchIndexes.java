@@ -0,0 +1,62 @@
+package com.osgiliath.infrastructure.invoice;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Full-text search columns and GIN indexes behind invoice search, as in
+ * db/postgres/invoice-search.sql. Invoices and line items carry a generated search_vector column
+ * that Postgres keeps current on every insert and update; customer names are matched through an
+ * expression index. Hyphens and slashes split words, so INV-20251107-00042 indexes as inv, 20251107
+ * and 00042; so do angle brackets, which the parser would otherwise read as markup and skip.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InvoiceSearchIndexes {
+
+    /** Must match the expression of idx_customer_name_search for the index to be used */
+    public static final String CUSTOMER_NAME_VECTOR =
+            "to_tsvector('simple', translate(c.name, '-/<>', '    '))";
+
+    static final List<String> STATEMENTS =
+            List.of(
+                    "ALTER TABLE invoices ADD COLUMN IF NOT EXISTS search_vector tsvector "
+                            + "GENERATED ALWAYS AS (setweight(to_tsvector('simple', "
+                            + "translate(invoice_number, '-/<>', '    ')), 'A')) STORED",
+                    "ALTER TABLE line_items ADD COLUMN IF NOT EXISTS search_vector tsvector "
+                            + "GENERATED ALWAYS AS (to_tsvector('simple', "
+                            + "translate(description, '-/<>', '    '))) STORED",
+                    "CREATE INDEX IF NOT EXISTS idx_invoice_search "
+                            + "ON invoices USING gin (search_vector)",
+                    "CREATE INDEX IF NOT EXISTS idx_line_item_search "
+                            + "ON line_items USING gin (search_vector)",
+                    "CREATE INDEX IF NOT EXISTS idx_customer_name_search ON customers "
+                            + "USING gin (to_tsvector('simple', translate(name, '-/<>', '    ')))");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.invoice-search.create-indexes:false}")
+    private boolean createIndexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!createIndexes) {
+            return;
+        }
+        try {
+            STATEMENTS.forEach(jdbcTemplate::execute);
+        } catch (DataAccessException e) {
+            log.warn(
+                    "Could not create invoice search columns: {}",
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+}
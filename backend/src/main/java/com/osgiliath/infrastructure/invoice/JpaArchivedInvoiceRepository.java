@@ -0,0 +1,97 @@
+package com.osgiliath.infrastructure.invoice;
+
+import com.osgiliath.domain.invoice.ArchivedInvoice;
+import com.osgiliath.domain.invoice.ArchivedInvoiceRepository;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA implementation of ArchivedInvoiceRepository. Archival is done with set-based native
+ * statements (INSERT ... SELECT then DELETE) so rows never pass through the persistence context.
+ */
+@Repository
+public interface JpaArchivedInvoiceRepository
+        extends ArchivedInvoiceRepository, JpaRepository<ArchivedInvoice, UUID> {
+
+    @Override
+    @Query("SELECT a FROM ArchivedInvoice a LEFT JOIN FETCH a.lineItems WHERE a.id = :id")
+    Optional<ArchivedInvoice> findById(@Param("id") UUID id);
+
+    @Override
+    @Query(
+            "SELECT a FROM ArchivedInvoice a WHERE a.status = :status "
+                    + "AND a.issueDate >= :from AND a.issueDate <= :to")
+    List<ArchivedInvoice> findByStatusAndIssueDateBetween(
+            @Param("status") InvoiceStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Override
+    default int archiveSettledInvoices(LocalDateTime settledBefore, int limit) {
+        List<UUID> ids = findSettledInvoiceIdsForArchival(settledBefore, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        copyInvoicesToArchive(ids);
+        copyLineItemsToArchive(ids);
+        deleteLineItemsOfInvoices(ids);
+        deleteInvoices(ids);
+        return ids.size();
+    }
+
+    /**
+     * Lock the next chunk of settled invoices. SKIP LOCKED lets the job run alongside normal
+     * traffic (and on several nodes) without waiting on rows that are being modified.
+     */
+    @Query(
+            value =
+                    "SELECT i.id FROM invoices i "
+                            + "WHERE i.status IN ('PAID', 'CANCELLED') "
+                            + "AND COALESCE(i.updated_at, i.created_at) < :settledBefore "
+                            + "ORDER BY i.issue_date "
+                            + "LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<UUID> findSettledInvoiceIdsForArchival(
+            @Param("settledBefore") LocalDateTime settledBefore, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value =
+                    "INSERT INTO invoices_archive (id, customer_id, invoice_number, issue_date, "
+                            + "due_date, status, subtotal, tax_amount, total_amount, balance_due, "
+                            + "created_at, updated_at, version, archived_at) "
+                            + "SELECT i.id, i.customer_id, i.invoice_number, i.issue_date, "
+                            + "i.due_date, i.status, i.subtotal, i.tax_amount, i.total_amount, "
+                            + "i.balance_due, i.created_at, i.updated_at, i.version, now() "
+                            + "FROM invoices i WHERE i.id IN (:ids)",
+            nativeQuery = true)
+    int copyInvoicesToArchive(@Param("ids") List<UUID> ids);
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO line_items_archive (id, invoice_id, description, quantity, "
+                            + "unit_price, line_total, created_at, updated_at, version) "
+                            + "SELECT li.id, li.invoice_id, li.description, li.quantity, "
+                            + "li.unit_price, li.line_total, li.created_at, li.updated_at, li.version "
+                            + "FROM line_items li WHERE li.invoice_id IN (:ids)",
+            nativeQuery = true)
+    int copyLineItemsToArchive(@Param("ids") List<UUID> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM line_items WHERE invoice_id IN (:ids)", nativeQuery = true)
+    int deleteLineItemsOfInvoices(@Param("ids") List<UUID> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM invoices WHERE id IN (:ids)", nativeQuery = true)
+    int deleteInvoices(@Param("ids") List<UUID> ids);
+}
@@ -3,6 +3,7 @@ package com.osgiliath.infrastructure.invoice;
 import com.osgiliath.domain.invoice.Invoice;
 import com.osgiliath.domain.invoice.InvoiceRepository;
 import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.invoice.InvoiceVersions;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,12 @@ public interface JpaInvoiceRepository
     @Query("SELECT i FROM Invoice i LEFT JOIN FETCH i.lineItems WHERE i.id = :id")
     Optional<Invoice> findById(@Param("id") UUID id);
 
+    @Override
+    @Query(
+            "SELECT new com.osgiliath.domain.invoice.InvoiceVersions(i.version, c.version)"
+                    + " FROM Invoice i, Customer c WHERE i.id = :id AND c.id = i.customerId")
+    Optional<InvoiceVersions> findVersionsById(@Param("id") UUID id);
+
     @Override
     @Query(
             "SELECT i FROM Invoice i LEFT JOIN FETCH i.lineItems WHERE i.invoiceNumber = :invoiceNumber")
@@ -60,14 +67,24 @@ public interface JpaInvoiceRepository
      * Find all invoices with optional filters, pagination and sorting Note: Using two-step process
      * to avoid Hibernate pagination issues with fetch joins Using native query with explicit casts
      * to avoid PostgreSQL type inference issues
+     *
+     * <p>The issue_date bounds are plain range comparisons against infinity defaults rather than
+     * "param IS NULL OR ..." so Postgres can prune partitions of the issue_date-partitioned
+     * invoices table, including with generic prepared-statement plans.
      */
     @Query(
             value =
                     "SELECT i.id FROM invoices i "
                             + "WHERE (CAST(:status AS VARCHAR) IS NULL OR i.status = CAST(:status AS VARCHAR)) "
                             + "AND (CAST(:customerId AS VARCHAR) IS NULL OR i.customer_id = CAST(:customerId AS UUID)) "
-                            + "AND (CAST(:fromDate AS VARCHAR) IS NULL OR i.issue_date >= CAST(:fromDate AS DATE)) "
-                            + "AND (CAST(:toDate AS VARCHAR) IS NULL OR i.issue_date <= CAST(:toDate AS DATE))",
+                            + "AND i.issue_date >= COALESCE(CAST(:fromDate AS DATE), DATE '-infinity') "
+                            + "AND i.issue_date <= COALESCE(CAST(:toDate AS DATE), DATE 'infinity')",
+            countQuery =
+                    "SELECT COUNT(*) FROM invoices i "
+                            + "WHERE (CAST(:status AS VARCHAR) IS NULL OR i.status = CAST(:status AS VARCHAR)) "
+                            + "AND (CAST(:customerId AS VARCHAR) IS NULL OR i.customer_id = CAST(:customerId AS UUID)) "
+                            + "AND i.issue_date >= COALESCE(CAST(:fromDate AS DATE), DATE '-infinity') "
+                            + "AND i.issue_date <= COALESCE(CAST(:toDate AS DATE), DATE 'infinity')",
             nativeQuery = true)
     Page<UUID> findAllIdsByFilters(
             @Param("status") String status,
@@ -83,8 +100,14 @@ public interface JpaInvoiceRepository
     /** Check if any invoices exist for a customer */
     boolean existsByCustomerId(UUID customerId);
 
-    /** Find invoices by status where due date is before the specified date */
-    @Query("SELECT i FROM Invoice i WHERE i.status = :status AND i.dueDate < :date")
+    /**
+     * Find invoices by status where due date is before the specified date. Since the due date can
+     * never precede the issue date, the redundant issue_date bound lets Postgres skip future
+     * partitions.
+     */
+    @Query(
+            "SELECT i FROM Invoice i WHERE i.status = :status AND i.dueDate < :date "
+                    + "AND i.issueDate < :date")
     List<Invoice> findByStatusAndDueDateBefore(
             @Param("status") InvoiceStatus status, @Param("date") LocalDate date);
 }
@@ -0,0 +1,50 @@
+package com.osgiliath.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Registered as Hibernate's
+ * statement inspector; {@link StatementCountFilter} resets and reads the count around each HTTP
+ * request. Work handed to other threads counts towards the request when wrapped with {@link
+ * #countingTowardsCaller}.
+ */
+public class HibernateStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNT =
+            ThreadLocal.withInitial(AtomicInteger::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get().incrementAndGet();
+        return sql;
+    }
+
+    /** Reset the count for the current thread */
+    public static void reset() {
+        COUNT.get().set(0);
+    }
+
+    /** Statements prepared on the current thread since the last reset */
+    public static int current() {
+        return COUNT.get().get();
+    }
+
+    /**
+     * Wrap {@code work} so that, on whichever thread it runs, its statements are added to the
+     * calling thread's count
+     */
+    public static <T> Supplier<T> countingTowardsCaller(Supplier<T> work) {
+        AtomicInteger callerCount = COUNT.get();
+        return () -> {
+            AtomicInteger ownCount = COUNT.get();
+            COUNT.set(callerCount);
+            try {
+                return work.get();
+            } finally {
+                COUNT.set(ownCount);
+            }
+        };
+    }
+}
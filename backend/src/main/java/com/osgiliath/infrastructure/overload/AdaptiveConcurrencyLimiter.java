@@ -0,0 +1,67 @@
+package com.osgiliath.infrastructure.overload;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency (AIMD). Every completed request is a sample:
+ * slower than its route class's latency target shrinks the limit multiplicatively, otherwise the
+ * limit grows by roughly one per limit's worth of requests while it is actually being used. The
+ * limit is shared by all route classes; a class is admitted while total in-flight requests are
+ * below its share of the limit, which sheds the lowest priorities first.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(
+            int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /** Admit a request of the given class, or return false if it should be shed */
+    public boolean tryAcquire(RouteClass routeClass) {
+        int allowed = Math.max(1, (int) (limit * routeClass.share()));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Release an admitted request and feed its latency back into the limit */
+    public void release(RouteClass routeClass, long latencyNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        adjust(latencyNanos > routeClass.latencyTargetNanos(), inFlightAtCompletion);
+    }
+
+    private synchronized void adjust(boolean slow, int inFlightAtCompletion) {
+        if (slow) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlightAtCompletion * 2 >= limit) {
+            // Only grow while the limit is the constraint, so idle periods do not inflate it
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
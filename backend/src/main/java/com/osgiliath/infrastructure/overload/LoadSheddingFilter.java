@@ -0,0 +1,130 @@
+package com.osgiliath.infrastructure.overload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.api.error.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rejects requests above the adaptive concurrency limit with 503 and Retry-After instead of letting
+ * them queue for Tomcat threads and pool connections. Runs first, ahead of JWT authentication
+ * (which itself needs a connection), and adds CORS headers to its own rejections so browsers can
+ * read them.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "app.overload.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<RouteClass, Counter> shed = new EnumMap<>(RouteClass.class);
+    private final CorsConfigurationSource corsConfigurationSource;
+    private final ObjectMapper objectMapper;
+
+    public LoadSheddingFilter(
+            @Value("${app.overload.initial-limit:20}") int initialLimit,
+            @Value("${app.overload.min-limit:4}") int minLimit,
+            @Value("${app.overload.max-limit:200}") int maxLimit,
+            @Value("${app.overload.backoff-ratio:0.9}") double backoffRatio,
+            MeterRegistry meterRegistry,
+            CorsConfigurationSource corsConfigurationSource,
+            ObjectMapper objectMapper) {
+        this.limiter =
+                new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio);
+        this.corsConfigurationSource = corsConfigurationSource;
+        this.objectMapper = objectMapper;
+        Gauge.builder(
+                        "http.server.concurrency.limit",
+                        limiter,
+                        AdaptiveConcurrencyLimiter::getLimit)
+                .description("Adaptive limit on concurrently handled HTTP requests")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "http.server.concurrency.in.flight",
+                        limiter,
+                        AdaptiveConcurrencyLimiter::getInFlight)
+                .description("HTTP requests currently admitted by the load shedding filter")
+                .register(meterRegistry);
+        for (RouteClass routeClass : RouteClass.values()) {
+            shed.put(
+                    routeClass,
+                    Counter.builder("http.server.requests.shed")
+                            .description(
+                                    "Requests rejected because the concurrency limit was reached")
+                            .tag("route", routeClass.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RouteClass routeClass = RouteClass.of(request.getMethod(), path);
+        if (routeClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire(routeClass)) {
+            shed.get(routeClass).increment();
+            reject(request, response, routeClass);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(routeClass, System.nanoTime() - start);
+        }
+    }
+
+    private void reject(
+            HttpServletRequest request, HttpServletResponse response, RouteClass routeClass)
+            throws IOException {
+        log.debug(
+                "Shedding {} {} ({}), limit {}",
+                request.getMethod(),
+                request.getRequestURI(),
+                routeClass,
+                limiter.getLimit());
+        CorsConfiguration cors = corsConfigurationSource.getCorsConfiguration(request);
+        if (cors != null) {
+            new DefaultCorsProcessor().processRequest(cors, request, response);
+        }
+        ErrorResponse error =
+                ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                        .message("Server is at capacity, please retry shortly")
+                        .path(request.getRequestURI())
+                        .build();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
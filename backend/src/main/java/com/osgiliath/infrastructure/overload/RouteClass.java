@@ -0,0 +1,65 @@
+package com.osgiliath.infrastructure.overload;
+
+import java.time.Duration;
+
+/**
+ * Priority classes for load shedding, most important first. Each class may use a share of the
+ * adaptive concurrency limit, so as the server saturates exports are shed first and login and
+ * payments last. The latency target is what a healthy server delivers for that class; slower
+ * completions make the limiter back off.
+ */
+public enum RouteClass {
+    /** Login, registration and recording payments */
+    CRITICAL(1.0, Duration.ofMillis(500)),
+    /** Other writes: invoice and customer commands */
+    COMMANDS(0.9, Duration.ofSeconds(1)),
+    /** Reads of invoices, customers and payments */
+    READS(0.7, Duration.ofMillis(500)),
+    /** Dashboard aggregates */
+    ANALYTICS(0.5, Duration.ofSeconds(2)),
+    /** PDF exports */
+    EXPORTS(0.3, Duration.ofSeconds(3));
+
+    private final double share;
+    private final long latencyTargetNanos;
+
+    RouteClass(double share, Duration latencyTarget) {
+        this.share = share;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+    }
+
+    /** Fraction of the concurrency limit requests of this class may occupy */
+    public double share() {
+        return share;
+    }
+
+    public long latencyTargetNanos() {
+        return latencyTargetNanos;
+    }
+
+    /**
+     * Classify a request by method and path (relative to the servlet context), or return null for
+     * routes that are never shed (health, metrics, admin, API docs)
+     */
+    public static RouteClass of(String method, String path) {
+        if (path.startsWith("/actuator")
+                || path.startsWith("/health")
+                || path.startsWith("/admin")
+                || path.startsWith("/swagger-ui")
+                || path.startsWith("/v3/api-docs")
+                || "OPTIONS".equals(method)) {
+            return null;
+        }
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+        if (path.startsWith("/auth/") || (!read && path.endsWith("/payments"))) {
+            return CRITICAL;
+        }
+        if (path.startsWith("/analytics")) {
+            return ANALYTICS;
+        }
+        if (read && path.endsWith("/pdf")) {
+            return EXPORTS;
+        }
+        return read ? READS : COMMANDS;
+    }
+}
@@ -0,0 +1,123 @@
+package com.osgiliath.infrastructure.pagination;
+
+import com.osgiliath.application.shared.TotalMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds a total to a slice of a list query when the client asked for one. A slice that has no next
+ * page already knows its total, so the count query only runs for earlier pages. Estimated totals
+ * for an unfiltered table come from pg_class.reltuples (summed over partitions), which ANALYZE and
+ * autovacuum keep within a few percent; filtered estimates are exact counts cached per filter for a
+ * short TTL.
+ */
+@Component
+@Slf4j
+public class PageTotals {
+
+    private static final String RELTUPLES_SQL =
+            "SELECT coalesce(sum(c.reltuples), -1)::bigint, min(c.reltuples)::bigint"
+                    + " FROM pg_class c WHERE (c.oid = to_regclass(?) AND c.relkind = 'r')"
+                    + " OR c.oid IN (SELECT inhrelid FROM pg_inherits"
+                    + " WHERE inhparent = to_regclass(?))";
+
+    private record CacheKey(String table, Object filters) {}
+
+    private record CachedCount(long count, long expiresAtNanos) {}
+
+    private final Map<CacheKey, CachedCount> counts = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    @Autowired
+    public PageTotals(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.pagination.count-cache.ttl:60s}") Duration ttl,
+            @Value("${app.pagination.count-cache.max-entries:1000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The slice as a page with a total, or unchanged for {@link TotalMode#NONE}
+     *
+     * @param table Table the list reads, for row estimates and cache keys
+     * @param filters Value object of the list's filters, null when unfiltered
+     * @param count Exact count of rows matching the filters
+     */
+    public <T> Slice<T> withTotal(
+            Slice<T> slice, TotalMode mode, String table, Object filters, LongSupplier count) {
+        if (mode == null || mode == TotalMode.NONE) {
+            return slice;
+        }
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+            return page(slice, offset + slice.getNumberOfElements());
+        }
+        if (mode == TotalMode.EXACT) {
+            return page(slice, count.getAsLong());
+        }
+        if (filters == null) {
+            long estimate = estimateRows(table);
+            if (estimate >= 0) {
+                return page(slice, estimate);
+            }
+        }
+        return page(slice, cachedCount(new CacheKey(table, filters), count));
+    }
+
+    /** Planner estimate of the table's rows, or -1 if it or a partition was never analyzed */
+    long estimateRows(String table) {
+        try {
+            List<long[]> rows =
+                    jdbcTemplate.query(
+                            RELTUPLES_SQL,
+                            (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)},
+                            table,
+                            table);
+            if (rows.isEmpty() || rows.get(0)[1] < 0) {
+                return -1;
+            }
+            return rows.get(0)[0];
+        } catch (DataAccessException e) {
+            log.debug("No row estimate for {}: {}", table, e.getMostSpecificCause().getMessage());
+            return -1;
+        }
+    }
+
+    private long cachedCount(CacheKey key, LongSupplier count) {
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.expiresAtNanos() < 0) {
+            return cached.count();
+        }
+        long value = count.getAsLong();
+        if (counts.size() >= maxEntries) {
+            counts.clear();
+        }
+        counts.put(key, new CachedCount(value, now + ttlNanos));
+        return value;
+    }
+
+    private static <T> Slice<T> page(Slice<T> slice, long total) {
+        // PageImpl raises a low estimate to what the slice itself proves exists
+        long atLeast =
+                (slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0)
+                        + slice.getNumberOfElements()
+                        + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), Math.max(total, atLeast));
+    }
+}
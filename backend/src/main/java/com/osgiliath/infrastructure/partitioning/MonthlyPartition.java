@@ -0,0 +1,53 @@
+package com.osgiliath.infrastructure.partitioning;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import lombok.Getter;
+
+/**
+ * One calendar month of a range-partitioned table. Partitions are named {@code <parent>_yYYYYmMM}
+ * and cover [first day of month, first day of next month).
+ */
+@Getter
+public class MonthlyPartition {
+
+    private final String parentTable;
+    private final YearMonth month;
+
+    private MonthlyPartition(String parentTable, YearMonth month) {
+        this.parentTable = parentTable;
+        this.month = month;
+    }
+
+    public static MonthlyPartition of(String parentTable, YearMonth month) {
+        if (parentTable == null || !parentTable.matches("[a-z_]+")) {
+            throw new IllegalArgumentException("Invalid partitioned table name: " + parentTable);
+        }
+        return new MonthlyPartition(parentTable, month);
+    }
+
+    public String getName() {
+        return String.format("%s_y%04dm%02d", parentTable, month.getYear(), month.getMonthValue());
+    }
+
+    public LocalDate getFrom() {
+        return month.atDay(1);
+    }
+
+    public LocalDate getTo() {
+        return month.plusMonths(1).atDay(1);
+    }
+
+    /** Idempotent DDL that attaches this month to the parent table */
+    public String toCreateStatement() {
+        return "CREATE TABLE IF NOT EXISTS "
+                + getName()
+                + " PARTITION OF "
+                + parentTable
+                + " FOR VALUES FROM ('"
+                + getFrom()
+                + "') TO ('"
+                + getTo()
+                + "')";
+    }
+}
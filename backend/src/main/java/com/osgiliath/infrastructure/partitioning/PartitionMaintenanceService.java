@@ -0,0 +1,80 @@
+package com.osgiliath.infrastructure.partitioning;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps monthly partitions of invoices (by issue_date) and payments (by payment_date) created ahead
+ * of time so new rows never land in the default partition. Only active when the tables have been
+ * converted with db/postgres/partition-invoices-payments.sql and app.partitioning.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.partitioning.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    static final List<String> PARTITIONED_TABLES = List.of("invoices", "payments");
+
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT COUNT(*) FROM pg_partitioned_table pt "
+                    + "JOIN pg_class c ON c.oid = pt.partrelid "
+                    + "WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureFuturePartitions();
+    }
+
+    // Run daily at 00:30, ahead of the overdue invoice job
+    @Scheduled(cron = "${app.partitioning.cron:0 30 0 * * *}")
+    public void ensureFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        for (String table : PARTITIONED_TABLES) {
+            if (!isPartitioned(table)) {
+                log.warn("Table {} is not partitioned, skipping partition maintenance", table);
+                continue;
+            }
+            for (MonthlyPartition partition : upcomingPartitions(table, current, monthsAhead)) {
+                try {
+                    jdbcTemplate.execute(partition.toCreateStatement());
+                } catch (DataAccessException e) {
+                    // Typically rows for this month already sit in the default partition
+                    log.error(
+                            "Could not create partition {}: {}",
+                            partition.getName(),
+                            e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    /** The current month plus {@code monthsAhead} following months */
+    static List<MonthlyPartition> upcomingPartitions(
+            String table, YearMonth current, int monthsAhead) {
+        return IntStream.rangeClosed(0, monthsAhead)
+                .mapToObj(offset -> MonthlyPartition.of(table, current.plusMonths(offset)))
+                .toList();
+    }
+
+    private boolean isPartitioned(String table) {
+        Long count = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Long.class, table);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.osgiliath.infrastructure.profiling;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Times connection acquisition from the pool while a transaction is being recorded, for {@link
+ * TransactionEvent#connectionWait}. Outside a recording it delegates without timing.
+ */
+public class ConnectionWaitDataSource extends DelegatingDataSource {
+
+    public ConnectionWaitDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionFlightRecorder.isRecording()) {
+            return obtainTargetDataSource().getConnection();
+        }
+        long start = System.nanoTime();
+        try {
+            return obtainTargetDataSource().getConnection();
+        } finally {
+            TransactionFlightRecorder.addConnectionWait(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!TransactionFlightRecorder.isRecording()) {
+            return obtainTargetDataSource().getConnection(username, password);
+        }
+        long start = System.nanoTime();
+        try {
+            return obtainTargetDataSource().getConnection(username, password);
+        } finally {
+            TransactionFlightRecorder.addConnectionWait(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.osgiliath.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One invoice email built and sent through SES by EmailService */
+@Name("com.osgiliath.EmailSend")
+@Label("Invoice Email Send")
+@Category({"Osgiliath", "Email"})
+@StackTrace(false)
+public class EmailSendEvent extends Event {
+
+    @Label("Invoice ID")
+    public String invoiceId;
+
+    @Label("Attachment Size")
+    @DataAmount
+    public long attachmentBytes;
+
+    @Label("Message Size")
+    @DataAmount
+    public long messageBytes;
+
+    @Label("Success")
+    public boolean success;
+}
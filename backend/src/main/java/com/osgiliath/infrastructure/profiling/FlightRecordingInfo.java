@@ -0,0 +1,17 @@
+package com.osgiliath.infrastructure.profiling;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Value;
+
+/** State of an on-demand flight recording started through {@link FlightRecordingService} */
+@Value
+public class FlightRecordingInfo {
+
+    long id;
+    String settings;
+    String state;
+    Instant startTime;
+    Duration duration;
+    long maxSizeBytes;
+}
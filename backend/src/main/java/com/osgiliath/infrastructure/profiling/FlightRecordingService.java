@@ -0,0 +1,133 @@
+package com.osgiliath.infrastructure.profiling;
+
+import com.osgiliath.domain.shared.DomainException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Starts and dumps on-demand JDK Flight Recorder recordings. Recordings are bounded by duration and
+ * size so a forgotten one cannot fill the disk, and only one runs at a time. Recordings started on
+ * the command line (-XX:StartFlightRecording) are not touched.
+ */
+@Service
+@Slf4j
+public class FlightRecordingService {
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    /**
+     * Events of the built-in settings that capture the process environment, system properties and
+     * JVM arguments, where secrets such as JWT_SECRET and the database password live
+     */
+    private static final List<String> SECRET_EVENTS =
+            List.of(
+                    "jdk.InitialEnvironmentVariable",
+                    "jdk.InitialSystemProperty",
+                    "jdk.JVMInformation");
+
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+    private String settings;
+
+    public FlightRecordingService(
+            @Value("${app.profiling.max-duration:10m}") Duration maxDuration,
+            @Value("${app.profiling.max-size-mb:100}") long maxSizeMb) {
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    /** Start a recording that stops by itself after the given duration */
+    public synchronized FlightRecordingInfo start(Duration duration, String settings) {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException(
+                    "Recording duration must be between 1s and " + maxDuration);
+        }
+        if (!SETTINGS.contains(settings)) {
+            throw new IllegalArgumentException("Recording settings must be one of " + SETTINGS);
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new DomainException(
+                    "Flight recording already exists and is running: " + recording.getId());
+        }
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings: " + settings, e);
+        }
+        SECRET_EVENTS.forEach(started::disable);
+        started.setName("osgiliath-on-demand");
+        started.setToDisk(true);
+        started.setDuration(duration);
+        started.setMaxSize(maxSizeBytes);
+        started.start();
+        recording = started;
+        this.settings = settings;
+        log.info(
+                "Started flight recording {} for {} with '{}' settings",
+                started.getId(),
+                duration,
+                settings);
+        return current();
+    }
+
+    /** Current on-demand recording, running or finished */
+    public synchronized FlightRecordingInfo current() {
+        require();
+        return new FlightRecordingInfo(
+                recording.getId(),
+                settings,
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getDuration(),
+                recording.getMaxSize());
+    }
+
+    /**
+     * Write the data recorded so far to a temporary .jfr file. A running recording keeps running;
+     * the caller owns (and deletes) the returned file.
+     */
+    public synchronized Path dump() {
+        require();
+        try {
+            Path file = Files.createTempFile("osgiliath-" + recording.getId() + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump flight recording", e);
+        }
+    }
+
+    /** Stop and discard the on-demand recording */
+    public synchronized void close() {
+        require();
+        recording.close();
+        log.info("Closed flight recording {}", recording.getId());
+        recording = null;
+    }
+
+    private void require() {
+        if (recording == null) {
+            throw new DomainException("Flight recording not found");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.osgiliath.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One command or query dispatched through the mediator, emitted by FlightRecorderBehavior */
+@Name("com.osgiliath.Handler")
+@Label("CQRS Handler")
+@Description("Command or query handler invocation, including its pipeline behaviors")
+@Category({"Osgiliath", "Application"})
+@StackTrace(false)
+public class HandlerEvent extends Event {
+
+    @Label("Request Type")
+    public String requestType;
+
+    @Label("Kind")
+    @Description("command or query")
+    public String kind;
+
+    @Label("Aggregate ID")
+    public String aggregateId;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,21 @@
+package com.osgiliath.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One chunk of invoices marked OVERDUE and flushed by the overdue invoice job */
+@Name("com.osgiliath.OverdueChunk")
+@Label("Overdue Invoice Chunk")
+@Category({"Osgiliath", "Jobs"})
+@StackTrace(false)
+public class OverdueChunkEvent extends Event {
+
+    @Label("Chunk")
+    public int chunk;
+
+    @Label("Invoices")
+    public int invoices;
+}
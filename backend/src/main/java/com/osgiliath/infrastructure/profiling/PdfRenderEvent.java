@@ -0,0 +1,29 @@
+package com.osgiliath.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Rendering of one invoice PDF by ExportInvoiceToPdfQueryHandler */
+@Name("com.osgiliath.PdfRender")
+@Label("Invoice PDF Render")
+@Category({"Osgiliath", "Documents"})
+@StackTrace(false)
+public class PdfRenderEvent extends Event {
+
+    @Label("Invoice ID")
+    public String invoiceId;
+
+    @Label("Line Items")
+    public int lineItems;
+
+    @Label("Payments")
+    public int payments;
+
+    @Label("Document Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,37 @@
+package com.osgiliath.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Spring-managed transaction from begin to commit or rollback, emitted by
+ * TransactionFlightRecorder
+ */
+@Name("com.osgiliath.Transaction")
+@Label("Transaction")
+@Description("Spring-managed transaction from begin to commit or rollback")
+@Category({"Osgiliath", "Persistence"})
+@StackTrace(false)
+public class TransactionEvent extends Event {
+
+    @Label("Name")
+    @Description("Transaction name, usually the @Transactional method")
+    public String name;
+
+    @Label("Read Only")
+    public boolean readOnly;
+
+    @Label("Connection Wait")
+    @Description("Time spent waiting for JDBC connections from the pool inside this transaction")
+    @Timespan(Timespan.NANOSECONDS)
+    public long connectionWait;
+
+    @Label("Outcome")
+    @Description("committed, rolled back or begin failed")
+    public String outcome;
+}
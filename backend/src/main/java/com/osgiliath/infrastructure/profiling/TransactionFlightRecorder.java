@@ -0,0 +1,81 @@
+package com.osgiliath.infrastructure.profiling;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Emits a {@link TransactionEvent} per Spring-managed transaction. Spring Boot registers this
+ * listener on the transaction manager; {@link ConnectionWaitDataSource} adds pool wait time to the
+ * innermost open transaction on the thread.
+ *
+ * <p>Nothing is tracked unless a recording has the event enabled: begin then only allocates an
+ * event that the JIT eliminates, and connection acquisition only checks an empty thread-local.
+ */
+@Component
+public class TransactionFlightRecorder implements TransactionExecutionListener {
+
+    private record Frame(TransactionExecution execution, TransactionEvent event) {}
+
+    private static final ThreadLocal<Deque<Frame>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        TransactionEvent event = new TransactionEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.name = transaction.getTransactionName();
+        event.readOnly = transaction.isReadOnly();
+        event.begin();
+        OPEN.get().push(new Frame(transaction, event));
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null) {
+            finish(transaction, "begin failed");
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        finish(transaction, commitFailure == null ? "committed" : "commit failed");
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        finish(transaction, "rolled back");
+    }
+
+    /** Add connection pool wait time to the innermost transaction being recorded on this thread */
+    static void addConnectionWait(long nanos) {
+        Frame frame = OPEN.get().peek();
+        if (frame != null) {
+            frame.event().connectionWait += nanos;
+        }
+    }
+
+    /** Whether a transaction on this thread is being recorded */
+    static boolean isRecording() {
+        return !OPEN.get().isEmpty();
+    }
+
+    private static void finish(TransactionExecution transaction, String outcome) {
+        Deque<Frame> open = OPEN.get();
+        Frame frame = open.peek();
+        // Transactions that began before the recording started have no frame
+        if (frame == null || frame.execution() != transaction) {
+            return;
+        }
+        open.pop();
+        TransactionEvent event = frame.event();
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
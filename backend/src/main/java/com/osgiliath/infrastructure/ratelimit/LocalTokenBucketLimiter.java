@@ -0,0 +1,119 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory token buckets, one per key, for a single node.
+ *
+ * <p>Buckets live in a fixed number of lock stripes. Taking a token locks one stripe for a hash
+ * lookup and a little arithmetic, so clients on different stripes never contend and the whole
+ * operation stays well under a microsecond. Buckets are refilled lazily from the elapsed time, and
+ * buckets that have refilled completely are evicted in the background, since a full bucket is the
+ * same as no bucket.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class LocalTokenBucketLimiter implements RateLimiter {
+
+    private static final int STRIPES = 64;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAt;
+        final int capacity;
+        final double refillPerNano;
+
+        Bucket(RateLimitQuota quota, long now) {
+            this.tokens = quota.getCapacity();
+            this.refilledAt = now;
+            this.capacity = quota.getCapacity();
+            this.refillPerNano = quota.getRefillPerSecond() / NANOS_PER_SECOND;
+        }
+
+        void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Map<String, Bucket>[] stripes = new Map[STRIPES];
+
+    private final LongSupplier nanoClock;
+
+    public LocalTokenBucketLimiter() {
+        this(System::nanoTime);
+    }
+
+    LocalTokenBucketLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new HashMap<>();
+        }
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitQuota quota) {
+        Map<String, Bucket> stripe = stripeFor(key);
+        long now = nanoClock.getAsLong();
+        boolean allowed;
+        double tokens;
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(quota, now);
+                stripe.put(key, bucket);
+            } else {
+                bucket.refill(now);
+            }
+            allowed = bucket.tokens >= 1;
+            if (allowed) {
+                bucket.tokens -= 1;
+            }
+            tokens = bucket.tokens;
+        }
+        return RateLimitDecision.of(allowed, tokens, quota);
+    }
+
+    /** Drop buckets that have refilled completely */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFullBuckets() {
+        long now = nanoClock.getAsLong();
+        int remaining = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.values()
+                        .removeIf(
+                                bucket -> {
+                                    bucket.refill(now);
+                                    return bucket.tokens >= bucket.capacity;
+                                });
+                remaining += stripe.size();
+            }
+        }
+        log.debug("Rate limit buckets in use: {}", remaining);
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Map<String, Bucket> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+}
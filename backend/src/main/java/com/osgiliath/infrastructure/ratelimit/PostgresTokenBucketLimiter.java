@@ -0,0 +1,71 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token buckets shared by all nodes, stored in the rate_limit_buckets table (see
+ * db/postgres/rate-limit-buckets.sql). Refill and take happen in a single upsert, so concurrent
+ * requests on different nodes serialize on the bucket's row and never over-grant. Costs one round
+ * trip per request; use the in-memory store unless quotas must hold across nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "postgres")
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresTokenBucketLimiter implements RateLimiter {
+
+    // The refilled level is computed from the existing row; a token is taken only if one is there
+    private static final String AVAILABLE =
+            "LEAST(?, b.tokens + EXTRACT(EPOCH FROM statement_timestamp() - b.refilled_at) * ?)";
+
+    private static final String CONSUME_SQL =
+            "INSERT INTO rate_limit_buckets AS b (bucket_key, tokens, refilled_at, granted) "
+                    + "VALUES (?, ? - 1, statement_timestamp(), true) "
+                    + "ON CONFLICT (bucket_key) DO UPDATE SET "
+                    + "tokens = "
+                    + AVAILABLE
+                    + " - CASE WHEN "
+                    + AVAILABLE
+                    + " >= 1 THEN 1 ELSE 0 END, "
+                    + "granted = "
+                    + AVAILABLE
+                    + " >= 1, "
+                    + "refilled_at = statement_timestamp() "
+                    + "RETURNING tokens, granted";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitQuota quota) {
+        int capacity = quota.getCapacity();
+        double rate = quota.getRefillPerSecond();
+        return jdbcTemplate.queryForObject(
+                CONSUME_SQL,
+                (rs, rowNum) ->
+                        RateLimitDecision.of(
+                                rs.getBoolean("granted"), rs.getDouble("tokens"), quota),
+                key,
+                capacity,
+                capacity,
+                rate,
+                capacity,
+                rate,
+                capacity,
+                rate);
+    }
+
+    /** Remove buckets untouched for a day; they would be full anyway */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void deleteIdleBuckets() {
+        int deleted =
+                jdbcTemplate.update(
+                        "DELETE FROM rate_limit_buckets "
+                                + "WHERE refilled_at < statement_timestamp() - interval '1 day'");
+        log.debug("Deleted {} idle rate limit buckets", deleted);
+    }
+}
@@ -0,0 +1,28 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import lombok.Value;
+
+/** Outcome of taking a token, with the values reported in the RateLimit-* headers */
+@Value
+public class RateLimitDecision {
+
+    boolean allowed;
+    int limit;
+    long remaining;
+
+    /** Seconds until the bucket is full again */
+    long resetSeconds;
+
+    /** Seconds until the next token, when rejected */
+    long retryAfterSeconds;
+
+    static RateLimitDecision of(boolean allowed, double tokens, RateLimitQuota quota) {
+        double rate = quota.getRefillPerSecond();
+        return new RateLimitDecision(
+                allowed,
+                quota.getCapacity(),
+                (long) Math.max(0, tokens),
+                (long) Math.ceil(Math.max(0, quota.getCapacity() - tokens) / rate),
+                allowed ? 0 : (long) Math.ceil((1 - tokens) / rate));
+    }
+}
@@ -0,0 +1,106 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.api.error.ErrorResponse;
+import com.osgiliath.infrastructure.overload.RouteClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Per-client rate limiting. Runs just after the security filters, so authenticated requests are
+ * limited per username and anonymous ones (login, registration) per client IP. Each route group
+ * ({@link RouteClass}) has its own bucket and quota. Responses carry RateLimit-Limit,
+ * RateLimit-Remaining and RateLimit-Reset; rejected requests get 429 with Retry-After.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<RouteClass, Counter> limited = new EnumMap<>(RouteClass.class);
+
+    public RateLimitFilter(
+            RateLimiter rateLimiter,
+            RateLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (RouteClass routeClass : RouteClass.values()) {
+            limited.put(
+                    routeClass,
+                    Counter.builder("http.server.requests.rate.limited")
+                            .description("Requests rejected with 429 by per-client rate limits")
+                            .tag("route", routeClass.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RouteClass routeClass = RouteClass.of(request.getMethod(), path);
+        RateLimitQuota quota = routeClass != null ? properties.getQuotas().get(routeClass) : null;
+        if (quota == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision = rateLimiter.tryConsume(bucketKey(routeClass, request), quota);
+        response.setHeader("RateLimit-Limit", Integer.toString(decision.getLimit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(decision.getResetSeconds()));
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        limited.get(routeClass).increment();
+        ErrorResponse error =
+                ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                        .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                        .message("Rate limit exceeded, please retry later")
+                        .path(request.getRequestURI())
+                        .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(decision.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String bucketKey(RouteClass routeClass, HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return routeClass.name() + ":user:" + authentication.getName();
+        }
+        return routeClass.name() + ":ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,23 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import com.osgiliath.infrastructure.overload.RouteClass;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Per-client rate limit settings (app.rate-limit.*) */
+@Data
+@Component
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** memory (per node) or postgres (shared by all nodes) */
+    private String store = "memory";
+
+    /** Quota per route group; groups without a quota are not limited */
+    private Map<RouteClass, RateLimitQuota> quotas = new EnumMap<>(RouteClass.class);
+}
@@ -0,0 +1,15 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Token bucket size (burst) and sustained refill rate for one route group */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitQuota {
+
+    private int capacity;
+    private double refillPerSecond;
+}
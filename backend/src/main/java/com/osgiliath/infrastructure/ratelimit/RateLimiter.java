@@ -0,0 +1,8 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+/** Token bucket store; one bucket per client and route group */
+public interface RateLimiter {
+
+    /** Take one token from the bucket for the key, creating it full on first use */
+    RateLimitDecision tryConsume(String key, RateLimitQuota quota);
+}
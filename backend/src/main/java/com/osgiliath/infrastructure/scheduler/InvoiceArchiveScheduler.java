@@ -0,0 +1,37 @@
+package com.osgiliath.infrastructure.scheduler;
+
+import com.osgiliath.application.invoice.ArchiveSettledInvoicesCommand;
+import com.osgiliath.application.shared.Mediator;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class InvoiceArchiveScheduler {
+
+    private final Mediator mediator;
+
+    @Value("${app.archive.retention-days:730}")
+    private int retentionDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    // Run daily at 2 AM, after the overdue invoice job
+    @Scheduled(cron = "${app.archive.cron:0 0 2 * * *}")
+    public void archiveSettledInvoices() {
+        log.info("Running scheduled task: Archive settled invoices");
+        ArchiveSettledInvoicesCommand command =
+                new ArchiveSettledInvoicesCommand(
+                        LocalDateTime.now().minusDays(retentionDays), batchSize);
+        int count = mediator.send(command);
+        log.info("Scheduled task completed: {} invoices archived", count);
+    }
+}
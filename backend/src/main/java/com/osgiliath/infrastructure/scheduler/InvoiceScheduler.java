@@ -1,7 +1,9 @@
 package com.osgiliath.infrastructure.scheduler;
 
 import com.osgiliath.application.invoice.MarkOverdueInvoicesCommand;
-import com.osgiliath.application.invoice.MarkOverdueInvoicesHandler;
+import com.osgiliath.application.shared.Mediator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,14 +13,28 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Slf4j
 public class InvoiceScheduler {
-    private final MarkOverdueInvoicesHandler markOverdueInvoicesHandler;
+
+    private final Mediator mediator;
+    private final MeterRegistry meterRegistry;
 
     // Run daily at 1 AM
     @Scheduled(cron = "0 0 1 * * *")
     public void markOverdueInvoices() {
         log.info("Running scheduled task: Mark overdue invoices");
-        MarkOverdueInvoicesCommand command = new MarkOverdueInvoicesCommand();
-        int count = markOverdueInvoicesHandler.handle(command);
-        log.info("Scheduled task completed: {} invoices marked as OVERDUE", count);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            MarkOverdueInvoicesCommand command = new MarkOverdueInvoicesCommand();
+            int count = mediator.send(command);
+            meterRegistry.counter("invoices.overdue.marked").increment(count);
+            outcome = "success";
+            log.info("Scheduled task completed: {} invoices marked as OVERDUE", count);
+        } finally {
+            sample.stop(
+                    Timer.builder("invoices.overdue.job")
+                            .description("Duration of the scheduled overdue invoice job")
+                            .tag("outcome", outcome)
+                            .register(meterRegistry));
+        }
     }
 }
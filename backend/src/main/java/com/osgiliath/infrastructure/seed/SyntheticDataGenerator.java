@@ -0,0 +1,515 @@
+package com.osgiliath.infrastructure.seed;
+
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import com.osgiliath.domain.payment.PaymentMethod;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk-loads a deterministic, production-shaped dataset for performance work: customers with a
+ * skewed invoice volume, invoices with realistic line-item counts and statuses, and payments that
+ * include installments and partial payments.
+ *
+ * <p>Rows are written with JDBC batch inserts, one transaction per {@code batchSize} invoices,
+ * bypassing JPA, on {@code parallelism} writer threads. Totals follow the same rules as the Invoice
+ * aggregate (line total = quantity x unit price, 10% tax, HALF_UP to cents) so generated invoices
+ * behave like real ones. Add {@code reWriteBatchedInserts=true} to the Postgres JDBC URL for large
+ * loads.
+ *
+ * <p>Generated invoice numbers use the SYN{seed}- prefix and customer emails embed the seed, so a
+ * run does not collide with real data or with runs using other seeds.
+ */
+@Component
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final String INSERT_CUSTOMER =
+            "INSERT INTO customers (id, name, email_address, phone, address, created_at,"
+                    + " updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_INVOICE =
+            "INSERT INTO invoices (id, customer_id, invoice_number, issue_date, due_date, status,"
+                    + " subtotal, tax_amount, total_amount, balance_due, created_at, updated_at,"
+                    + " version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_LINE_ITEM =
+            "INSERT INTO line_items (id, invoice_id, description, quantity, unit_price,"
+                    + " line_total, created_at, updated_at, version)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_PAYMENT =
+            "INSERT INTO payments (id, invoice_id, payment_date, amount, payment_method,"
+                    + " reference_number, created_at, updated_at, version)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final DateTimeFormatter NUMBER_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int[] PAYMENT_TERMS_DAYS = {15, 30, 30, 30, 45, 60};
+
+    private static final String[] COMPANY_PREFIXES = {
+        "Northwind", "Blue Harbor", "Summit", "Ironwood", "Silver Creek", "Redstone", "Evergreen",
+        "Golden Gate", "Lakeside", "Pinnacle", "Riverbend", "Oakridge", "Starlight", "Westfield"
+    };
+    private static final String[] COMPANY_TRADES = {
+        "Logistics",
+        "Foods",
+        "Consulting",
+        "Manufacturing",
+        "Dental",
+        "Architects",
+        "Media",
+        "Hardware",
+        "Analytics",
+        "Construction",
+        "Travel",
+        "Labs"
+    };
+    private static final String[] COMPANY_SUFFIXES = {"Inc", "LLC", "Ltd", "Group", "Co"};
+    private static final String[] STREETS = {
+        "Main St", "Oak Ave", "Market St", "Harbor Blvd", "Elm St", "Industrial Pkwy", "Mill Rd"
+    };
+    private static final String[] CITIES = {
+        "Springfield", "Portland", "Riverside", "Franklin", "Georgetown", "Madison", "Fairview"
+    };
+    private static final String[] ITEM_DESCRIPTIONS = {
+        "Consulting services",
+        "Software license (annual)",
+        "On-site support",
+        "Hosting - standard tier",
+        "Training workshop",
+        "Custom integration work",
+        "Hardware maintenance",
+        "Project management",
+        "Data migration",
+        "Design review",
+        "Shipping and handling",
+        "Priority support add-on"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SyntheticDataGenerator(
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Generate and insert the dataset described by {@code spec} */
+    public SyntheticDataSummary generate(SyntheticDataSpec spec) {
+        if (spec.getCustomers() <= 0 || spec.getInvoices() < 0 || spec.getBatchSize() <= 0) {
+            throw new IllegalArgumentException(
+                    "Customers and batch size must be positive, invoices must not be negative");
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        LocalDate firstIssueDate = spec.getAsOf().minusMonths(spec.getMonths());
+        int spanDays = (int) Math.max(1, ChronoUnit.DAYS.between(firstIssueDate, spec.getAsOf()));
+
+        UUID[] customerIds = insertCustomers(spec, random, firstIssueDate);
+
+        ChunkWriter writer = new ChunkWriter(spec.getParallelism());
+        long lineItems = 0;
+        long payments = 0;
+        int sequence = 0;
+        try {
+            while (sequence < spec.getInvoices()) {
+                int chunkSize = Math.min(spec.getBatchSize(), spec.getInvoices() - sequence);
+                Chunk chunk = new Chunk();
+                for (int i = 0; i < chunkSize; i++) {
+                    addInvoice(chunk, spec, random, customerIds, spanDays, ++sequence);
+                }
+                writer.write(chunk);
+                lineItems += chunk.lineItems.size();
+                payments += chunk.payments.size();
+                if (sequence % (spec.getBatchSize() * 100) == 0) {
+                    log.info(
+                            "Synthetic data: {}/{} invoices generated",
+                            sequence,
+                            spec.getInvoices());
+                }
+            }
+        } finally {
+            writer.close();
+        }
+
+        SyntheticDataSummary summary =
+                new SyntheticDataSummary(
+                        customerIds.length,
+                        spec.getInvoices(),
+                        lineItems,
+                        payments,
+                        Duration.ofNanos(System.nanoTime() - start));
+        log.info(
+                "Synthetic data loaded (seed {}): {} customers, {} invoices, {} line items, {}"
+                        + " payments in {} s",
+                spec.getSeed(),
+                summary.getCustomers(),
+                summary.getInvoices(),
+                summary.getLineItems(),
+                summary.getPayments(),
+                summary.getElapsed().toSeconds());
+        return summary;
+    }
+
+    private UUID[] insertCustomers(
+            SyntheticDataSpec spec, SplittableRandom random, LocalDate firstIssueDate) {
+        UUID[] ids = new UUID[spec.getCustomers()];
+        List<Object[]> rows = new ArrayList<>(spec.getBatchSize());
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = uuid(random);
+            String name =
+                    pick(random, COMPANY_PREFIXES)
+                            + " "
+                            + pick(random, COMPANY_TRADES)
+                            + " "
+                            + pick(random, COMPANY_SUFFIXES);
+            String domain = name.toLowerCase().replaceAll("[^a-z]+", "");
+            Timestamp createdAt = timestamp(firstIssueDate.minusDays(random.nextInt(365)), random);
+            rows.add(
+                    new Object[] {
+                        ids[i],
+                        name,
+                        "billing+" + i + "-s" + spec.getSeed() + "@" + domain + ".example.com",
+                        String.format(
+                                "555-%03d-%04d", random.nextInt(1000), random.nextInt(10_000)),
+                        (100 + random.nextInt(9900))
+                                + " "
+                                + pick(random, STREETS)
+                                + ", "
+                                + pick(random, CITIES),
+                        createdAt,
+                        createdAt
+                    });
+            if (rows.size() == spec.getBatchSize() || i == ids.length - 1) {
+                List<Object[]> batch = rows;
+                transactionTemplate.executeWithoutResult(
+                        status -> jdbcTemplate.batchUpdate(INSERT_CUSTOMER, batch));
+                rows = new ArrayList<>(spec.getBatchSize());
+            }
+        }
+        return ids;
+    }
+
+    private void addInvoice(
+            Chunk chunk,
+            SyntheticDataSpec spec,
+            SplittableRandom random,
+            UUID[] customerIds,
+            int spanDays,
+            int sequence) {
+        UUID invoiceId = uuid(random);
+        // A few large accounts carry most of the volume
+        UUID customerId =
+                customerIds[(int) (customerIds.length * Math.pow(random.nextDouble(), 2.5))];
+        LocalDate issueDate = spec.getAsOf().minusDays(random.nextInt(spanDays + 1));
+        LocalDate dueDate = issueDate.plusDays(pick(random, PAYMENT_TERMS_DAYS));
+        Timestamp createdAt = timestamp(issueDate, random);
+
+        long subtotalCents = 0;
+        int lineItemCount = lineItemCount(random);
+        for (int i = 0; i < lineItemCount; i++) {
+            // Quantities in tenths: whole units or fractional hours
+            long quantityTenths =
+                    random.nextInt(10) < 7
+                            ? 10L * (1 + random.nextInt(10))
+                            : 5 + random.nextInt(396);
+            long unitCents = logUniformCents(random, 500, 500_000);
+            long lineCents = (unitCents * quantityTenths + 5) / 10;
+            subtotalCents += lineCents;
+            chunk.lineItems.add(
+                    new Object[] {
+                        uuid(random),
+                        invoiceId,
+                        pick(random, ITEM_DESCRIPTIONS),
+                        BigDecimal.valueOf(quantityTenths, 1),
+                        cents(unitCents),
+                        cents(lineCents),
+                        createdAt,
+                        createdAt
+                    });
+        }
+        long taxCents = (subtotalCents + 5) / 10;
+        long totalCents = subtotalCents + taxCents;
+
+        long ageDays = ChronoUnit.DAYS.between(issueDate, spec.getAsOf());
+        InvoiceStatus status;
+        long balanceCents;
+        int roll = random.nextInt(100);
+        if (roll < (ageDays < 30 ? 25 : 2)) {
+            status = InvoiceStatus.DRAFT;
+            balanceCents = 0;
+        } else if (roll < (ageDays < 30 ? 28 : 5)) {
+            status = InvoiceStatus.CANCELLED;
+            balanceCents = totalCents;
+        } else {
+            long paidCents =
+                    addPayments(
+                            chunk,
+                            spec,
+                            random,
+                            invoiceId,
+                            issueDate,
+                            dueDate,
+                            ageDays,
+                            totalCents);
+            balanceCents = totalCents - paidCents;
+            if (balanceCents == 0) {
+                status = InvoiceStatus.PAID;
+            } else {
+                status =
+                        dueDate.isBefore(spec.getAsOf())
+                                ? InvoiceStatus.OVERDUE
+                                : InvoiceStatus.SENT;
+            }
+        }
+
+        chunk.invoices.add(
+                new Object[] {
+                    invoiceId,
+                    customerId,
+                    "SYN" + spec.getSeed() + "-" + issueDate.format(NUMBER_DATE) + "-" + sequence,
+                    Date.valueOf(issueDate),
+                    Date.valueOf(dueDate),
+                    status.name(),
+                    cents(subtotalCents),
+                    cents(taxCents),
+                    cents(totalCents),
+                    cents(balanceCents),
+                    createdAt,
+                    createdAt
+                });
+    }
+
+    /**
+     * Record payments for a sent invoice and return the amount paid. Older invoices are more likely
+     * to be settled; some are paid in installments, some only partially.
+     */
+    private long addPayments(
+            Chunk chunk,
+            SyntheticDataSpec spec,
+            SplittableRandom random,
+            UUID invoiceId,
+            LocalDate issueDate,
+            LocalDate dueDate,
+            long ageDays,
+            long totalCents) {
+        int fullyPaidPercent = ageDays > 60 ? 80 : ageDays > 30 ? 55 : 25;
+        int roll = random.nextInt(100);
+        long paidCents;
+        int installments;
+        if (roll < fullyPaidPercent) {
+            paidCents = totalCents;
+            installments = random.nextInt(100) < 75 ? 1 : 2 + random.nextInt(3);
+        } else if (roll < fullyPaidPercent + 12) {
+            paidCents = totalCents * (20 + random.nextInt(61)) / 100;
+            installments = 1 + random.nextInt(2);
+        } else {
+            return 0;
+        }
+        if (paidCents < installments) {
+            installments = 1;
+        }
+
+        LocalDate latest = dueDate.plusDays(45);
+        if (latest.isAfter(spec.getAsOf())) {
+            latest = spec.getAsOf();
+        }
+        int windowDays = (int) Math.max(0, ChronoUnit.DAYS.between(issueDate, latest));
+        int[] dayOffsets = new int[installments];
+        for (int i = 0; i < installments; i++) {
+            dayOffsets[i] = random.nextInt(windowDays + 1);
+        }
+        Arrays.sort(dayOffsets);
+
+        long remaining = paidCents;
+        for (int i = 0; i < installments; i++) {
+            long amount =
+                    i == installments - 1 ? remaining : Math.max(1, remaining / (installments - i));
+            remaining -= amount;
+            LocalDate paymentDate = issueDate.plusDays(dayOffsets[i]);
+            PaymentMethod method = paymentMethod(random);
+            Timestamp createdAt = timestamp(paymentDate, random);
+            chunk.payments.add(
+                    new Object[] {
+                        uuid(random),
+                        invoiceId,
+                        Date.valueOf(paymentDate),
+                        cents(amount),
+                        method.name(),
+                        method == PaymentMethod.CASH
+                                ? null
+                                : "TX-" + (10_000_000 + random.nextInt(90_000_000)),
+                        createdAt,
+                        createdAt
+                    });
+        }
+        return paidCents;
+    }
+
+    /** Mostly short invoices, with a long tail of large ones */
+    private static int lineItemCount(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 60) {
+            return 1 + random.nextInt(3);
+        }
+        if (roll < 90) {
+            return 4 + random.nextInt(7);
+        }
+        if (roll < 99) {
+            return 11 + random.nextInt(40);
+        }
+        return 51 + random.nextInt(150);
+    }
+
+    private static PaymentMethod paymentMethod(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 45) {
+            return PaymentMethod.BANK_TRANSFER;
+        }
+        if (roll < 75) {
+            return PaymentMethod.CREDIT_CARD;
+        }
+        if (roll < 85) {
+            return PaymentMethod.CHECK;
+        }
+        if (roll < 93) {
+            return PaymentMethod.DEBIT_CARD;
+        }
+        return roll < 97 ? PaymentMethod.CASH : PaymentMethod.OTHER;
+    }
+
+    private static long logUniformCents(SplittableRandom random, long min, long max) {
+        double log = Math.log(min) + random.nextDouble() * (Math.log(max) - Math.log(min));
+        return Math.round(Math.exp(log));
+    }
+
+    /** Random version 4 UUID drawn from the seeded generator */
+    private static UUID uuid(SplittableRandom random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static Timestamp timestamp(LocalDate date, SplittableRandom random) {
+        return Timestamp.valueOf(
+                date.atTime(LocalTime.ofSecondOfDay(8 * 3600 + random.nextInt(10 * 3600))));
+    }
+
+    private static BigDecimal cents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int pick(SplittableRandom random, int[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private void insert(Chunk chunk) {
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    jdbcTemplate.batchUpdate(INSERT_INVOICE, chunk.invoices);
+                    jdbcTemplate.batchUpdate(INSERT_LINE_ITEM, chunk.lineItems);
+                    jdbcTemplate.batchUpdate(INSERT_PAYMENT, chunk.payments);
+                });
+    }
+
+    /**
+     * Inserts chunks on a small pool of writer threads while the caller keeps generating. Rows are
+     * still generated in order on the calling thread, so parallel writes do not affect what is
+     * loaded. Writes stay on the caller's thread when parallelism is 1 or a transaction is already
+     * open (e.g. in a rolled-back integration test).
+     */
+    private final class ChunkWriter implements AutoCloseable {
+
+        private final ExecutorService executor;
+        private final Semaphore inFlight;
+        private final List<Future<?>> pending = new ArrayList<>();
+
+        ChunkWriter(int parallelism) {
+            boolean inline =
+                    parallelism <= 1
+                            || TransactionSynchronizationManager.isActualTransactionActive();
+            this.executor = inline ? null : Executors.newFixedThreadPool(parallelism);
+            this.inFlight = new Semaphore(Math.max(1, parallelism) * 2);
+        }
+
+        void write(Chunk chunk) {
+            if (executor == null) {
+                insert(chunk);
+                return;
+            }
+            inFlight.acquireUninterruptibly();
+            pending.removeIf(this::completed);
+            pending.add(
+                    executor.submit(
+                            () -> {
+                                try {
+                                    insert(chunk);
+                                } finally {
+                                    inFlight.release();
+                                }
+                            }));
+        }
+
+        @Override
+        public void close() {
+            if (executor == null) {
+                return;
+            }
+            try {
+                pending.forEach(this::await);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        /** True when the write finished; rethrows its failure so generation stops early */
+        private boolean completed(Future<?> future) {
+            if (!future.isDone()) {
+                return false;
+            }
+            await(future);
+            return true;
+        }
+
+        private void await(Future<?> future) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading synthetic data", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to load synthetic data", e.getCause());
+            }
+        }
+    }
+
+    /** Rows for one transaction */
+    private static final class Chunk {
+        final List<Object[]> invoices = new ArrayList<>();
+        final List<Object[]> lineItems = new ArrayList<>();
+        final List<Object[]> payments = new ArrayList<>();
+    }
+}
@@ -0,0 +1,64 @@
+package com.osgiliath.infrastructure.seed;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads a synthetic dataset and shuts the application down. Activated by the generate-data profile,
+ * e.g. {@code java -jar app.jar --spring.profiles.active=generate-data
+ * --app.generator.invoices=1000000}
+ */
+@Component
+@Profile("generate-data")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataRunner implements CommandLineRunner {
+
+    private final SyntheticDataGenerator generator;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.generator.seed:42}")
+    private long seed;
+
+    @Value("${app.generator.customers:1000}")
+    private int customers;
+
+    @Value("${app.generator.invoices:10000}")
+    private int invoices;
+
+    @Value("${app.generator.months:24}")
+    private int months;
+
+    @Value("${app.generator.as-of:}")
+    private String asOf;
+
+    @Value("${app.generator.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.generator.parallelism:4}")
+    private int parallelism;
+
+    @Override
+    public void run(String... args) {
+        SyntheticDataSpec spec =
+                SyntheticDataSpec.builder()
+                        .seed(seed)
+                        .customers(customers)
+                        .invoices(invoices)
+                        .months(months)
+                        .asOf(asOf.isBlank() ? LocalDate.now() : LocalDate.parse(asOf))
+                        .batchSize(batchSize)
+                        .parallelism(parallelism)
+                        .build();
+        log.info("Generating synthetic data: {}", spec);
+        generator.generate(spec);
+        SpringApplication.exit(context, () -> 0);
+    }
+}
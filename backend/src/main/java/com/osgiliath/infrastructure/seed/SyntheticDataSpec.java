@@ -0,0 +1,32 @@
+package com.osgiliath.infrastructure.seed;
+
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * What {@link SyntheticDataGenerator} should load. The same seed and asOf date always produce the
+ * same rows, including IDs.
+ */
+@Value
+@Builder
+public class SyntheticDataSpec {
+
+    @Builder.Default long seed = 42L;
+
+    @Builder.Default int customers = 1_000;
+
+    @Builder.Default int invoices = 10_000;
+
+    /** Issue dates are spread over this many months before asOf */
+    @Builder.Default int months = 24;
+
+    /** "Today" for the generated history: drives overdue status and payment dates */
+    @Builder.Default LocalDate asOf = LocalDate.now();
+
+    /** Invoices (with their line items and payments) inserted per transaction */
+    @Builder.Default int batchSize = 1_000;
+
+    /** Concurrent insert transactions; each holds one pool connection */
+    @Builder.Default int parallelism = 4;
+}
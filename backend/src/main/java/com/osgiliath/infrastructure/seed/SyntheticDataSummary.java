@@ -0,0 +1,15 @@
+package com.osgiliath.infrastructure.seed;
+
+import java.time.Duration;
+import lombok.Value;
+
+/** Row counts loaded by one {@link SyntheticDataGenerator} run */
+@Value
+public class SyntheticDataSummary {
+
+    long customers;
+    long invoices;
+    long lineItems;
+    long payments;
+    Duration elapsed;
+}
@@ -0,0 +1,15 @@
+-- Trigram indexes for customer search by name or email substring (see CustomerSearch).
+--
+-- Outside the prod profile the application creates these on startup
+-- (app.customer-search.create-indexes). In production apply this script by hand; CONCURRENTLY
+-- keeps the customers table writable while the indexes build, so run it outside a transaction
+-- (psql's default autocommit). Creating the extension needs a role allowed to do so.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Names are matched case-insensitively via lower(name); emails are stored lower-case already
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_name_trgm
+    ON customers USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_email_trgm
+    ON customers USING gin (email_address gin_trgm_ops);
@@ -0,0 +1,35 @@
+-- Domain event log, projection checkpoints and the daily activity read model
+-- (see DomainEventLog and ProjectionRunner).
+--
+-- Hibernate creates these automatically with ddl-auto=update. Apply this script by hand
+-- when running with ddl-auto=validate (the prod profile). Needs PostgreSQL 13+ for xid8.
+
+CREATE SEQUENCE IF NOT EXISTS domain_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS domain_events (
+    position     bigint                      NOT NULL PRIMARY KEY,
+    tx_id        xid8                        NOT NULL DEFAULT pg_current_xact_id(),
+    event_type   varchar(100)                NOT NULL,
+    aggregate_id uuid                        NOT NULL,
+    occurred_at  timestamp(6) with time zone NOT NULL,
+    payload      text                        NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_domain_events_tx_position ON domain_events (tx_id, position);
+
+CREATE TABLE IF NOT EXISTS projection_checkpoints (
+    projection varchar(100)                NOT NULL PRIMARY KEY,
+    tx_id      xid8                        NOT NULL,
+    position   bigint                      NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS daily_invoice_activity (
+    activity_date      date           NOT NULL PRIMARY KEY,
+    invoices_created   integer        NOT NULL,
+    invoices_sent      integer        NOT NULL,
+    invoices_paid      integer        NOT NULL,
+    invoices_cancelled integer        NOT NULL,
+    payments_received  integer        NOT NULL,
+    payment_amount     numeric(38, 2) NOT NULL
+);
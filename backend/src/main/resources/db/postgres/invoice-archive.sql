@@ -0,0 +1,40 @@
+-- Cold-storage tables for settled invoices (see ArchiveSettledInvoicesHandler).
+--
+-- Hibernate creates these automatically with ddl-auto=update. Apply this script by hand
+-- when running with ddl-auto=validate (the prod profile) before enabling
+-- app.archive.enabled. Column types mirror invoices and line_items.
+
+CREATE TABLE IF NOT EXISTS invoices_archive (
+    id             uuid           NOT NULL PRIMARY KEY,
+    customer_id    uuid           NOT NULL,
+    invoice_number varchar(50)    NOT NULL,
+    issue_date     date           NOT NULL,
+    due_date       date           NOT NULL,
+    status         varchar(20)    NOT NULL,
+    subtotal       numeric(38, 2) NOT NULL,
+    tax_amount     numeric(38, 2) NOT NULL,
+    total_amount   numeric(38, 2) NOT NULL,
+    balance_due    numeric(38, 2) NOT NULL,
+    created_at     timestamp(6)   NOT NULL,
+    updated_at     timestamp(6),
+    version        bigint,
+    archived_at    timestamp(6)   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_invoice_archive_number ON invoices_archive (invoice_number);
+CREATE INDEX IF NOT EXISTS idx_invoice_archive_customer ON invoices_archive (customer_id);
+CREATE INDEX IF NOT EXISTS idx_invoice_archive_issue_date ON invoices_archive (issue_date);
+
+CREATE TABLE IF NOT EXISTS line_items_archive (
+    id          uuid           NOT NULL PRIMARY KEY,
+    invoice_id  uuid           NOT NULL REFERENCES invoices_archive (id),
+    description varchar(500)   NOT NULL,
+    quantity    numeric(38, 2) NOT NULL,
+    unit_price  numeric(38, 2) NOT NULL,
+    line_total  numeric(38, 2) NOT NULL,
+    created_at  timestamp(6)   NOT NULL,
+    updated_at  timestamp(6),
+    version     bigint
+);
+
+CREATE INDEX IF NOT EXISTS idx_line_item_archive_invoice ON line_items_archive (invoice_id);
@@ -0,0 +1,25 @@
+-- Full-text search columns and indexes for GET /invoices/search (see InvoiceSearchIndexes and
+-- SearchInvoicesQueryHandler).
+--
+-- Outside the prod profile the application creates these on startup
+-- (app.invoice-search.create-indexes). In production apply this script by hand. Adding a stored
+-- generated column rewrites the table under an exclusive lock, so run it in a maintenance window.
+-- If the invoices table is going to be partitioned, run partition-invoices-payments.sql first:
+-- it copies rows with SELECT *, which fails once invoices has a generated column.
+
+-- Hyphens and slashes split words, so INV-20251107-00042 matches "00042" and "20251107-000".
+-- Angle brackets split words too; the parser would otherwise skip "<fuel>" as a markup tag.
+-- Invoice numbers carry weight A so they rank above customer names (B) and line items (D).
+ALTER TABLE invoices ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('simple', translate(invoice_number, '-/<>', '    ')), 'A')) STORED;
+
+ALTER TABLE line_items ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', translate(description, '-/<>', '    '))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_invoice_search ON invoices USING gin (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_line_item_search ON line_items USING gin (search_vector);
+
+-- The expression must stay identical to InvoiceSearchIndexes.CUSTOMER_NAME_VECTOR
+CREATE INDEX IF NOT EXISTS idx_customer_name_search
+    ON customers USING gin (to_tsvector('simple', translate(name, '-/<>', '    ')));
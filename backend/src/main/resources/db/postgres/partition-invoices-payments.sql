@@ -0,0 +1,105 @@
+-- Converts the invoices and payments tables to monthly range-partitioned tables.
+--
+-- invoices is partitioned by issue_date and payments by payment_date. Run this once,
+-- during a maintenance window, against a schema created by Hibernate. Afterwards set
+-- app.partitioning.enabled=true so PartitionMaintenanceService keeps creating the
+-- upcoming monthly partitions. The application must then run with
+-- spring.jpa.hibernate.ddl-auto=validate (as the prod profile does); update would try to
+-- re-add a unique constraint on invoice_number alone, which Postgres rejects.
+--
+-- Postgres requires the partition key to be part of every unique constraint, so:
+--   * the primary keys become (id, issue_date) and (id, payment_date)
+--   * idx_invoice_number becomes unique on (invoice_number, issue_date); invoice numbers
+--     embed the issue date (INV-YYYYMMDD-NNNNN) so this is equivalent in practice
+--   * the foreign key from line_items.invoice_id to invoices.id is dropped; line items are
+--     only ever written through the Invoice aggregate, which cascades to them
+
+BEGIN;
+
+-- Foreign keys cannot reference a partitioned table without its partition key
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = 'line_items'::regclass
+          AND confrelid = 'invoices'::regclass
+          AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE line_items DROP CONSTRAINT %I', fk.conname);
+    END LOOP;
+END $$;
+
+-- invoices -> PARTITION BY RANGE (issue_date)
+ALTER TABLE invoices RENAME TO invoices_unpartitioned;
+
+CREATE TABLE invoices (
+    LIKE invoices_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY RANGE (issue_date);
+
+CREATE TABLE invoices_default PARTITION OF invoices DEFAULT;
+
+-- payments -> PARTITION BY RANGE (payment_date)
+ALTER TABLE payments RENAME TO payments_unpartitioned;
+
+CREATE TABLE payments (
+    LIKE payments_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY RANGE (payment_date);
+
+CREATE TABLE payments_default PARTITION OF payments DEFAULT;
+
+-- One partition per month from the oldest row up to three months ahead
+DO $$
+DECLARE
+    target record;
+    first_month date;
+    month_start date;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('invoices', 'issue_date', 'invoices_unpartitioned'),
+            ('payments', 'payment_date', 'payments_unpartitioned')
+        ) AS t(parent, key_column, source)
+    LOOP
+        EXECUTE format('SELECT date_trunc(''month'', min(%I))::date FROM %I',
+                       target.key_column, target.source)
+            INTO first_month;
+        first_month := coalesce(first_month, date_trunc('month', current_date)::date);
+
+        FOR month_start IN
+            SELECT generate_series(first_month,
+                                   date_trunc('month', current_date)::date + interval '3 months',
+                                   interval '1 month')::date
+        LOOP
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                target.parent || '_y' || to_char(month_start, 'YYYY') || 'm' || to_char(month_start, 'MM'),
+                target.parent,
+                month_start,
+                (month_start + interval '1 month')::date);
+        END LOOP;
+    END LOOP;
+END $$;
+
+INSERT INTO invoices SELECT * FROM invoices_unpartitioned;
+INSERT INTO payments SELECT * FROM payments_unpartitioned;
+
+DROP TABLE invoices_unpartitioned;
+DROP TABLE payments_unpartitioned;
+
+-- Keys and indexes are created on the parent and cascade to every partition
+ALTER TABLE invoices ADD PRIMARY KEY (id, issue_date);
+CREATE UNIQUE INDEX idx_invoice_number ON invoices (invoice_number, issue_date);
+CREATE INDEX idx_invoice_customer ON invoices (customer_id);
+CREATE INDEX idx_invoice_status ON invoices (status);
+CREATE INDEX idx_invoice_issue_date ON invoices (issue_date);
+
+ALTER TABLE payments ADD PRIMARY KEY (id, payment_date);
+CREATE INDEX idx_payment_invoice ON payments (invoice_id);
+CREATE INDEX idx_payment_date ON payments (payment_date);
+
+COMMIT;
+
+ANALYZE invoices;
+ANALYZE payments;
@@ -0,0 +1,14 @@
+-- Shared token buckets for app.rate-limit.store=postgres (see PostgresTokenBucketLimiter).
+--
+-- Only needed for multi-node deployments; the default in-memory store keeps buckets per
+-- node. Apply by hand before switching the store. Rows are small and short-lived: buckets
+-- idle for a day are deleted hourly.
+
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key  varchar(200)     NOT NULL PRIMARY KEY,
+    tokens      double precision NOT NULL,
+    refilled_at timestamptz      NOT NULL,
+    granted     boolean          NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_refilled_at ON rate_limit_buckets (refilled_at);
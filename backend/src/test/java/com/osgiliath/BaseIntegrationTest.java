@@ -53,6 +53,11 @@ public abstract class BaseIntegrationTest {
         }
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
         registry.add("spring.jpa.show-sql", () -> "false");
+        // Test data is seeded through repositories, not commands, so never serve cached queries
+        registry.add("app.cqrs.query-cache.ttl", () -> "0s");
+        registry.add("app.cqrs.query-cache.stale-while-revalidate", () -> "0s");
+        // All test requests come from one client; quotas are covered by unit tests
+        registry.add("app.rate-limit.enabled", () -> "false");
     }
 
     @Autowired protected MockMvc mockMvc;
@@ -0,0 +1,85 @@
+package com.osgiliath;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.osgiliath.infrastructure.metrics.HibernateStatementCounter;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * Measures the SQL statements and wall time of a single MockMvc request and checks them against a
+ * budget. Pending changes are flushed and the persistence context cleared first, so the request
+ * cannot be served from entities the test set-up left in memory. Writes made by the request are
+ * flushed before counting because the surrounding test transaction never commits.
+ *
+ * <p>Statement budgets are ceilings set at what a request costs with cold caches, and catch N+1
+ * regressions. A request can come in under its budget when a cache, or an ID block of a pooled
+ * sequence, was filled by an earlier test; rolled-back data does not evict those. Latency budgets
+ * are coarse guards against order-of-magnitude slowdowns and can be scaled with the {@code
+ * budget.latency.factor} system property (default 1) on slow CI machines.
+ */
+public final class RequestBudget {
+
+    private static final double LATENCY_FACTOR =
+            Double.parseDouble(System.getProperty("budget.latency.factor", "1"));
+
+    private final MockMvc mockMvc;
+    private final EntityManager entityManager;
+
+    public RequestBudget(MockMvc mockMvc, EntityManager entityManager) {
+        this.mockMvc = mockMvc;
+        this.entityManager = entityManager;
+    }
+
+    /** Cost of one request */
+    public record Cost(int statements, Duration elapsed, MvcResult result) {}
+
+    /** Perform the request once and return what it cost */
+    public Cost measure(RequestBuilder request) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        HibernateStatementCounter.reset();
+        long start = System.nanoTime();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        // The test transaction never commits, so push the request's writes out to be counted
+        entityManager.flush();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new Cost(HibernateStatementCounter.current(), elapsed, result);
+    }
+
+    /**
+     * Perform the request and assert it succeeded within {@code maxStatements} SQL statements and
+     * {@code maxElapsed} wall time
+     */
+    public Cost assertWithin(RequestBuilder request, int maxStatements, Duration maxElapsed)
+            throws Exception {
+        Cost cost = measure(request);
+        String description = describe(cost);
+
+        assertThat(cost.result().getResponse().getStatus())
+                .as("status of %s", description)
+                .isBetween(200, 299);
+        assertThat(cost.statements())
+                .as("SQL statements for %s", description)
+                .isLessThanOrEqualTo(maxStatements);
+        assertThat(cost.elapsed())
+                .as("elapsed time for %s", description)
+                .isLessThanOrEqualTo(
+                        Duration.ofNanos((long) (maxElapsed.toNanos() * LATENCY_FACTOR)));
+        return cost;
+    }
+
+    private static String describe(Cost cost) {
+        return cost.result().getRequest().getMethod()
+                + " "
+                + cost.result().getRequest().getRequestURI()
+                + " ("
+                + cost.statements()
+                + " statements, "
+                + cost.elapsed().toMillis()
+                + " ms)";
+    }
+}
@@ -127,6 +127,16 @@ public class TestDataBuilder {
         public Invoice buildSentAndSave() {
             return invoiceRepository.save(buildSent());
         }
+
+        public Invoice buildPaid() {
+            Invoice invoice = buildSent();
+            invoice.markAsPaid();
+            return invoice;
+        }
+
+        public Invoice buildPaidAndSave() {
+            return invoiceRepository.save(buildPaid());
+        }
     }
 
     // Payment Builder
@@ -8,6 +8,7 @@ import com.osgiliath.application.customer.command.CreateCustomerCommand;
 import com.osgiliath.application.customer.command.CreateCustomerHandler;
 import com.osgiliath.application.customer.dto.CustomerMapper;
 import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.customer.query.CustomerSuggestionIndex;
 import com.osgiliath.domain.customer.Customer;
 import com.osgiliath.domain.customer.CustomerRepository;
 import com.osgiliath.domain.shared.DomainException;
@@ -28,6 +29,8 @@ class CreateCustomerHandlerTest {
 
     @Mock private CustomerMapper customerMapper;
 
+    @Mock private CustomerSuggestionIndex suggestionIndex;
+
     @InjectMocks private CreateCustomerHandler handler;
 
     private CreateCustomerCommand command;
@@ -63,6 +66,7 @@ class CreateCustomerHandlerTest {
         verify(customerRepository).existsByEmail(command.getEmail());
         verify(customerRepository).save(any(Customer.class));
         verify(customerMapper).toResponse(savedCustomer);
+        verify(suggestionIndex).put(savedCustomer);
     }
 
     @Test
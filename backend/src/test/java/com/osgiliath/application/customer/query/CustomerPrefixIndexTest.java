@@ -0,0 +1,86 @@
+package com.osgiliath.application.customer.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.osgiliath.application.customer.dto.CustomerSuggestion;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for CustomerPrefixIndex */
+@DisplayName("CustomerPrefixIndex")
+class CustomerPrefixIndexTest {
+
+    private final UUID anna = UUID.randomUUID();
+    private final UUID annabel = UUID.randomUUID();
+    private final UUID zoe = UUID.randomUUID();
+
+    private CustomerPrefixIndex index() {
+        return CustomerPrefixIndex.of(
+                List.of(
+                        CustomerPrefixIndex.entry(anna, "Anna Smith", "anna@smith.example"),
+                        CustomerPrefixIndex.entry(annabel, "Annabel Lee", "lee@poe.example"),
+                        CustomerPrefixIndex.entry(zoe, "Zoë O'Brien", "zoe@obrien.example")));
+    }
+
+    private static List<String> names(List<CustomerSuggestion> suggestions) {
+        return suggestions.stream().map(CustomerSuggestion::getName).toList();
+    }
+
+    @Test
+    @DisplayName("Should match name words, emails and email domains case-insensitively")
+    void shouldMatchPrefixes() {
+        // Given
+        CustomerPrefixIndex index = index();
+
+        // When & Then
+        assertThat(names(index.suggest("ANN", 10))).containsExactly("Anna Smith", "Annabel Lee");
+        assertThat(names(index.suggest("smi", 10))).containsExactly("Anna Smith");
+        assertThat(names(index.suggest("lee@", 10))).containsExactly("Annabel Lee");
+        assertThat(names(index.suggest("poe", 10))).containsExactly("Annabel Lee");
+        assertThat(names(index.suggest("anna sm", 10))).containsExactly("Anna Smith");
+        assertThat(index.suggest("nna", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore accents and punctuation")
+    void shouldNormalize() {
+        assertThat(names(index().suggest("zoe o'b", 10))).containsExactly("Zoë O'Brien");
+        assertThat(names(index().suggest("obri", 10))).containsExactly("Zoë O'Brien");
+    }
+
+    @Test
+    @DisplayName("Should return each customer once and respect the limit")
+    void shouldDeduplicateAndLimit() {
+        // Given: "anna" matches Anna Smith by name and by email
+        CustomerPrefixIndex index = index();
+
+        // When & Then
+        assertThat(index.suggest("anna", 10))
+                .extracting(CustomerSuggestion::getId)
+                .containsOnlyOnce(anna);
+        assertThat(index.suggest("a", 1)).hasSize(1);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace and remove customers")
+    void shouldReplaceAndRemove() {
+        // Given
+        CustomerPrefixIndex index = index();
+
+        // When
+        CustomerPrefixIndex renamed =
+                index.with(CustomerPrefixIndex.entry(anna, "Hannah Jones", "hannah@jones.example"));
+        CustomerPrefixIndex removed = renamed.without(annabel);
+
+        // Then
+        assertThat(names(renamed.suggest("ann", 10))).containsExactly("Annabel Lee");
+        assertThat(names(renamed.suggest("hann", 10))).containsExactly("Hannah Jones");
+        assertThat(renamed.customers()).isEqualTo(3);
+        assertThat(removed.suggest("ann", 10)).isEmpty();
+        assertThat(removed.customers()).isEqualTo(2);
+        assertThat(names(index.suggest("ann", 10))).containsExactly("Anna Smith", "Annabel Lee");
+    }
+}
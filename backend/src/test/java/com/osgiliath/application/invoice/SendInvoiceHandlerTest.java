@@ -39,7 +39,11 @@ class SendInvoiceHandlerTest {
     void setUp() {
         handler =
                 new SendInvoiceHandler(
-                        invoiceRepository, Optional.empty(), pdfExporter, customerRepository);
+                        invoiceRepository,
+                        Optional.empty(),
+                        pdfExporter,
+                        customerRepository,
+                        new InvoiceMapper(customerRepository));
         invoiceId = UUID.randomUUID();
         UUID customerId = UUID.randomUUID();
         invoice =
@@ -0,0 +1,207 @@
+package com.osgiliath.application.shared;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.osgiliath.domain.exceptions.AggregateConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/** Unit tests for AggregateCommandExecutor Tests per-aggregate serialization and bounded retry */
+@DisplayName("AggregateCommandExecutor")
+class AggregateCommandExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AggregateCommandExecutor executor;
+    private ExecutorService threads;
+
+    private record TestCommand(String value) {}
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor =
+                new AggregateCommandExecutor(
+                        meterRegistry, 256, 3, Duration.ofSeconds(5), Duration.ZERO);
+        threads = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return handler result")
+    void shouldReturnHandlerResult() {
+        String result =
+                executor.execute(
+                        UUID.randomUUID(), new TestCommand("a"), command -> command.value() + "!");
+
+        assertThat(result).isEqualTo("a!");
+    }
+
+    @Test
+    @DisplayName("Should retry optimistic lock conflicts and record metrics")
+    void shouldRetryOptimisticLockConflicts() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result =
+                executor.execute(
+                        UUID.randomUUID(),
+                        new TestCommand("a"),
+                        command -> {
+                            if (calls.incrementAndGet() < 3) {
+                                throw new ObjectOptimisticLockingFailureException(
+                                        "Invoice", UUID.randomUUID());
+                            }
+                            return "ok";
+                        });
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.counter("commands.conflicts", "command", "TestCommand").count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.counter("commands.retries", "command", "TestCommand").count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should give up after max attempts with AggregateConflictException")
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(
+                        () ->
+                                executor.execute(
+                                        UUID.randomUUID(),
+                                        new TestCommand("a"),
+                                        command -> {
+                                            calls.incrementAndGet();
+                                            throw new ObjectOptimisticLockingFailureException(
+                                                    "Invoice", UUID.randomUUID());
+                                        }))
+                .isInstanceOf(AggregateConflictException.class);
+        assertThat(calls).hasValue(3);
+        assertThat(
+                        meterRegistry
+                                .counter("commands.retries.exhausted", "command", "TestCommand")
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not retry other exceptions")
+    void shouldNotRetryOtherExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(
+                        () ->
+                                executor.run(
+                                        UUID.randomUUID(),
+                                        new TestCommand("a"),
+                                        command -> {
+                                            calls.incrementAndGet();
+                                            throw new IllegalStateException("boom");
+                                        }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should run commands for the same aggregate one at a time")
+    void shouldSerializeCommandsForSameAggregate() throws Exception {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(
+                    threads.submit(
+                            () ->
+                                    executor.run(
+                                            aggregateId,
+                                            new TestCommand("a"),
+                                            command -> {
+                                                int current = inFlight.incrementAndGet();
+                                                maxInFlight.accumulateAndGet(current, Math::max);
+                                                sleep(2);
+                                                inFlight.decrementAndGet();
+                                            })));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(maxInFlight).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should run commands for different aggregates in parallel")
+    void shouldRunDifferentAggregatesInParallel() throws Exception {
+        // Given - IDs with hash codes 1 and 2 map to different stripes
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        CountDownLatch bothInside = new CountDownLatch(2);
+
+        // When - each command waits until the other one is also running
+        Future<Boolean> a =
+                threads.submit(
+                        () ->
+                                executor.execute(
+                                        first,
+                                        new TestCommand("a"),
+                                        command -> awaitLatch(bothInside)));
+        Future<Boolean> b =
+                threads.submit(
+                        () ->
+                                executor.execute(
+                                        second,
+                                        new TestCommand("b"),
+                                        command -> awaitLatch(bothInside)));
+
+        // Then
+        assertThat(a.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(b.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
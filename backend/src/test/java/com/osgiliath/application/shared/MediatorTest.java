@@ -0,0 +1,121 @@
+package com.osgiliath.application.shared;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+
+/** Unit tests for Mediator Tests handler routing and pipeline behavior composition */
+@DisplayName("Mediator")
+class MediatorTest {
+
+    private record Ping(String value) implements Command<String> {}
+
+    private record Count(int value) implements Query<Integer> {}
+
+    private record Unhandled() implements Query<String> {}
+
+    private static class PingHandler implements CommandHandler<Ping, String> {
+        @Override
+        public String handle(Ping command) {
+            return "pong:" + command.value();
+        }
+    }
+
+    private static class CountHandler implements QueryHandler<Count, Integer> {
+        @Override
+        public Integer handle(Count query) {
+            return query.value() + 1;
+        }
+    }
+
+    @Order(2)
+    private static class RecordingBehavior implements PipelineBehavior {
+        private final String name;
+        private final Class<?> appliesTo;
+        private final List<String> calls;
+
+        RecordingBehavior(String name, Class<?> appliesTo, List<String> calls) {
+            this.name = name;
+            this.appliesTo = appliesTo;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> requestType) {
+            return appliesTo.isAssignableFrom(requestType);
+        }
+
+        @Override
+        public Object handle(Object request, RequestHandlerDelegate next) {
+            calls.add(name);
+            return next.invoke(request);
+        }
+    }
+
+    @Order(1)
+    private static class OuterBehavior extends RecordingBehavior {
+        OuterBehavior(List<String> calls) {
+            super("outer", Object.class, calls);
+        }
+    }
+
+    @Test
+    @DisplayName("Should route commands and queries to their handlers")
+    void shouldRouteToHandlers() {
+        // Given
+        Mediator mediator =
+                new Mediator(List.of(new PingHandler()), List.of(new CountHandler()), List.of());
+
+        // When / Then
+        assertThat(mediator.send(new Ping("a"))).isEqualTo("pong:a");
+        assertThat(mediator.query(new Count(41))).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Should run applicable behaviors in @Order order around the handler")
+    void shouldRunBehaviorsInOrder() {
+        // Given - registered in reverse order on purpose
+        List<String> calls = new ArrayList<>();
+        Mediator mediator =
+                new Mediator(
+                        List.of(new PingHandler()),
+                        List.of(new CountHandler()),
+                        List.of(
+                                new RecordingBehavior("commands-only", Command.class, calls),
+                                new OuterBehavior(calls)));
+
+        // When
+        mediator.send(new Ping("a"));
+        mediator.query(new Count(1));
+
+        // Then
+        assertThat(calls).containsExactly("outer", "commands-only", "outer");
+    }
+
+    @Test
+    @DisplayName("Should reject requests without a handler")
+    void shouldRejectRequestsWithoutHandler() {
+        Mediator mediator = new Mediator(List.of(new PingHandler()), List.of(), List.of());
+
+        assertThatThrownBy(() -> mediator.query(new Unhandled()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unhandled");
+    }
+
+    @Test
+    @DisplayName("Should reject two handlers for the same request type")
+    void shouldRejectDuplicateHandlers() {
+        assertThatThrownBy(
+                        () ->
+                                new Mediator(
+                                        List.of(new PingHandler(), new PingHandler()),
+                                        List.of(),
+                                        List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Multiple handlers");
+    }
+}
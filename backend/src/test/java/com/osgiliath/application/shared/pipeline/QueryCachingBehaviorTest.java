@@ -0,0 +1,184 @@
+package com.osgiliath.application.shared.pipeline;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.osgiliath.application.shared.AccountCommand;
+import com.osgiliath.application.shared.CacheableQuery;
+import com.osgiliath.application.shared.Command;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for QueryCachingBehavior Tests caching, invalidation by commands, coalescing of
+ * concurrent queries and stale-while-revalidate
+ */
+@DisplayName("QueryCachingBehavior")
+class QueryCachingBehaviorTest {
+
+    private record Report(int months) implements CacheableQuery<Integer> {}
+
+    private record Change() implements Command<Void> {}
+
+    private record Login() implements AccountCommand<Void> {}
+
+    private QueryCachingBehavior behavior;
+    private AtomicInteger handlerCalls;
+
+    @BeforeEach
+    void setUp() {
+        behavior = new QueryCachingBehavior(Duration.ofMinutes(1), 100);
+        handlerCalls = new AtomicInteger();
+    }
+
+    private Object runQuery(Report query) {
+        return behavior.handle(query, request -> handlerCalls.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated equal queries from cache")
+    void shouldServeRepeatedQueriesFromCache() {
+        // When
+        Object first = runQuery(new Report(12));
+        Object second = runQuery(new Report(12));
+        runQuery(new Report(6));
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(handlerCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached queries after a command")
+    void shouldInvalidateAfterCommand() {
+        // Given
+        runQuery(new Report(12));
+
+        // When
+        behavior.handle(new Change(), request -> null);
+        Object afterCommand = runQuery(new Report(12));
+
+        // Then
+        assertThat(afterCommand).isEqualTo(2);
+        assertThat(handlerCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should leave the cache alone for account commands")
+    void shouldIgnoreAccountCommands() {
+        // When & Then
+        assertThat(behavior.appliesTo(Change.class)).isTrue();
+        assertThat(behavior.appliesTo(Login.class)).isFalse();
+        assertThat(behavior.appliesTo(Report.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not cache when TTL is zero")
+    void shouldNotCacheWithZeroTtl() {
+        behavior = new QueryCachingBehavior(Duration.ZERO, 100);
+
+        runQuery(new Report(12));
+        runQuery(new Report(12));
+
+        assertThat(handlerCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should run concurrent equal queries once")
+    void shouldCoalesceConcurrentQueries() throws Exception {
+        // Given
+        behavior = new QueryCachingBehavior(Duration.ZERO, 100);
+        int callers = 20;
+        CountDownLatch handlerEntered = new CountDownLatch(1);
+        CountDownLatch releaseHandler = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        try {
+            // When
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(
+                        pool.submit(
+                                () ->
+                                        behavior.handle(
+                                                new Report(12),
+                                                request -> {
+                                                    handlerEntered.countDown();
+                                                    awaitQuietly(releaseHandler);
+                                                    return handlerCalls.incrementAndGet();
+                                                })));
+            }
+            assertThat(handlerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            releaseHandler.countDown();
+
+            // Then
+            for (Future<Object> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+            assertThat(handlerCalls).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not cache a failed query")
+    void shouldNotCacheFailures() {
+        // Given
+        behavior = new QueryCachingBehavior(Duration.ofMinutes(1), 100);
+
+        // When / Then
+        assertThatThrownBy(
+                        () ->
+                                behavior.handle(
+                                        new Report(12),
+                                        request -> {
+                                            throw new IllegalStateException("database down");
+                                        }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(runQuery(new Report(12))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve stale results while one refresh runs in the background")
+    void shouldServeStaleWhileRevalidating() throws Exception {
+        // Given
+        List<Runnable> refreshes = new ArrayList<>();
+        behavior =
+                new QueryCachingBehavior(
+                        Duration.ofMillis(1), Duration.ofMinutes(1), 100, refreshes::add);
+        runQuery(new Report(12));
+        Thread.sleep(5);
+
+        // When
+        Object stale = runQuery(new Report(12));
+        Object staleAgain = runQuery(new Report(12));
+
+        // Then
+        assertThat(stale).isEqualTo(1);
+        assertThat(staleAgain).isEqualTo(1);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        assertThat(handlerCalls).hasValue(2);
+        assertThat(runQuery(new Report(12))).isEqualTo(2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
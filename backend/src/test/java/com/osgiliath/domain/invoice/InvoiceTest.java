@@ -390,4 +390,76 @@ class InvoiceTest {
                 .isInstanceOf(DomainException.class)
                 .hasMessageContaining("Payment amount cannot exceed balance due");
     }
+
+    @Test
+    @DisplayName("Should record a status change event for each transition")
+    void shouldRecordStatusChangeEvents() {
+        Invoice invoice = Invoice.create(customerId, invoiceNumber, issueDate, dueDate);
+        invoice.addLineItem("Service A", BigDecimal.valueOf(1), Money.of(100.0));
+        invoice.send();
+        invoice.applyPayment(Money.of(50.0));
+        invoice.applyPayment(Money.of(60.0));
+
+        assertThat(invoice.domainEvents())
+                .filteredOn(InvoiceStatusChanged.class::isInstance)
+                .map(InvoiceStatusChanged.class::cast)
+                .extracting(
+                        InvoiceStatusChanged::getPreviousStatus, InvoiceStatusChanged::getNewStatus)
+                .containsExactly(
+                        tuple(null, InvoiceStatus.DRAFT),
+                        tuple(InvoiceStatus.DRAFT, InvoiceStatus.SENT),
+                        tuple(InvoiceStatus.SENT, InvoiceStatus.PAID));
+        InvoiceStatusChanged paid = (InvoiceStatusChanged) invoice.domainEvents().get(4);
+        assertThat(paid.getTotalAmount()).isEqualByComparingTo("110.00");
+        assertThat(paid.getIssueDate()).isEqualTo(issueDate);
+    }
+
+    @Test
+    @DisplayName("Should record each applied payment with the remaining balance")
+    void shouldRecordPaymentEvents() {
+        Invoice invoice = Invoice.create(customerId, invoiceNumber, issueDate, dueDate);
+        invoice.addLineItem("Service A", BigDecimal.valueOf(1), Money.of(100.0));
+        invoice.send();
+        invoice.applyPayment(Money.of(50.0));
+
+        assertThat(invoice.domainEvents())
+                .last()
+                .isInstanceOfSatisfying(
+                        InvoicePaymentApplied.class,
+                        event -> {
+                            assertThat(event.getAmount()).isEqualByComparingTo("50.00");
+                            assertThat(event.getBalanceDue()).isEqualByComparingTo("60.00");
+                        });
+    }
+
+    @Test
+    @DisplayName("Should record deletion of a draft and clear events once published")
+    void shouldRecordDiscardAndClearEvents() {
+        Invoice invoice = Invoice.create(customerId, invoiceNumber, issueDate, dueDate);
+        invoice.clearDomainEvents();
+
+        invoice.discard();
+
+        assertThat(invoice.domainEvents())
+                .singleElement()
+                .isInstanceOfSatisfying(
+                        InvoiceStatusChanged.class,
+                        event -> {
+                            assertThat(event.getPreviousStatus()).isEqualTo(InvoiceStatus.DRAFT);
+                            assertThat(event.getNewStatus()).isNull();
+                        });
+        invoice.clearDomainEvents();
+        assertThat(invoice.domainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not record an event when status is set to its current value")
+    void shouldNotRecordUnchangedStatus() {
+        Invoice invoice = Invoice.create(customerId, invoiceNumber, issueDate, dueDate);
+        invoice.clearDomainEvents();
+
+        invoice.setStatus(InvoiceStatus.DRAFT);
+
+        assertThat(invoice.domainEvents()).isEmpty();
+    }
 }
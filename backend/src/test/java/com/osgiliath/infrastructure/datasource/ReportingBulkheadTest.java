@@ -0,0 +1,97 @@
+package com.osgiliath.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.osgiliath.domain.exceptions.CapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for ReportingBulkhead Tests pool routing and rejection when the queue is full */
+@DisplayName("ReportingBulkhead")
+class ReportingBulkheadTest {
+
+    private DataSource oltp;
+    private DataSource reporting;
+    private Connection reportingConnection;
+    private RoutingDataSource routingDataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private ReportingBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        oltp = mock(DataSource.class);
+        reporting = mock(DataSource.class);
+        reportingConnection = mock(Connection.class);
+        when(reporting.getConnection()).thenReturn(reportingConnection);
+        routingDataSource = new RoutingDataSource(oltp, reporting);
+        meterRegistry = new SimpleMeterRegistry();
+        // One connection, one queued caller
+        bulkhead = new ReportingBulkhead(1, 1, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should take connections from the reporting pool inside the bulkhead only")
+    void shouldRouteToReportingPool() throws Exception {
+        // When
+        Connection inside = bulkhead.call(this::connection);
+        connection();
+
+        // Then
+        assertThat(inside).isSameAs(reportingConnection);
+        verify(reporting).getConnection();
+        verify(oltp).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond pool size plus queue")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Given - two slow reports occupy the connection and the queue slot
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        CompletableFuture<?>[] running = new CompletableFuture<?>[2];
+        for (int i = 0; i < running.length; i++) {
+            running[i] =
+                    CompletableFuture.runAsync(
+                            () ->
+                                    bulkhead.call(
+                                            () -> {
+                                                started.countDown();
+                                                await(release);
+                                                return null;
+                                            }));
+        }
+        started.await();
+
+        // When / Then
+        assertThatThrownBy(() -> bulkhead.call(() -> "third"))
+                .isInstanceOf(CapacityExceededException.class);
+        assertThat(meterRegistry.counter("datasource.reporting.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        CompletableFuture.allOf(running).join();
+        assertThat(bulkhead.call(() -> "after")).isEqualTo("after");
+    }
+
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
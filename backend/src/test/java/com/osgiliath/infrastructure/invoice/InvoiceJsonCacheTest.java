@@ -0,0 +1,140 @@
+package com.osgiliath.infrastructure.invoice;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.osgiliath.domain.invoice.InvoiceVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/** Unit tests for InvoiceJsonCache Tests version checks, compression and eviction by size */
+@DisplayName("InvoiceJsonCache")
+class InvoiceJsonCacheTest {
+
+    private static final InvoiceVersions VERSIONS = new InvoiceVersions(3L, 1L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private InvoiceJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new InvoiceJsonCache(DataSize.ofKilobytes(4), meterRegistry);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry
+                .get("invoice.json.cache.lookups")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    /** Bytes that do not compress, so entry sizes are predictable */
+    private static byte[] incompressible(int length) {
+        byte[] raw = new byte[length];
+        new Random(length).nextBytes(raw);
+        return raw;
+    }
+
+    @Test
+    @DisplayName("Should return the JSON it was given when the versions are unchanged")
+    void shouldHitOnCurrentVersions() {
+        // Given
+        UUID id = UUID.randomUUID();
+        byte[] json = "{\"status\":\"PAID\"}".getBytes(StandardCharsets.UTF_8);
+        cache.put(id, VERSIONS, json);
+
+        // When
+        InvoiceJsonCache.Entry entry = cache.get(id, () -> Optional.of(VERSIONS));
+
+        // Then
+        assertThat(entry).isNotNull();
+        assertThat(entry.versions()).isEqualTo(VERSIONS);
+        assertThat(InvoiceJsonCache.gunzip(entry.gzip())).isEqualTo(json);
+        assertThat(lookups("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not read versions for an invoice it does not hold")
+    void shouldMissWithoutVersionCheck() {
+        // Given
+        AtomicInteger versionReads = new AtomicInteger();
+
+        // When
+        InvoiceJsonCache.Entry entry =
+                cache.get(
+                        UUID.randomUUID(),
+                        () -> {
+                            versionReads.incrementAndGet();
+                            return Optional.of(VERSIONS);
+                        });
+
+        // Then
+        assertThat(entry).isNull();
+        assertThat(versionReads).hasValue(0);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop an entry once the invoice or customer has moved on")
+    void shouldEvictStaleEntries() {
+        // Given
+        UUID renamed = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        cache.put(renamed, VERSIONS, "{}".getBytes(StandardCharsets.UTF_8));
+        cache.put(deleted, VERSIONS, "{}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        InvoiceJsonCache.Entry afterRename =
+                cache.get(renamed, () -> Optional.of(new InvoiceVersions(3L, 2L)));
+        InvoiceJsonCache.Entry afterDelete = cache.get(deleted, Optional::empty);
+
+        // Then
+        assertThat(afterRename).isNull();
+        assertThat(afterDelete).isNull();
+        assertThat(lookups("stale")).isEqualTo(2);
+        assertThat(cache.entryCount()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entries beyond the size budget")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given - three entries of a bit over 1KB compressed each fit in 4KB
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.put(first, VERSIONS, incompressible(1200));
+        cache.put(second, VERSIONS, incompressible(1200));
+        cache.put(third, VERSIONS, incompressible(1200));
+        cache.get(first, () -> Optional.of(VERSIONS));
+
+        // When
+        cache.put(UUID.randomUUID(), VERSIONS, incompressible(1200));
+
+        // Then
+        assertThat(cache.entryCount()).isEqualTo(3);
+        assertThat(cache.size()).isLessThanOrEqualTo(DataSize.ofKilobytes(4).toBytes());
+        assertThat(cache.get(second, () -> Optional.of(VERSIONS))).isNull();
+        assertThat(cache.get(first, () -> Optional.of(VERSIONS))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not hold a single entry larger than the budget")
+    void shouldSkipOversizedEntries() {
+        // When
+        cache.put(UUID.randomUUID(), VERSIONS, incompressible(8192));
+
+        // Then
+        assertThat(cache.entryCount()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,93 @@
+package com.osgiliath.infrastructure.overload;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for AdaptiveConcurrencyLimiter Tests AIMD adjustment and priority admission */
+@DisplayName("AdaptiveConcurrencyLimiter")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    @Test
+    @DisplayName("Should shed lower priority classes first")
+    void shouldShedLowPriorityFirst() {
+        // Given - limit 10: exports may use 3 slots, reads 7, critical all 10
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 10, 0.9);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(RouteClass.EXPORTS)).isTrue();
+        }
+
+        // When / Then
+        assertThat(limiter.tryAcquire(RouteClass.EXPORTS)).isFalse();
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(RouteClass.READS)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(RouteClass.READS)).isFalse();
+        assertThat(limiter.tryAcquire(RouteClass.CRITICAL)).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should back off on slow completions down to the minimum")
+    void shouldBackOffOnSlowCompletions() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 50, 0.5);
+
+        // When
+        limiter.tryAcquire(RouteClass.READS);
+        limiter.release(RouteClass.READS, SLOW);
+        int afterOne = limiter.getLimit();
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(RouteClass.READS);
+            limiter.release(RouteClass.READS, SLOW);
+        }
+
+        // Then
+        assertThat(afterOne).isEqualTo(10);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should grow only while the limit is in use, up to the maximum")
+    void shouldGrowWhenSaturatedAndFast() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 6, 0.9);
+
+        // When - one request at a time never uses half the limit
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(RouteClass.CRITICAL);
+            limiter.release(RouteClass.CRITICAL, FAST);
+        }
+        int idle = limiter.getLimit();
+
+        // Keep the limit saturated with fast requests
+        for (int i = 0; i < 200; i++) {
+            while (limiter.tryAcquire(RouteClass.CRITICAL)) {}
+            limiter.release(RouteClass.CRITICAL, FAST);
+        }
+
+        // Then
+        assertThat(idle).isEqualTo(4);
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should classify routes by priority and exempt operational endpoints")
+    void shouldClassifyRoutes() {
+        assertThat(RouteClass.of("POST", "/auth/login")).isEqualTo(RouteClass.CRITICAL);
+        assertThat(RouteClass.of("POST", "/invoices/42/payments")).isEqualTo(RouteClass.CRITICAL);
+        assertThat(RouteClass.of("GET", "/invoices/42/payments")).isEqualTo(RouteClass.READS);
+        assertThat(RouteClass.of("POST", "/invoices/42/send")).isEqualTo(RouteClass.COMMANDS);
+        assertThat(RouteClass.of("GET", "/analytics/top-customers"))
+                .isEqualTo(RouteClass.ANALYTICS);
+        assertThat(RouteClass.of("GET", "/invoices/42/pdf")).isEqualTo(RouteClass.EXPORTS);
+        assertThat(RouteClass.of("GET", "/actuator/prometheus")).isNull();
+        assertThat(RouteClass.of("OPTIONS", "/invoices")).isNull();
+    }
+}
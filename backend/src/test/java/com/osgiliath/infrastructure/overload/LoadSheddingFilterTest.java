@@ -0,0 +1,102 @@
+package com.osgiliath.infrastructure.overload;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+/** Unit tests for LoadSheddingFilter Tests rejection responses above the concurrency limit */
+@DisplayName("LoadSheddingFilter")
+class LoadSheddingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("http://localhost:3000");
+        UrlBasedCorsConfigurationSource corsSource = new UrlBasedCorsConfigurationSource();
+        corsSource.registerCorsConfiguration("/**", cors);
+        // Limit of 2: one export slot, two critical slots
+        filter =
+                new LoadSheddingFilter(
+                        2,
+                        2,
+                        2,
+                        0.9,
+                        meterRegistry,
+                        corsSource,
+                        new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api" + path);
+        request.setContextPath("/api");
+        request.addHeader("Origin", "http://localhost:3000");
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should reject an export with 503 while another request holds its share")
+    void shouldShedExportAboveItsShare() throws Exception {
+        // Given
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        // When - a second export arrives while the first is still in flight
+        filter.doFilter(
+                request("GET", "/invoices/1/pdf"),
+                new MockHttpServletResponse(),
+                (req, res) ->
+                        filter.doFilter(
+                                request("GET", "/invoices/2/pdf"),
+                                nested,
+                                (innerReq, innerRes) ->
+                                        ((HttpServletResponse) innerRes).setStatus(200)));
+
+        // Then
+        assertThat(nested.getStatus()).isEqualTo(503);
+        assertThat(nested.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(nested.getHeader("Access-Control-Allow-Origin"))
+                .isEqualTo("http://localhost:3000");
+        assertThat(nested.getContentAsString()).contains("Server is at capacity");
+        assertThat(
+                        meterRegistry
+                                .get("http.server.requests.shed")
+                                .tag("route", "exports")
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should still admit a payment while an export is in flight")
+    void shouldAdmitCriticalWhileExportInFlight() throws Exception {
+        // Given
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(
+                request("GET", "/invoices/1/pdf"),
+                new MockHttpServletResponse(),
+                (req, res) ->
+                        filter.doFilter(
+                                request("POST", "/invoices/1/payments"),
+                                nested,
+                                (innerReq, innerRes) ->
+                                        ((HttpServletResponse) innerRes).setStatus(201)));
+
+        // Then
+        assertThat(nested.getStatus()).isEqualTo(201);
+    }
+}
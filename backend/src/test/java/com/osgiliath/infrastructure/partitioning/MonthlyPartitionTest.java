@@ -0,0 +1,65 @@
+package com.osgiliath.infrastructure.partitioning;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for MonthlyPartition naming, bounds and DDL generation */
+@DisplayName("MonthlyPartition")
+class MonthlyPartitionTest {
+
+    @Test
+    @DisplayName("Should name partition after parent table and month")
+    void shouldNamePartitionAfterParentAndMonth() {
+        MonthlyPartition partition = MonthlyPartition.of("invoices", YearMonth.of(2025, 3));
+
+        assertThat(partition.getName()).isEqualTo("invoices_y2025m03");
+    }
+
+    @Test
+    @DisplayName("Should cover the month as a half-open range")
+    void shouldCoverMonthAsHalfOpenRange() {
+        MonthlyPartition partition = MonthlyPartition.of("payments", YearMonth.of(2024, 12));
+
+        assertThat(partition.getFrom()).isEqualTo(LocalDate.of(2024, 12, 1));
+        assertThat(partition.getTo()).isEqualTo(LocalDate.of(2025, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should generate idempotent CREATE TABLE ... PARTITION OF statement")
+    void shouldGenerateIdempotentCreateStatement() {
+        MonthlyPartition partition = MonthlyPartition.of("invoices", YearMonth.of(2025, 11));
+
+        assertThat(partition.toCreateStatement())
+                .isEqualTo(
+                        "CREATE TABLE IF NOT EXISTS invoices_y2025m11 PARTITION OF invoices "
+                                + "FOR VALUES FROM ('2025-11-01') TO ('2025-12-01')");
+    }
+
+    @Test
+    @DisplayName("Should reject table names that are not plain identifiers")
+    void shouldRejectUnsafeTableNames() {
+        assertThatThrownBy(() -> MonthlyPartition.of("invoices; DROP TABLE x", YearMonth.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should plan current month plus months ahead")
+    void shouldPlanCurrentMonthPlusMonthsAhead() {
+        List<MonthlyPartition> partitions =
+                PartitionMaintenanceService.upcomingPartitions(
+                        "invoices", YearMonth.of(2025, 11), 3);
+
+        assertThat(partitions)
+                .extracting(MonthlyPartition::getName)
+                .containsExactly(
+                        "invoices_y2025m11",
+                        "invoices_y2025m12",
+                        "invoices_y2026m01",
+                        "invoices_y2026m02");
+    }
+}
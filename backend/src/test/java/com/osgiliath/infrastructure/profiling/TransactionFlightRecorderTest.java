@@ -0,0 +1,96 @@
+package com.osgiliath.infrastructure.profiling;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionExecution;
+
+/**
+ * Unit tests for TransactionFlightRecorder Tests transaction events and connection wait tracking
+ */
+@DisplayName("TransactionFlightRecorder")
+class TransactionFlightRecorderTest {
+
+    private static final String EVENT = "com.osgiliath.Transaction";
+
+    private final TransactionFlightRecorder recorder = new TransactionFlightRecorder();
+
+    private final DataSource slowPool =
+            new ConnectionWaitDataSource(
+                    (DataSource)
+                            Proxy.newProxyInstance(
+                                    getClass().getClassLoader(),
+                                    new Class<?>[] {DataSource.class},
+                                    (proxy, method, args) -> {
+                                        Thread.sleep(20);
+                                        return null;
+                                    }));
+
+    private static TransactionExecution transaction(String name) {
+        return new TransactionExecution() {
+            @Override
+            public String getTransactionName() {
+                return name;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should record transaction with connection wait while recording")
+    void shouldRecordTransactionWithConnectionWait(@TempDir Path dir) throws Exception {
+        // Given
+        TransactionExecution transaction = transaction("InvoiceService.send");
+        Path file = dir.resolve("tx.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            recorder.beforeBegin(transaction);
+            Connection connection = slowPool.getConnection();
+            recorder.afterCommit(transaction, null);
+            recording.stop();
+            recording.dump(file);
+            assertThat(connection).isNull();
+        }
+
+        // Then
+        List<RecordedEvent> events =
+                RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().equals(EVENT))
+                        .toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("name")).isEqualTo("InvoiceService.send");
+        assertThat(event.getString("outcome")).isEqualTo("committed");
+        assertThat(event.getDuration("connectionWait"))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        assertThat(TransactionFlightRecorder.isRecording()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not track transactions when no recording is running")
+    void shouldNotTrackWithoutRecording() {
+        // Given
+        TransactionExecution transaction = transaction("InvoiceService.send");
+
+        // When
+        recorder.beforeBegin(transaction);
+        boolean tracking = TransactionFlightRecorder.isRecording();
+        recorder.afterRollback(transaction, null);
+
+        // Then
+        assertThat(tracking).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for LocalTokenBucketLimiter Tests burst, refill and eviction with a fake clock */
+@DisplayName("LocalTokenBucketLimiter")
+class LocalTokenBucketLimiterTest {
+
+    private static final RateLimitQuota QUOTA = new RateLimitQuota(3, 2);
+
+    private AtomicLong clock;
+    private LocalTokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        limiter = new LocalTokenBucketLimiter(clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity, then reject with retry-after")
+    void shouldAllowBurstThenReject() {
+        // When
+        RateLimitDecision first = limiter.tryConsume("alice", QUOTA);
+        limiter.tryConsume("alice", QUOTA);
+        RateLimitDecision third = limiter.tryConsume("alice", QUOTA);
+        RateLimitDecision fourth = limiter.tryConsume("alice", QUOTA);
+
+        // Then
+        assertThat(first.isAllowed()).isTrue();
+        assertThat(first.getRemaining()).isEqualTo(2);
+        assertThat(third.isAllowed()).isTrue();
+        assertThat(third.getRemaining()).isZero();
+        assertThat(third.getResetSeconds()).isEqualTo(2);
+        assertThat(fourth.isAllowed()).isFalse();
+        assertThat(fourth.getRetryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refill at the configured rate and keep clients separate")
+    void shouldRefillPerKey() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryConsume("alice", QUOTA);
+        }
+
+        // When
+        advance(Duration.ofMillis(500));
+        RateLimitDecision refilled = limiter.tryConsume("alice", QUOTA);
+        RateLimitDecision empty = limiter.tryConsume("alice", QUOTA);
+        RateLimitDecision otherClient = limiter.tryConsume("bob", QUOTA);
+
+        // Then
+        assertThat(refilled.isAllowed()).isTrue();
+        assertThat(empty.isAllowed()).isFalse();
+        assertThat(otherClient.isAllowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should evict buckets once they have refilled completely")
+    void shouldEvictFullBuckets() {
+        // Given
+        limiter.tryConsume("alice", QUOTA);
+        limiter.tryConsume("bob", QUOTA);
+        limiter.tryConsume("bob", QUOTA);
+        limiter.tryConsume("bob", QUOTA);
+
+        // When - alice is full again after 0.5s, bob needs 1.5s
+        advance(Duration.ofMillis(600));
+        limiter.evictFullBuckets();
+
+        // Then
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.osgiliath.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osgiliath.infrastructure.overload.RouteClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/** Unit tests for RateLimitFilter Tests keys, headers and 429 responses */
+@DisplayName("RateLimitFilter")
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getQuotas().put(RouteClass.ANALYTICS, new RateLimitQuota(2, 0.1));
+        filter =
+                new RateLimitFilter(
+                        new LocalTokenBucketLimiter(),
+                        properties,
+                        new ObjectMapper().registerModule(new JavaTimeModule()),
+                        meterRegistry);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse perform(String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api" + path);
+        request.setContextPath("/api");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should report remaining quota and reject with 429 once exhausted")
+    void shouldRejectWhenQuotaExhausted() throws Exception {
+        // When
+        MockHttpServletResponse first = perform("GET", "/analytics/top-customers");
+        perform("GET", "/analytics/top-customers");
+        MockHttpServletResponse third = perform("GET", "/analytics/top-customers");
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader("RateLimit-Limit")).isEqualTo("2");
+        assertThat(first.getHeader("RateLimit-Remaining")).isEqualTo("1");
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(third.getHeader("Retry-After")).isEqualTo("10");
+        assertThat(third.getContentAsString()).contains("Rate limit exceeded");
+        assertThat(
+                        meterRegistry
+                                .get("http.server.requests.rate.limited")
+                                .tag("route", "analytics")
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per authenticated user")
+    void shouldLimitPerUser() throws Exception {
+        // Given - the anonymous client has used its quota
+        perform("GET", "/analytics/status-breakdown");
+        perform("GET", "/analytics/status-breakdown");
+
+        // When
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated("alice", null, null));
+        MockHttpServletResponse asAlice = perform("GET", "/analytics/status-breakdown");
+
+        // Then
+        assertThat(asAlice.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should not limit route groups without a quota")
+    void shouldPassRoutesWithoutQuota() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = perform("GET", "/invoices");
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("RateLimit-Limit")).isNull();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.api.shared.BinaryFormats;
+import com.osgiliath.application.customer.dto.CreateCustomerRequest;
+import com.osgiliath.application.customer.dto.CustomerResponse;
+import com.osgiliath.application.invoice.InvoiceResponse;
+import com.osgiliath.application.payment.dto.PaymentResponse;
+import com.osgiliath.application.payment.dto.RecordPaymentRequest;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.payment.PaymentMethod;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/** Integration tests for CBOR and Smile request and response bodies */
+@DisplayName("Binary Content Negotiation Integration Tests")
+class BinaryContentNegotiationIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private ObjectMapper objectMapper;
+
+    @Autowired private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired private EntityManager entityManager;
+
+    private ObjectMapper cbor() {
+        return cborConverter.getObjectMapper();
+    }
+
+    private ObjectMapper smile() {
+        return smileConverter.getObjectMapper();
+    }
+
+    private byte[] getAs(String url, MediaType type) throws Exception {
+        return mockMvc.perform(get(url).accept(type))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(type))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+
+    @Test
+    @DisplayName("Should return the same invoice as JSON, CBOR and Smile")
+    void shouldServeInvoiceInEveryFormat() throws Exception {
+        // Given - a paid invoice, whose JSON is served from the JSON cache
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildPaidAndSave();
+        String url = "/api/invoices/" + invoice.getId();
+        InvoiceResponse json =
+                objectMapper.readValue(
+                        getAs(url, MediaType.APPLICATION_JSON), InvoiceResponse.class);
+
+        // When
+        InvoiceResponse fromCbor =
+                cbor().readValue(getAs(url, BinaryFormats.CBOR), InvoiceResponse.class);
+        InvoiceResponse fromSmile =
+                smile().readValue(getAs(url, BinaryFormats.SMILE), InvoiceResponse.class);
+
+        // Then
+        assertThat(fromCbor).usingRecursiveComparison().isEqualTo(json);
+        assertThat(fromSmile).usingRecursiveComparison().isEqualTo(json);
+        assertThat(json.getLineItems()).isNotEmpty();
+        assertThat(cbor().readTree(getAs(url, BinaryFormats.CBOR)).get("id").isBinary()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep JSON the default when the client accepts any type")
+    void shouldDefaultToJson() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+
+        // When & Then
+        mockMvc.perform(get("/api/invoices").header(HttpHeaders.ACCEPT, "*/*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/customers/" + customer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should accept and return CBOR and Smile bodies on commands and lists")
+    void shouldNegotiateCommandsAndLists() throws Exception {
+        // Given
+        CreateCustomerRequest create =
+                new CreateCustomerRequest(
+                        "Binary Client", "binary@example.com", "555-0100", "1 Main St");
+
+        // When - a customer created with a CBOR body, a payment recorded with a Smile body
+        byte[] created =
+                mockMvc.perform(
+                                post("/api/customers")
+                                        .contentType(BinaryFormats.CBOR)
+                                        .accept(BinaryFormats.CBOR)
+                                        .content(cbor().writeValueAsBytes(create)))
+                        .andExpect(status().isCreated())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray();
+        CustomerResponse customer = cbor().readValue(created, CustomerResponse.class);
+        Invoice invoice =
+                testDataBuilder
+                        .invoice()
+                        .customer(customerRepository.findById(customer.getId()).orElseThrow())
+                        .buildSentAndSave();
+        entityManager.flush();
+        RecordPaymentRequest payment =
+                new RecordPaymentRequest(
+                        new BigDecimal("10.25"),
+                        LocalDate.now(),
+                        PaymentMethod.BANK_TRANSFER,
+                        "SMILE-1");
+        byte[] recorded =
+                mockMvc.perform(
+                                post("/api/invoices/" + invoice.getId() + "/payments")
+                                        .contentType(BinaryFormats.SMILE)
+                                        .accept(BinaryFormats.SMILE)
+                                        .content(smile().writeValueAsBytes(payment)))
+                        .andExpect(status().isCreated())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray();
+
+        // Then
+        assertThat(customer.getName()).isEqualTo("Binary Client");
+        assertThat(smile().readValue(recorded, PaymentResponse.class).getAmount())
+                .isEqualByComparingTo("10.25");
+        JsonNode payments =
+                cbor().readTree(
+                                getAs(
+                                        "/api/invoices/" + invoice.getId() + "/payments",
+                                        BinaryFormats.CBOR));
+        assertThat(payments).hasSize(1);
+        assertThat(payments.get(0).get("referenceNumber").asText()).isEqualTo("SMILE-1");
+    }
+}
@@ -0,0 +1,230 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/** Integration tests for ETags, If-None-Match and If-Match */
+@DisplayName("Conditional Request Integration Tests")
+class ConditionalRequestIntegrationTest extends BaseIntegrationTest {
+
+    private String etagOf(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private String updateRequest() {
+        return "{\"issueDate\": \""
+                + LocalDate.now()
+                + "\", \"dueDate\": \""
+                + LocalDate.now().plusDays(45)
+                + "\"}";
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for a current invoice and 200 once it changes")
+    void shouldRevalidateInvoice() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+        String url = "/api/invoices/" + invoice.getId();
+        String etag = etagOf(url);
+
+        // When & Then
+        assertThat(etag).startsWith("W/\"" + invoice.getId() + "-");
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        String updated =
+                mockMvc.perform(
+                                put(url).contentType(MediaType.APPLICATION_JSON)
+                                        .content(updateRequest()))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isNotEqualTo(etag);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, updated));
+    }
+
+    @Test
+    @DisplayName("Should change invoice, PDF and list tags when the customer is renamed")
+    void shouldRevalidateInvoiceAfterCustomerRename() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().email("rename@example.com").buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+        String url = "/api/invoices/" + invoice.getId();
+        String invoiceTag = etagOf(url);
+        String pdfTag = etagOf(url + "/pdf");
+        String listTag = etagOf("/api/invoices");
+
+        // When
+        mockMvc.perform(
+                        put("/api/customers/" + customer.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        "{\"name\": \"Renamed\", \"email\": \"rename@example.com\"}"))
+                .andExpect(status().isOk());
+
+        // Then: every copy showing the old name is stale, but the invoice itself is unchanged
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, invoiceTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerName").value("Renamed"));
+        assertThat(etagOf(url)).isNotEqualTo(invoiceTag);
+        mockMvc.perform(get(url + "/pdf").header(HttpHeaders.IF_NONE_MATCH, pdfTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/invoices").header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, invoiceTag)
+                                .content(updateRequest()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should reject an update whose If-Match names an older version")
+    void shouldRejectStaleIfMatch() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+        String url = "/api/invoices/" + invoice.getId();
+        String etag = etagOf(url);
+
+        // When: the first update names the current version, the second the one it replaced
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .content(updateRequest()))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .content(updateRequest()))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "\"something-else\"")
+                                .content(updateRequest()))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should accept an update whose If-Match lists the current version among others")
+    void shouldAcceptIfMatchListNamingCurrentVersion() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+        String url = "/api/invoices/" + invoice.getId();
+        String stale = etagOf(url);
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, stale)
+                                .content(updateRequest()))
+                .andExpect(status().isOk());
+        String current = etagOf(url);
+
+        // When & Then: the stale tag comes first, and the current one without its W/ prefix
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(
+                                        HttpHeaders.IF_MATCH,
+                                        stale + ", \"something-else\", " + current.substring(2))
+                                .content(updateRequest()))
+                .andExpect(status().isOk());
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, stale + ", \"something-else\"")
+                                .content(updateRequest()))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should revalidate customers and reject stale customer updates")
+    void shouldRevalidateCustomer() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().email("etag@example.com").buildAndSave();
+        String url = "/api/customers/" + customer.getId();
+        String etag = etagOf(url);
+        String update =
+                "{\"name\": \"Renamed\", \"email\": \"etag@example.com\", \"phone\": \"555-0100\","
+                        + " \"address\": \"1 Main St\"}";
+
+        // When & Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        String updated =
+                mockMvc.perform(
+                                put(url).contentType(MediaType.APPLICATION_JSON)
+                                        .header(HttpHeaders.IF_MATCH, etag)
+                                        .content(update))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isNotEqualTo(etag).isEqualTo(etagOf(url));
+        mockMvc.perform(
+                        put(url).contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .content(update))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should revalidate a list page until an invoice on it changes")
+    void shouldRevalidateInvoiceList() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+        String etag = etagOf("/api/invoices");
+
+        // When & Then
+        mockMvc.perform(get("/api/invoices").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/invoices").param("total", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        mockMvc.perform(
+                        put("/api/invoices/" + invoice.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(updateRequest()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/invoices").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should skip rendering the PDF when the cached copy is current")
+    void shouldRevalidatePdf() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+        String url = "/api/invoices/" + invoice.getId() + "/pdf";
+        String etag = etagOf(url);
+
+        // When & Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
@@ -174,7 +174,8 @@ class CustomerIntegrationTest extends BaseIntegrationTest {
                         "Jane Doe",
                         "jane@example.com",
                         "555-9999",
-                        "456 Oak Ave");
+                        "456 Oak Ave",
+                        null);
 
         // When & Then
         mockMvc.perform(
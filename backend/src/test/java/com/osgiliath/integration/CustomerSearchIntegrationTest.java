@@ -0,0 +1,84 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Integration tests for customer search Tests trigram matching, ranking and index usage */
+@DisplayName("Customer Search Integration Tests")
+class CustomerSearchIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should rank closer name matches first")
+    void shouldRankBySimilarity() throws Exception {
+        // Given
+        testDataBuilder
+                .customer()
+                .name("Smithson Holdings International")
+                .email("a@x.com")
+                .buildAndSave();
+        testDataBuilder.customer().name("Smith").email("b@x.com").buildAndSave();
+        testDataBuilder.customer().name("Anna Smith").email("c@x.com").buildAndSave();
+        testDataBuilder.customer().name("Jones").email("d@x.com").buildAndSave();
+
+        // When & Then
+        mockMvc.perform(get("/api/customers").param("search", "SMITH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].name").value("Smith"))
+                .andExpect(jsonPath("$.content[1].name").value("Anna Smith"))
+                .andExpect(jsonPath("$.content[2].name").value("Smithson Holdings International"));
+    }
+
+    @Test
+    @DisplayName("Should match email substrings and treat wildcards literally")
+    void shouldMatchEmailAndEscapeWildcards() throws Exception {
+        // Given
+        testDataBuilder.customer().name("100% Cotton").email("sales@cotton.example").buildAndSave();
+        testDataBuilder
+                .customer()
+                .name("1000 Widgets")
+                .email("info@widgets.example")
+                .buildAndSave();
+
+        // When & Then
+        mockMvc.perform(get("/api/customers").param("search", "100%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("100% Cotton"));
+        mockMvc.perform(get("/api/customers").param("search", "widgets.ex"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("1000 Widgets"));
+    }
+
+    @Test
+    @DisplayName("Should answer substring searches from the trigram indexes")
+    void shouldUseTrigramIndexes() {
+        // Given
+        // Tiny tables are always cheapest to scan; take that option away to see the index plan
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        // When
+        List<String> plan =
+                jdbcTemplate.queryForList(
+                        "EXPLAIN SELECT * FROM customers c "
+                                + "WHERE lower(c.name) LIKE '%acme%' "
+                                + "OR c.email_address LIKE '%acme%'",
+                        String.class);
+
+        // Then
+        assertThat(String.join("\n", plan))
+                .contains("idx_customer_name_trgm")
+                .contains("idx_customer_email_trgm");
+    }
+}
@@ -0,0 +1,101 @@
+package com.osgiliath.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.application.customer.dto.CreateCustomerRequest;
+import com.osgiliath.application.customer.dto.UpdateCustomerRequest;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for customer autocomplete. Runs outside the test transaction, since the index
+ * only takes changes that committed.
+ */
+@DisplayName("Customer Suggest Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerSuggestIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private ObjectMapper objectMapper;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID customerId;
+
+    @AfterEach
+    void cleanUp() {
+        if (customerId != null) {
+            jdbcTemplate.update("DELETE FROM customers WHERE id = ?", customerId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow customer create, update and delete")
+    void shouldFollowCustomerChanges() throws Exception {
+        // Given
+        String created =
+                mockMvc.perform(
+                                post("/api/customers")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(
+                                                objectMapper.writeValueAsString(
+                                                        new CreateCustomerRequest(
+                                                                "Zephyrine Quillfeather",
+                                                                "zq@quillworks.example",
+                                                                null,
+                                                                null))))
+                        .andExpect(status().isCreated())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+        customerId = UUID.fromString(objectMapper.readTree(created).get("id").asText());
+
+        // When & Then: by name, by a later word and by email domain
+        mockMvc.perform(get("/api/customers/suggest").param("q", "zephy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(customerId.toString()))
+                .andExpect(jsonPath("$[0].email").value("zq@quillworks.example"));
+        mockMvc.perform(get("/api/customers/suggest").param("q", "Quillf"))
+                .andExpect(jsonPath("$[0].name").value("Zephyrine Quillfeather"));
+        mockMvc.perform(get("/api/customers/suggest").param("q", "quillworks"))
+                .andExpect(jsonPath("$[0].id").value(customerId.toString()));
+
+        // When & Then: renamed
+        mockMvc.perform(
+                        put("/api/customers/" + customerId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        objectMapper.writeValueAsString(
+                                                new UpdateCustomerRequest(
+                                                        "Xanthippe Quillfeather",
+                                                        "zq@quillworks.example",
+                                                        null,
+                                                        null))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/customers/suggest").param("q", "zephy"))
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/customers/suggest").param("q", "xanth"))
+                .andExpect(jsonPath("$[0].name").value("Xanthippe Quillfeather"));
+
+        // When & Then: deleted
+        mockMvc.perform(delete("/api/customers/" + customerId)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/customers/suggest").param("q", "xanth"))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should reject a limit out of range")
+    void shouldRejectLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/customers/suggest").param("q", "a").param("limit", "51"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,145 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.infrastructure.dashboard.DashboardEventStream;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the dashboard SSE stream. Runs outside the test transaction, since deltas
+ * are only pushed after a commit.
+ */
+@DisplayName("Dashboard Stream Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DashboardStreamIntegrationTest extends BaseIntegrationTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    @Autowired private DashboardEventStream dashboardEventStream;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID customerId;
+    private UUID invoiceId;
+
+    @AfterEach
+    void cleanUp() {
+        if (invoiceId != null) {
+            jdbcTemplate.update("DELETE FROM line_items WHERE invoice_id = ?", invoiceId);
+            jdbcTemplate.update("DELETE FROM invoices WHERE id = ?", invoiceId);
+        }
+        if (customerId != null) {
+            jdbcTemplate.update("DELETE FROM customers WHERE id = ?", customerId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should push committed status changes and replay them after a reconnect")
+    void shouldPushAndReplayDeltas() throws Exception {
+        // Given
+        MvcResult first =
+                mockMvc.perform(get("/api/analytics/stream"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        // When
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    Customer customer =
+                            testDataBuilder
+                                    .customer()
+                                    .email("stream-" + UUID.randomUUID() + "@example.com")
+                                    .buildAndSave();
+                    customerId = customer.getId();
+                    invoiceId =
+                            testDataBuilder
+                                    .invoice()
+                                    .customer(customer)
+                                    .invoiceNumber("STREAM-" + System.nanoTime())
+                                    .buildSentAndSave()
+                                    .getId();
+                });
+        dashboardEventStream.flush();
+
+        // Then
+        String firstContent = awaitContent(first, "\"SENT\":1");
+        assertThat(firstContent).contains("event:delta").contains("\"SENT\":1");
+        String lastSeenId = lastEventId(firstContent);
+
+        // When the invoice is paid and the client reconnects from the last event it saw
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    Invoice invoice = invoiceRepository.findById(invoiceId).orElseThrow();
+                    invoice.applyPayment(invoice.getBalanceDue());
+                    invoiceRepository.save(invoice);
+                });
+        dashboardEventStream.flush();
+        MvcResult resumed =
+                mockMvc.perform(get("/api/analytics/stream").header("Last-Event-ID", lastSeenId))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        // Then
+        assertThat(resumed.getResponse().getContentAsString())
+                .contains("event:delta")
+                .contains("\"SENT\":-1")
+                .contains("\"PAID\":1")
+                .contains("\"" + YearMonth.now() + "\":275.00");
+    }
+
+    @Test
+    @DisplayName("Should send a reset event when missed deltas cannot be replayed")
+    void shouldResetUnknownLastEventId() throws Exception {
+        // When
+        MvcResult result =
+                mockMvc.perform(
+                                get("/api/analytics/stream")
+                                        .header("Last-Event-ID", "before-restart-42"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getContentAsString()).contains("event:reset");
+    }
+
+    /** Deltas are written by the stream's send pool, shortly after flush() returns */
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
+    private static String lastEventId(String content) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        String id = null;
+        while (matcher.find()) {
+            id = matcher.group(1);
+        }
+        assertThat(id).isNotNull();
+        return id;
+    }
+}
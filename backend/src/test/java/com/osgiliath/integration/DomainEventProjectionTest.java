@@ -0,0 +1,143 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.application.analytics.DailyActivityProjection;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.infrastructure.events.DomainEventLog;
+import com.osgiliath.infrastructure.events.ProjectionRunner;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the domain event log and projections. Runs outside the test transaction,
+ * since projections only see committed events.
+ */
+@DisplayName("Domain Event Projection Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DomainEventProjectionTest extends BaseIntegrationTest {
+
+    @Autowired private DomainEventLog eventLog;
+
+    @Autowired private ProjectionRunner projectionRunner;
+
+    @Autowired private DailyActivityProjection dailyActivityProjection;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID customerId;
+    private UUID invoiceId;
+
+    @BeforeEach
+    void clearEventLog() {
+        jdbcTemplate.update("DELETE FROM domain_events");
+        jdbcTemplate.update("DELETE FROM projection_checkpoints");
+        jdbcTemplate.update("DELETE FROM daily_invoice_activity");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (invoiceId != null) {
+            jdbcTemplate.update("DELETE FROM line_items WHERE invoice_id = ?", invoiceId);
+            jdbcTemplate.update("DELETE FROM invoices WHERE id = ?", invoiceId);
+        }
+        if (customerId != null) {
+            jdbcTemplate.update("DELETE FROM customers WHERE id = ?", customerId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should log committed events in order and build the daily activity projection")
+    void shouldLogEventsAndProject() throws Exception {
+        // Given
+        createSentInvoiceAndPayInFull();
+
+        // When
+        projectionRunner.runAll();
+
+        // Then
+        assertThat(eventLog.readAfter("0", 0, 10))
+                .extracting(entry -> entry.event().getClass().getSimpleName())
+                .containsExactly(
+                        "InvoiceStatusChanged",
+                        "InvoiceStatusChanged",
+                        "InvoicePaymentApplied",
+                        "InvoiceStatusChanged");
+        assertTodayActivity();
+    }
+
+    @Test
+    @DisplayName("Should rebuild a projection from the start of the log on replay")
+    void shouldReplayProjection() throws Exception {
+        // Given
+        createSentInvoiceAndPayInFull();
+        projectionRunner.runAll();
+
+        // When
+        mockMvc.perform(post("/api/admin/projections/daily-invoice-activity/replay"))
+                .andExpect(status().isAccepted());
+        projectionRunner.runAll();
+
+        // Then the counts are rebuilt, not doubled
+        assertTodayActivity();
+        assertThat(projectionRunner.runBatch(dailyActivityProjection)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return 404 when replaying an unknown projection")
+    void shouldRejectUnknownProjection() throws Exception {
+        mockMvc.perform(post("/api/admin/projections/unknown/replay"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void createSentInvoiceAndPayInFull() {
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    Customer customer =
+                            testDataBuilder
+                                    .customer()
+                                    .email("events-" + UUID.randomUUID() + "@example.com")
+                                    .buildAndSave();
+                    customerId = customer.getId();
+                    invoiceId =
+                            testDataBuilder
+                                    .invoice()
+                                    .customer(customer)
+                                    .invoiceNumber("EVENTS-" + System.nanoTime())
+                                    .buildSentAndSave()
+                                    .getId();
+                });
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    Invoice invoice = invoiceRepository.findById(invoiceId).orElseThrow();
+                    invoice.applyPayment(invoice.getBalanceDue());
+                    invoiceRepository.save(invoice);
+                });
+    }
+
+    private void assertTodayActivity() throws Exception {
+        mockMvc.perform(get("/api/analytics/daily-activity").param("days", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].invoicesCreated").value(1))
+                .andExpect(jsonPath("$[0].invoicesSent").value(1))
+                .andExpect(jsonPath("$[0].invoicesPaid").value(1))
+                .andExpect(jsonPath("$[0].invoicesCancelled").value(0))
+                .andExpect(jsonPath("$[0].paymentsReceived").value(1))
+                .andExpect(jsonPath("$[0].paymentAmount").value(275.00));
+    }
+}
@@ -0,0 +1,101 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Integration tests for the on-demand flight recording admin endpoints */
+@DisplayName("Flight Recording Integration Tests")
+class FlightRecordingIntegrationTest extends BaseIntegrationTest {
+
+    @AfterEach
+    void closeRecording() throws Exception {
+        mockMvc.perform(delete("/api/admin/flight-recordings/current"));
+    }
+
+    @Test
+    @DisplayName("Should record handler and PDF events and dump them as a .jfr file")
+    void shouldRecordAndDumpApplicationEvents(@TempDir Path dir) throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+
+        mockMvc.perform(
+                        post("/api/admin/flight-recordings")
+                                .param("durationSeconds", "60")
+                                .param("settings", "default"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.settings").value("default"));
+
+        // When
+        mockMvc.perform(get("/api/invoices/" + invoice.getId() + "/pdf"))
+                .andExpect(status().isOk());
+        byte[] jfr =
+                mockMvc.perform(get("/api/admin/flight-recordings/current/data"))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray();
+
+        // Then
+        Path file = Files.write(dir.resolve("dump.jfr"), jfr);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Set<String> types =
+                events.stream()
+                        .map(e -> e.getEventType().getName())
+                        .filter(name -> name.startsWith("com.osgiliath."))
+                        .collect(Collectors.toSet());
+        assertThat(types).contains("com.osgiliath.Handler", "com.osgiliath.PdfRender");
+        assertThat(events)
+                .extracting(e -> e.getEventType().getName())
+                .doesNotContain(
+                        "jdk.InitialEnvironmentVariable",
+                        "jdk.InitialSystemProperty",
+                        "jdk.JVMInformation");
+
+        RecordedEvent render =
+                events.stream()
+                        .filter(e -> e.getEventType().getName().equals("com.osgiliath.PdfRender"))
+                        .findFirst()
+                        .orElseThrow();
+        assertThat(render.getString("invoiceId")).isEqualTo(invoice.getId().toString());
+        assertThat(render.getInt("lineItems")).isEqualTo(invoice.getLineItems().size());
+        assertThat(render.getLong("bytes")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should reject a second recording and unbounded durations")
+    void shouldEnforceRecordingBounds() throws Exception {
+        mockMvc.perform(post("/api/admin/flight-recordings").param("durationSeconds", "3600"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/admin/flight-recordings").param("settings", "everything"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/admin/flight-recordings")).andExpect(status().isCreated());
+        mockMvc.perform(post("/api/admin/flight-recordings")).andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when no recording was started")
+    void shouldReturnNotFoundWithoutRecording() throws Exception {
+        mockMvc.perform(get("/api/admin/flight-recordings/current/data"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,211 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.application.analytics.GetInvoiceStatusBreakdownQuery;
+import com.osgiliath.application.analytics.GetInvoiceStatusBreakdownQueryHandler;
+import com.osgiliath.application.analytics.GetTopCustomersQuery;
+import com.osgiliath.application.analytics.GetTopCustomersQueryHandler;
+import com.osgiliath.application.analytics.TopCustomerDto;
+import com.osgiliath.application.invoice.ArchiveSettledInvoicesCommand;
+import com.osgiliath.application.invoice.ArchiveSettledInvoicesHandler;
+import com.osgiliath.application.invoice.ExportInvoiceToPdfQuery;
+import com.osgiliath.application.invoice.ExportInvoiceToPdfQueryHandler;
+import com.osgiliath.application.invoice.GetInvoiceByIdQuery;
+import com.osgiliath.application.invoice.GetInvoiceByIdQueryHandler;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.invoice.InvoiceStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for cold-storage archival Verifies settled invoices move out of the hot tables
+ * while reads, PDF export and analytics keep seeing them
+ */
+@DisplayName("Invoice Archival Test")
+class InvoiceArchivalTest extends BaseIntegrationTest {
+
+    @Autowired private ArchiveSettledInvoicesHandler archiveHandler;
+    @Autowired private GetInvoiceByIdQueryHandler getInvoiceByIdHandler;
+    @Autowired private ExportInvoiceToPdfQueryHandler exportPdfHandler;
+    @Autowired private GetInvoiceStatusBreakdownQueryHandler statusBreakdownHandler;
+    @Autowired private GetTopCustomersQueryHandler topCustomersHandler;
+
+    private static ArchiveSettledInvoicesCommand archiveEverythingSettled(int batchSize) {
+        return new ArchiveSettledInvoicesCommand(LocalDateTime.now().plusDays(1), batchSize);
+    }
+
+    private Invoice paidInvoice(Customer customer, String invoiceNumber) {
+        return testDataBuilder
+                .invoice()
+                .customer(customer)
+                .invoiceNumber(invoiceNumber)
+                .issueDate(LocalDate.now().minusYears(3))
+                .dueDate(LocalDate.now().minusYears(3).plusDays(30))
+                .buildPaidAndSave();
+    }
+
+    @Test
+    @DisplayName("Should move paid invoices out of the hot table and still serve them by ID")
+    void shouldArchivePaidInvoiceAndServeItById() {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Archive Customer")
+                        .email("archive1@example.com")
+                        .buildAndSave();
+        Invoice invoice = paidInvoice(customer, "INV-ARCHIVE-00001");
+
+        // When
+        int archived = archiveHandler.handle(archiveEverythingSettled(100));
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(invoiceRepository.findById(invoice.getId())).isEmpty();
+
+        Invoice restored = getInvoiceByIdHandler.handle(new GetInvoiceByIdQuery(invoice.getId()));
+        assertThat(restored.getInvoiceNumber()).isEqualTo("INV-ARCHIVE-00001");
+        assertThat(restored.getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(restored.getLineItems()).hasSize(2);
+        assertThat(restored.getTotalAmount().getAmount())
+                .isEqualByComparingTo(invoice.getTotalAmount().getAmount());
+        assertThat(restored.getBalanceDue().isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep draft and sent invoices in the hot table")
+    void shouldNotArchiveOpenInvoices() {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Open Invoices Customer")
+                        .email("archive2@example.com")
+                        .buildAndSave();
+        Invoice draft =
+                testDataBuilder
+                        .invoice()
+                        .customer(customer)
+                        .invoiceNumber("INV-ARCHIVE-00002")
+                        .buildWithLineItemsAndSave();
+        Invoice sent =
+                testDataBuilder
+                        .invoice()
+                        .customer(customer)
+                        .invoiceNumber("INV-ARCHIVE-00003")
+                        .buildSentAndSave();
+
+        // When
+        int archived = archiveHandler.handle(archiveEverythingSettled(100));
+
+        // Then
+        assertThat(archived).isZero();
+        assertThat(invoiceRepository.findById(draft.getId())).isPresent();
+        assertThat(invoiceRepository.findById(sent.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should only archive invoices settled before the cutoff")
+    void shouldRespectRetentionCutoff() {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Recent Customer")
+                        .email("archive3@example.com")
+                        .buildAndSave();
+        Invoice invoice = paidInvoice(customer, "INV-ARCHIVE-00004");
+
+        // When
+        int archived =
+                archiveHandler.handle(
+                        new ArchiveSettledInvoicesCommand(LocalDateTime.now().minusDays(1), 100));
+
+        // Then
+        assertThat(archived).isZero();
+        assertThat(invoiceRepository.findById(invoice.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should archive in several chunks when there are more invoices than batch size")
+    void shouldArchiveInChunks() {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Chunked Customer")
+                        .email("archive4@example.com")
+                        .buildAndSave();
+        for (int i = 0; i < 5; i++) {
+            paidInvoice(customer, "INV-ARCHIVE-1000" + i);
+        }
+
+        // When
+        int archived = archiveHandler.handle(archiveEverythingSettled(2));
+
+        // Then
+        assertThat(archived).isEqualTo(5);
+        assertThat(invoiceRepository.existsByCustomerId(customer.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep analytics and PDF export correct after archival")
+    void shouldKeepAnalyticsAndPdfExportCorrect() {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Analytics Customer")
+                        .email("archive5@example.com")
+                        .buildAndSave();
+        Invoice archivedInvoice = paidInvoice(customer, "INV-ARCHIVE-00005");
+        archiveHandler.handle(archiveEverythingSettled(100));
+        Invoice hotInvoice = paidInvoice(customer, "INV-ARCHIVE-00006");
+
+        // When
+        Map<InvoiceStatus, Long> breakdown =
+                statusBreakdownHandler.handle(new GetInvoiceStatusBreakdownQuery());
+        List<TopCustomerDto> topCustomers = topCustomersHandler.handle(new GetTopCustomersQuery(5));
+        byte[] pdf = exportPdfHandler.handle(new ExportInvoiceToPdfQuery(archivedInvoice.getId()));
+
+        // Then
+        assertThat(breakdown.get(InvoiceStatus.PAID)).isEqualTo(2L);
+        assertThat(topCustomers).hasSize(1);
+        assertThat(topCustomers.get(0).getInvoiceCount()).isEqualTo(2L);
+        assertThat(topCustomers.get(0).getTotalRevenue())
+                .isEqualByComparingTo(
+                        archivedInvoice
+                                .getTotalAmount()
+                                .add(hotInvoice.getTotalAmount())
+                                .getAmount());
+        assertThat(pdf).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not delete a customer whose invoices are all archived")
+    void shouldNotDeleteCustomerWithArchivedInvoices() throws Exception {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Archived Only Customer")
+                        .email("archive6@example.com")
+                        .buildAndSave();
+        paidInvoice(customer, "INV-ARCHIVE-00007");
+        archiveHandler.handle(archiveEverythingSettled(100));
+
+        // When / Then
+        mockMvc.perform(delete("/api/customers/" + customer.getId()))
+                .andExpect(status().isConflict());
+    }
+}
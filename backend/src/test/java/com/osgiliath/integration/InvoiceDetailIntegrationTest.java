@@ -0,0 +1,81 @@
+package com.osgiliath.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.payment.Payment;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the composite invoice detail view. Runs outside the test transaction, since
+ * its reads run on other connections and only see committed data.
+ */
+@DisplayName("Invoice Detail Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InvoiceDetailIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID invoiceId;
+    private UUID customerId;
+
+    @AfterEach
+    void cleanUp() {
+        if (invoiceId != null) {
+            jdbcTemplate.update("DELETE FROM payments WHERE invoice_id = ?", invoiceId);
+            jdbcTemplate.update("DELETE FROM line_items WHERE invoice_id = ?", invoiceId);
+            jdbcTemplate.update("DELETE FROM invoices WHERE id = ?", invoiceId);
+        }
+        if (customerId != null) {
+            jdbcTemplate.update("DELETE FROM customers WHERE id = ?", customerId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return invoice, customer, payments and balance in one response")
+    void shouldReturnInvoiceDetail() throws Exception {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Detail Customer")
+                        .email("detail@customer.example")
+                        .buildAndSave();
+        customerId = customer.getId();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildSentAndSave();
+        invoiceId = invoice.getId();
+        Payment payment = testDataBuilder.payment().invoice(invoice).amount(25.0).buildAndSave();
+
+        // When & Then
+        mockMvc.perform(get("/api/invoices/" + invoiceId + "/detail"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.invoice.id").value(invoiceId.toString()))
+                .andExpect(jsonPath("$.invoice.customerName").value("Detail Customer"))
+                .andExpect(jsonPath("$.invoice.lineItems.length()").value(2))
+                .andExpect(jsonPath("$.customer.id").value(customerId.toString()))
+                .andExpect(jsonPath("$.customer.email").value("detail@customer.example"))
+                .andExpect(jsonPath("$.payments.length()").value(1))
+                .andExpect(jsonPath("$.payments[0].id").value(payment.getId().toString()))
+                .andExpect(jsonPath("$.balance.invoiceId").value(invoiceId.toString()))
+                .andExpect(
+                        jsonPath("$.balance.balanceDue")
+                                .value(invoice.getBalanceDue().getAmount().doubleValue()));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown invoice")
+    void shouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/invoices/" + UUID.randomUUID() + "/detail"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -238,6 +238,39 @@ class InvoiceIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(3));
     }
 
+    @Test
+    @DisplayName("Should return status facets of the filter with the invoice page")
+    void shouldListInvoicesWithFacets() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        testDataBuilder.invoice().customer(customer).invoiceNumber("INV-001").buildAndSave();
+        testDataBuilder.invoice().customer(customer).invoiceNumber("INV-002").buildAndSave();
+        Invoice sent =
+                testDataBuilder
+                        .invoice()
+                        .customer(customer)
+                        .invoiceNumber("INV-003")
+                        .buildSentAndSave();
+
+        // When & Then: the status filter narrows the rows but not the facets
+        mockMvc.perform(
+                        get("/api/invoices")
+                                .param("status", "DRAFT")
+                                .param("size", "1")
+                                .param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.facets.length()").value(InvoiceStatus.values().length))
+                .andExpect(jsonPath("$.facets[?(@.status == 'DRAFT')].count").value(2))
+                .andExpect(jsonPath("$.facets[?(@.status == 'SENT')].count").value(1))
+                .andExpect(
+                        jsonPath("$.facets[?(@.status == 'SENT')].balanceDue")
+                                .value(sent.getBalanceDue().getAmount().doubleValue()))
+                .andExpect(jsonPath("$.facets[?(@.status == 'PAID')].count").value(0));
+    }
+
     @Test
     @DisplayName("Should remove line item from draft invoice")
     void shouldRemoveLineItemFromDraftInvoice() throws Exception {
@@ -0,0 +1,126 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.infrastructure.invoice.InvoiceJsonCache;
+import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Integration tests for serving settled invoices from the JSON cache */
+@DisplayName("Invoice JSON Cache Integration Tests")
+class InvoiceJsonCacheIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private EntityManager entityManager;
+
+    private MockHttpServletResponse getGzipped(Invoice invoice) throws Exception {
+        return mockMvc.perform(
+                        get("/api/invoices/" + invoice.getId())
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(
+                        header().stringValues(
+                                        HttpHeaders.VARY,
+                                        hasItem(containsString(HttpHeaders.ACCEPT_ENCODING))))
+                .andReturn()
+                .getResponse();
+    }
+
+    @Test
+    @DisplayName("Should serve a paid invoice's cached JSON gzipped to clients that accept it")
+    void shouldServeCachedInvoiceGzipped() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().name("Settled Ltd").buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildPaidAndSave();
+        String rendered =
+                mockMvc.perform(get("/api/invoices/" + invoice.getId()))
+                        .andExpect(status().isOk())
+                        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        // When
+        MockHttpServletResponse cached = getGzipped(invoice);
+
+        // Then
+        assertThat(cached.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(cached.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(
+                        new String(
+                                InvoiceJsonCache.gunzip(cached.getContentAsByteArray()),
+                                StandardCharsets.UTF_8))
+                .isEqualTo(rendered)
+                .contains("\"customerName\":\"Settled Ltd\"");
+
+        // Clients that refuse gzip get the same JSON inflated
+        mockMvc.perform(
+                        get("/api/invoices/" + invoice.getId())
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(rendered));
+    }
+
+    @Test
+    @DisplayName("Should re-render a cached invoice once its customer is renamed")
+    void shouldRefreshAfterCustomerRename() throws Exception {
+        // Given
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Old Name")
+                        .email("rename@example.com")
+                        .buildAndSave();
+        Invoice invoice = testDataBuilder.invoice().customer(customer).buildPaidAndSave();
+        getGzipped(invoice);
+        assertThat(getGzipped(invoice).getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        // When
+        mockMvc.perform(
+                        put("/api/customers/" + customer.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        "{\"name\": \"New Name\", \"email\":"
+                                                + " \"rename@example.com\", \"phone\":"
+                                                + " \"555-0100\", \"address\": \"1 Main St\"}"))
+                .andExpect(status().isOk());
+        MockHttpServletResponse refreshed = getGzipped(invoice);
+
+        // Then
+        assertThat(refreshed.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(refreshed.getContentAsString()).contains("\"customerName\":\"New Name\"");
+        assertThat(getGzipped(invoice).getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    @DisplayName("Should cache cancelled invoices but never open ones")
+    void shouldCacheOnlySettledInvoices() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().buildAndSave();
+        Invoice draft = testDataBuilder.invoice().customer(customer).buildWithLineItemsAndSave();
+        Invoice cancelled = testDataBuilder.invoice().customer(customer).buildWithLineItems();
+        cancelled.cancel();
+        cancelled = invoiceRepository.save(cancelled);
+        entityManager.flush();
+
+        // When
+        getGzipped(draft);
+        getGzipped(cancelled);
+
+        // Then
+        assertThat(getGzipped(draft).getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(getGzipped(cancelled).getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+}
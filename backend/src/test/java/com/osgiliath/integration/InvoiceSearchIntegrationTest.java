@@ -0,0 +1,137 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.domain.shared.Money;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Integration tests for invoice full-text search Tests matching, ranking, paging and index use */
+@DisplayName("Invoice Search Integration Tests")
+class InvoiceSearchIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private ObjectMapper objectMapper;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private EntityManager entityManager;
+
+    private Invoice invoice(Customer customer, String number, String... descriptions) {
+        Invoice invoice =
+                testDataBuilder.invoice().customer(customer).invoiceNumber(number).build();
+        for (String description : descriptions) {
+            invoice.addLineItem(description, BigDecimal.ONE, Money.of(10.0));
+        }
+        return invoiceRepository.save(invoice);
+    }
+
+    private JsonNode search(String q, String... params) throws Exception {
+        var request = get("/api/invoices/search").param("q", q);
+        for (int i = 0; i < params.length; i += 2) {
+            request.param(params[i], params[i + 1]);
+        }
+        String body =
+                mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    @DisplayName("Should find invoices by number, customer name and line item description")
+    void shouldSearchAcrossSources() throws Exception {
+        // Given
+        Customer acme =
+                testDataBuilder
+                        .customer()
+                        .name("Acme Rockets")
+                        .email("ap@acme.example")
+                        .buildAndSave();
+        Customer other =
+                testDataBuilder.customer().name("Globex").email("ap@globex.example").buildAndSave();
+        Invoice byDescription = invoice(other, "INV-20250101-00001", "Rocket <fuel> refill");
+        Invoice byCustomer = invoice(acme, "INV-20250101-00002", "Consulting");
+        Invoice byNumber = invoice(other, "INV-20250315-00077", "Consulting");
+        entityManager.flush();
+
+        // When
+        JsonNode rocket = search("rocket");
+        JsonNode number = search("20250315-000");
+
+        // Then: the customer name (weight B) outranks a line item (weight D)
+        assertThat(rocket.get("results").findValuesAsText("invoiceId"))
+                .containsExactly(byCustomer.getId().toString(), byDescription.getId().toString());
+        assertThat(rocket.get("results").get(1).get("snippet").asText())
+                .isEqualTo("<mark>Rocket</mark> &lt;fuel&gt; refill");
+        assertThat(rocket.get("results").get(0).get("customerName").asText())
+                .isEqualTo("Acme Rockets");
+        assertThat(number.get("results").findValuesAsText("invoiceId"))
+                .containsExactly(byNumber.getId().toString());
+        assertThat(search("rocket fuel").get("results").findValuesAsText("invoiceId"))
+                .containsExactly(byDescription.getId().toString());
+        assertThat(search("zeppelin").get("results")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through results with the cursor")
+    void shouldPageWithCursor() throws Exception {
+        // Given
+        Customer customer = testDataBuilder.customer().name("Initech").buildAndSave();
+        for (int i = 1; i <= 5; i++) {
+            invoice(customer, "INV-20250601-0000" + i, "Printer maintenance");
+        }
+        entityManager.flush();
+
+        // When
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page =
+                    cursor == null
+                            ? search("printer", "limit", "2")
+                            : search("printer", "limit", "2", "cursor", cursor);
+            seen.addAll(page.get("results").findValuesAsText("invoiceId"));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        // Then
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+        mockMvc.perform(get("/api/invoices/search").param("q", "x").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should read line items only through the full-text index")
+    void shouldUseSearchIndexes() {
+        // Given
+        // Tiny tables are always cheapest to scan; take that option away to see the index plan
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        // When
+        List<String> plan =
+                jdbcTemplate.queryForList(
+                        "EXPLAIN SELECT li.invoice_id FROM line_items li "
+                                + "WHERE li.search_vector @@ to_tsquery('simple', 'printer:*')",
+                        String.class);
+
+        // Then
+        assertThat(String.join("\n", plan)).contains("idx_line_item_search");
+    }
+}
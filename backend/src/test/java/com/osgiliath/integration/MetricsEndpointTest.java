@@ -0,0 +1,42 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+
+/** Integration tests for the Prometheus metrics endpoint */
+@DisplayName("Metrics Endpoint Integration Tests")
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTest extends BaseIntegrationTest {
+
+    @Test
+    @DisplayName("Should expose handler, endpoint, pool and statement metrics in Prometheus format")
+    void shouldExposePrometheusMetrics() throws Exception {
+        // Given - one request through controller, mediator and Hibernate
+        testDataBuilder.customer().buildAndSave();
+        mockMvc.perform(get("/api/customers")).andExpect(status().isOk());
+
+        // When
+        String body =
+                mockMvc.perform(get("/api/actuator/prometheus"))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        // Then
+        assertThat(body)
+                .contains("cqrs_requests_seconds_bucket{")
+                .contains("name=\"ListCustomersQuery\"")
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("hikaricp_connections_pending")
+                .contains("hibernate_statements_per_request_statements_bucket{")
+                .contains("uri=\"/customers\"")
+                .contains("executor_queued_tasks");
+    }
+}
@@ -0,0 +1,111 @@
+package com.osgiliath.integration;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.domain.customer.Customer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Integration tests for count-free list pagination and the requested total modes */
+@DisplayName("Pagination Integration Tests")
+class PaginationIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private EntityManager entityManager;
+
+    private Customer customers(int count) {
+        Customer first = null;
+        for (int i = 0; i < count; i++) {
+            Customer customer =
+                    testDataBuilder
+                            .customer()
+                            .name("Customer " + i)
+                            .email("customer" + i + "@paging.example")
+                            .buildAndSave();
+            first = first == null ? customer : first;
+        }
+        return first;
+    }
+
+    @Test
+    @DisplayName("Should report next page and totals for invoices in headers")
+    void shouldPageInvoices() throws Exception {
+        // Given
+        Customer customer = customers(1);
+        for (int i = 0; i < 5; i++) {
+            testDataBuilder
+                    .invoice()
+                    .customer(customer)
+                    .invoiceNumber("INV-20250101-0000" + i)
+                    .buildAndSave();
+        }
+        entityManager.flush();
+
+        // When & Then
+        mockMvc.perform(get("/api/invoices").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().doesNotExist("X-Total-Count"));
+        mockMvc.perform(get("/api/invoices").param("size", "2").param("page", "2"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("X-Has-Next", "false"));
+        mockMvc.perform(get("/api/invoices").param("size", "2").param("total", "EXACT"))
+                .andExpect(header().string("X-Total-Count", "5"));
+        mockMvc.perform(
+                        get("/api/invoices")
+                                .param("size", "2")
+                                .param("status", "PAID")
+                                .param("total", "ESTIMATED"))
+                .andExpect(jsonPath("$", hasSize(0)))
+                .andExpect(header().string("X-Total-Count", "0"));
+    }
+
+    @Test
+    @DisplayName("Should return a slice without totals unless one is requested")
+    void shouldSliceCustomers() throws Exception {
+        // Given
+        customers(5);
+        entityManager.flush();
+
+        // When & Then
+        mockMvc.perform(get("/api/customers").param("size", "2").param("total", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        mockMvc.perform(get("/api/customers").param("size", "2"))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.totalPages").value(3));
+        mockMvc.perform(get("/api/customers").param("size", "2").param("search", "customer 4"))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("Should estimate unfiltered totals from planner statistics")
+    void shouldEstimateTotals() throws Exception {
+        // Given: ANALYZE counts rows this transaction inserted
+        customers(30);
+        entityManager.flush();
+        jdbcTemplate.execute("ANALYZE customers");
+
+        // When & Then
+        mockMvc.perform(get("/api/customers").param("size", "10").param("total", "ESTIMATED"))
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.totalElements").value(30));
+        mockMvc.perform(
+                        get("/api/customers")
+                                .param("size", "10")
+                                .param("search", "customer 1")
+                                .param("total", "ESTIMATED"))
+                .andExpect(jsonPath("$.totalElements").value(11));
+    }
+}
@@ -0,0 +1,61 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.infrastructure.ratelimit.PostgresTokenBucketLimiter;
+import com.osgiliath.infrastructure.ratelimit.RateLimitDecision;
+import com.osgiliath.infrastructure.ratelimit.RateLimitQuota;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Integration tests for the shared, Postgres-backed token bucket store */
+@DisplayName("Postgres Token Bucket Limiter Integration Tests")
+class PostgresTokenBucketLimiterTest extends BaseIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private PostgresTokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Rolled back with the test transaction
+        jdbcTemplate.execute(
+                new ClassPathResource("db/postgres/rate-limit-buckets.sql")
+                        .getContentAsString(StandardCharsets.UTF_8));
+        limiter = new PostgresTokenBucketLimiter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should grant up to capacity per key and then reject")
+    void shouldGrantUpToCapacity() {
+        // Given - effectively no refill during the test
+        RateLimitQuota quota = new RateLimitQuota(3, 0.001);
+
+        // When
+        RateLimitDecision first = limiter.tryConsume("READS:user:alice", quota);
+        limiter.tryConsume("READS:user:alice", quota);
+        RateLimitDecision third = limiter.tryConsume("READS:user:alice", quota);
+        RateLimitDecision fourth = limiter.tryConsume("READS:user:alice", quota);
+        RateLimitDecision otherUser = limiter.tryConsume("READS:user:bob", quota);
+
+        // Then
+        assertThat(first.isAllowed()).isTrue();
+        assertThat(first.getRemaining()).isEqualTo(2);
+        assertThat(third.isAllowed()).isTrue();
+        assertThat(fourth.isAllowed()).isFalse();
+        assertThat(fourth.getRemaining()).isZero();
+        assertThat(otherUser.isAllowed()).isTrue();
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT tokens FROM rate_limit_buckets WHERE bucket_key = ?",
+                                Double.class,
+                                "READS:user:alice"))
+                .isBetween(0.0, 0.1);
+    }
+}
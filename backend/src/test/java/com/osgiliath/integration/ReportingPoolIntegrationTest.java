@@ -0,0 +1,68 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.infrastructure.datasource.ReportingBulkhead;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the reporting connection pool. Runs outside the test transaction, since a
+ * connection already bound to the thread cannot be re-routed.
+ */
+@DisplayName("Reporting Pool Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportingPoolIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private ReportingBulkhead reportingBulkhead;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("reportingDataSource")
+    private HikariDataSource reportingDataSource;
+
+    @Test
+    @DisplayName("Should run reporting work on the reporting pool with its statement timeout")
+    void shouldUseReportingPoolSettings() {
+        // When
+        String reportingTimeout =
+                reportingBulkhead.call(
+                        () -> jdbcTemplate.queryForObject("SHOW statement_timeout", String.class));
+        String oltpTimeout = jdbcTemplate.queryForObject("SHOW statement_timeout", String.class);
+
+        // Then
+        assertThat(reportingTimeout).isEqualTo("30s");
+        assertThat(oltpTimeout).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("Should serve analytics endpoints from the reporting pool with its own metrics")
+    void shouldServeAnalyticsFromReportingPool() throws Exception {
+        // When
+        mockMvc.perform(get("/api/analytics/top-customers")).andExpect(status().isOk());
+
+        // Then
+        assertThat(reportingDataSource.getHikariPoolMXBean().getTotalConnections())
+                .isGreaterThan(0);
+        assertThat(
+                        meterRegistry
+                                .get("hikaricp.connections.acquire")
+                                .tag("pool", "reporting")
+                                .timer()
+                                .count())
+                .isGreaterThan(0);
+    }
+}
@@ -0,0 +1,351 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.RequestBudget;
+import com.osgiliath.application.invoice.ArchiveSettledInvoicesCommand;
+import com.osgiliath.application.invoice.ArchiveSettledInvoicesHandler;
+import com.osgiliath.domain.customer.Customer;
+import com.osgiliath.domain.invoice.Invoice;
+import com.osgiliath.infrastructure.seed.SyntheticDataGenerator;
+import com.osgiliath.infrastructure.seed.SyntheticDataSpec;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * SQL statement and latency budgets per endpoint. A failure here means a change added queries to a
+ * request (typically an N+1 lookup); fix the query rather than raising the budget.
+ */
+@DisplayName("Request Budget Integration Tests")
+class RequestBudgetTest extends BaseIntegrationTest {
+
+    private static final Duration READ_BUDGET = Duration.ofMillis(1500);
+    private static final Duration WRITE_BUDGET = Duration.ofMillis(2000);
+
+    @Autowired private SyntheticDataGenerator generator;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private EntityManager entityManager;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Autowired private ArchiveSettledInvoicesHandler archiveHandler;
+
+    private RequestBudget budget;
+    private UUID invoiceId;
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        budget = new RequestBudget(mockMvc, entityManager);
+        generator.generate(
+                SyntheticDataSpec.builder()
+                        .seed(3)
+                        .customers(20)
+                        .invoices(120)
+                        .asOf(LocalDate.now())
+                        .build());
+        invoiceId =
+                jdbcTemplate.queryForObject(
+                        "SELECT id FROM invoices WHERE status = 'PAID' LIMIT 1", UUID.class);
+        customerId = jdbcTemplate.queryForObject("SELECT id FROM customers LIMIT 1", UUID.class);
+    }
+
+    /** A draft invoice with line items, so totals are recalculated on change */
+    private UUID draftInvoiceId() {
+        return jdbcTemplate.queryForObject(
+                "SELECT i.id FROM invoices i WHERE i.status = 'DRAFT'"
+                        + " AND EXISTS (SELECT 1 FROM line_items li WHERE li.invoice_id = i.id)"
+                        + " LIMIT 1",
+                UUID.class);
+    }
+
+    @Test
+    @DisplayName("GET /invoices?size=50")
+    void listInvoices() throws Exception {
+        // Slice of IDs (one past the page, no count) + invoices with line items + their customers
+        budget.assertWithin(get("/api/invoices").param("size", "50"), 3, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /invoices?size=50&facets=true")
+    void listInvoicesWithFacets() throws Exception {
+        // The list's three statements + one grouped facet query, which also yields the total
+        budget.assertWithin(
+                get("/api/invoices").param("size", "50").param("facets", "true"), 4, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id}")
+    void getInvoice() throws Exception {
+        budget.assertWithin(get("/api/invoices/" + invoiceId), 2, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id} from the JSON cache")
+    void getCachedInvoice() throws Exception {
+        String url = "/api/invoices/" + invoiceId;
+        budget.measure(get(url));
+
+        // The invoice is paid, so only its and its customer's versions are read
+        budget.assertWithin(get(url), 1, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id} revalidated")
+    void getInvoiceNotModified() throws Exception {
+        String url = "/api/invoices/" + invoiceId;
+        String etag = budget.measure(get(url)).result().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Only the version column, by primary key; the invoice is never loaded
+        assertNotModifiedWithin(get(url).header(HttpHeaders.IF_NONE_MATCH, etag), 1);
+    }
+
+    @Test
+    @DisplayName("GET /invoices?size=50 revalidated")
+    void listInvoicesNotModified() throws Exception {
+        String etag =
+                budget.measure(get("/api/invoices").param("size", "50"))
+                        .result()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+
+        // The ID and version slice alone; no invoices, line items or customers
+        assertNotModifiedWithin(
+                get("/api/invoices").param("size", "50").header(HttpHeaders.IF_NONE_MATCH, etag),
+                1);
+    }
+
+    private void assertNotModifiedWithin(RequestBuilder request, int maxStatements)
+            throws Exception {
+        RequestBudget.Cost cost = budget.measure(request);
+        assertThat(cost.result().getResponse().getStatus())
+                .isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(cost.statements()).isLessThanOrEqualTo(maxStatements);
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id}/detail")
+    void getInvoiceDetail() throws Exception {
+        Invoice invoice = committed(() -> paidInvoiceWithPayment(LocalDate.now()));
+        try {
+            // Invoice with line items here, payments and customer on read threads
+            budget.assertWithin(
+                    get("/api/invoices/" + invoice.getId() + "/detail"), 3, READ_BUDGET);
+        } finally {
+            committed(() -> deleteInvoiceAndCustomer(invoice));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id}/detail for an archived invoice")
+    void getArchivedInvoiceDetail() throws Exception {
+        Invoice invoice = committed(() -> paidInvoiceWithPayment(LocalDate.now().minusYears(3)));
+        committed(
+                () ->
+                        archiveHandler.handle(
+                                new ArchiveSettledInvoicesCommand(
+                                        LocalDateTime.now().plusDays(1), 100)));
+        try {
+            // One more for the miss on the active invoices before the archive is read
+            budget.assertWithin(
+                    get("/api/invoices/" + invoice.getId() + "/detail"), 4, READ_BUDGET);
+        } finally {
+            committed(() -> deleteInvoiceAndCustomer(invoice));
+        }
+    }
+
+    /**
+     * The detail view reads on other connections, which cannot see the test transaction's rows, so
+     * its data is committed separately (and removed again by the test)
+     */
+    private <T> T committed(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template.execute(status -> work.get());
+    }
+
+    private Invoice paidInvoiceWithPayment(LocalDate issueDate) {
+        Customer customer =
+                testDataBuilder
+                        .customer()
+                        .name("Detail Budget Customer")
+                        .email("detail-budget@budget.example")
+                        .buildAndSave();
+        Invoice invoice =
+                testDataBuilder
+                        .invoice()
+                        .customer(customer)
+                        .issueDate(issueDate)
+                        .dueDate(issueDate.plusDays(30))
+                        .buildPaidAndSave();
+        testDataBuilder.payment().invoice(invoice).amount(25.0).buildAndSave();
+        return invoice;
+    }
+
+    private int deleteInvoiceAndCustomer(Invoice invoice) {
+        UUID id = invoice.getId();
+        jdbcTemplate.update("DELETE FROM payments WHERE invoice_id = ?", id);
+        jdbcTemplate.update("DELETE FROM line_items WHERE invoice_id = ?", id);
+        jdbcTemplate.update("DELETE FROM invoices WHERE id = ?", id);
+        jdbcTemplate.update("DELETE FROM line_items_archive WHERE invoice_id = ?", id);
+        jdbcTemplate.update("DELETE FROM invoices_archive WHERE id = ?", id);
+        return jdbcTemplate.update("DELETE FROM customers WHERE id = ?", invoice.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id}/payments")
+    void listPaymentsForInvoice() throws Exception {
+        // Invoice existence check + payments
+        budget.assertWithin(get("/api/invoices/" + invoiceId + "/payments"), 2, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id}/balance")
+    void getInvoiceBalance() throws Exception {
+        // The invoice with its line items; the balance is derived from it
+        budget.assertWithin(get("/api/invoices/" + invoiceId + "/balance"), 1, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("POST /invoices/{id}/payments")
+    void recordPayment() throws Exception {
+        UUID openInvoiceId =
+                jdbcTemplate.queryForObject(
+                        "SELECT id FROM invoices WHERE status IN ('SENT', 'OVERDUE') LIMIT 1",
+                        UUID.class);
+
+        // Load invoice + insert payment + update invoice balance + append the domain event(s),
+        // plus a domain_events_seq fetch once every 50 events. The response is built from the
+        // saved payment; nothing is read back.
+        budget.assertWithin(
+                post("/api/invoices/" + openInvoiceId + "/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                "{\"amount\": 1.00, \"paymentDate\": \""
+                                        + LocalDate.now()
+                                        + "\", \"paymentMethod\": \"BANK_TRANSFER\"}"),
+                5,
+                WRITE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("POST /invoices")
+    void createInvoice() throws Exception {
+        // Check customer + next invoice number + inserts; the response is mapped from the saved
+        // invoice and the customer already loaded, not read back (was 8)
+        budget.assertWithin(
+                post("/api/invoices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                "{\"customerId\": \""
+                                        + customerId
+                                        + "\", \"issueDate\": \""
+                                        + LocalDate.now()
+                                        + "\", \"dueDate\": \""
+                                        + LocalDate.now().plusDays(30)
+                                        + "\", \"lineItems\": [{\"description\": \"Audit\","
+                                        + " \"quantity\": 2, \"unitPrice\": 100.00}]}"),
+                7,
+                WRITE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("PUT /invoices/{id}")
+    void updateInvoice() throws Exception {
+        // Load invoice + customer name for the response + update; no re-read (was 4)
+        budget.assertWithin(
+                put("/api/invoices/" + draftInvoiceId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                "{\"issueDate\": \""
+                                        + LocalDate.now()
+                                        + "\", \"dueDate\": \""
+                                        + LocalDate.now().plusDays(45)
+                                        + "\"}"),
+                3,
+                WRITE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("POST /invoices/{id}/line-items")
+    void addLineItem() throws Exception {
+        // The new line item is returned as saved, not found again in a re-read invoice (was 4)
+        budget.assertWithin(
+                post("/api/invoices/" + draftInvoiceId() + "/line-items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                "{\"description\": \"Audit\", \"quantity\": 1,"
+                                        + " \"unitPrice\": 50.00}"),
+                3,
+                WRITE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("POST /invoices/{id}/send")
+    void sendInvoice() throws Exception {
+        // Load invoice + customer name + update + domain event; no re-read (was 5)
+        budget.assertWithin(post("/api/invoices/" + draftInvoiceId() + "/send"), 4, WRITE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("POST /invoices/{id}/mark-paid")
+    void markInvoiceAsPaid() throws Exception {
+        UUID sentInvoiceId =
+                jdbcTemplate.queryForObject(
+                        "SELECT id FROM invoices WHERE status = 'SENT' LIMIT 1", UUID.class);
+
+        // Load invoice + customer name + update + domain event; no re-read (was 5)
+        budget.assertWithin(post("/api/invoices/" + sentInvoiceId + "/mark-paid"), 4, WRITE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /customers?size=50")
+    void listCustomers() throws Exception {
+        // One short slice; its total needs no count query
+        budget.assertWithin(get("/api/customers").param("size", "50"), 1, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /customers/{id}")
+    void getCustomer() throws Exception {
+        budget.assertWithin(get("/api/customers/" + customerId), 1, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /analytics/status-breakdown")
+    void statusBreakdown() throws Exception {
+        budget.assertWithin(get("/api/analytics/status-breakdown"), 2, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /analytics/revenue-over-time")
+    void revenueOverTime() throws Exception {
+        budget.assertWithin(get("/api/analytics/revenue-over-time"), 2, READ_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /analytics/top-customers")
+    void topCustomers() throws Exception {
+        budget.assertWithin(get("/api/analytics/top-customers"), 1, READ_BUDGET);
+    }
+}
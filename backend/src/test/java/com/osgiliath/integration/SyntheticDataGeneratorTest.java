@@ -0,0 +1,99 @@
+package com.osgiliath.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.osgiliath.BaseIntegrationTest;
+import com.osgiliath.infrastructure.seed.SyntheticDataGenerator;
+import com.osgiliath.infrastructure.seed.SyntheticDataSpec;
+import com.osgiliath.infrastructure.seed.SyntheticDataSummary;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Integration tests for SyntheticDataGenerator Tests bulk loading against a real database */
+@DisplayName("Synthetic Data Generator Integration Tests")
+class SyntheticDataGeneratorTest extends BaseIntegrationTest {
+
+    @Autowired private SyntheticDataGenerator generator;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private static SyntheticDataSpec spec(long seed) {
+        return SyntheticDataSpec.builder()
+                .seed(seed)
+                .customers(25)
+                .invoices(300)
+                .asOf(LocalDate.of(2026, 6, 30))
+                .batchSize(50)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should load the requested rows with consistent totals and balances")
+    void shouldLoadConsistentData() {
+        // When
+        SyntheticDataSummary summary = generator.generate(spec(7));
+
+        // Then
+        assertThat(summary.getCustomers()).isEqualTo(25);
+        assertThat(summary.getInvoices()).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM invoices")).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM line_items")).isEqualTo(summary.getLineItems());
+        assertThat(count("SELECT COUNT(*) FROM payments")).isEqualTo(summary.getPayments());
+        assertThat(count("SELECT COUNT(DISTINCT status) FROM invoices")).isGreaterThanOrEqualTo(3);
+
+        // Subtotal is the sum of line totals and total adds 10% tax
+        assertThat(
+                        count(
+                                "SELECT COUNT(*) FROM invoices i WHERE i.subtotal <> (SELECT"
+                                        + " SUM(li.line_total) FROM line_items li WHERE"
+                                        + " li.invoice_id = i.id) OR i.total_amount <> i.subtotal"
+                                        + " + ROUND(i.subtotal * 0.10, 2)"))
+                .isZero();
+        // Balance due is what payments left open, and PAID means nothing is left
+        assertThat(
+                        count(
+                                "SELECT COUNT(*) FROM invoices i WHERE i.status <> 'DRAFT' AND"
+                                        + " i.balance_due <> i.total_amount - COALESCE((SELECT"
+                                        + " SUM(p.amount) FROM payments p WHERE p.invoice_id ="
+                                        + " i.id), 0)"))
+                .isZero();
+        assertThat(
+                        count(
+                                "SELECT COUNT(*) FROM invoices WHERE status = 'PAID' AND"
+                                        + " balance_due <> 0"))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should generate identical data for the same seed")
+    void shouldBeDeterministic() {
+        // Given
+        generator.generate(spec(11));
+        List<String> firstRun = snapshot();
+        jdbcTemplate.update("DELETE FROM payments");
+        jdbcTemplate.update("DELETE FROM line_items");
+        jdbcTemplate.update("DELETE FROM invoices");
+        jdbcTemplate.update("DELETE FROM customers");
+
+        // When
+        generator.generate(spec(11));
+
+        // Then
+        assertThat(snapshot()).isEqualTo(firstRun);
+    }
+
+    private List<String> snapshot() {
+        return jdbcTemplate.queryForList(
+                "SELECT CONCAT(id, '|', invoice_number, '|', status, '|', total_amount, '|',"
+                        + " balance_due) FROM invoices ORDER BY invoice_number",
+                String.class);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}